@@ -0,0 +1,51 @@
+package com.tencentcloud.spring.boot;
+
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.tencentcloud.spring.boot.dns.TencentCloudCachingDns;
+import com.tencentcloud.spring.boot.dns.TencentCloudDnsMetrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import okhttp3.Dns;
+
+/**
+ * 带缓存的 DNS 解析：注册为 okhttp3.Dns Bean 后由 Tim 等 HTTP 客户端使用，应用也可自行注册 okhttp3.Dns Bean 替换
+ */
+@Configuration
+@AutoConfigureAfter(name = {
+		"org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration",
+		"org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration" })
+@ConditionalOnClass(Dns.class)
+@ConditionalOnProperty(prefix = TencentCloudProperties.PREFIX + ".dns", value = "enabled", havingValue = "true")
+@EnableConfigurationProperties(TencentCloudProperties.class)
+public class TencentCloudDnsAutoConfiguration {
+
+	@Bean
+	@ConditionalOnMissingBean(Dns.class)
+	public TencentCloudCachingDns tencentCloudDns(TencentCloudProperties cloudProperties) {
+		return new TencentCloudCachingDns(cloudProperties.getDns());
+	}
+
+	@Configuration
+	@ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+	@ConditionalOnBean(type = "io.micrometer.core.instrument.MeterRegistry")
+	static class TencentCloudDnsMetricsConfiguration {
+
+		@Bean
+		@ConditionalOnBean(TencentCloudCachingDns.class)
+		public TencentCloudDnsMetrics tencentCloudDnsMetrics(TencentCloudCachingDns tencentCloudDns, MeterRegistry meterRegistry) {
+			TencentCloudDnsMetrics metrics = new TencentCloudDnsMetrics(meterRegistry);
+			metrics.bindTo(tencentCloudDns);
+			return metrics;
+		}
+
+	}
+
+}
@@ -15,6 +15,8 @@
  */
 package com.tencentcloud.spring.boot;
 
+import java.time.Duration;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 import lombok.Data;
@@ -35,5 +37,35 @@ public class TencentCloudProperties {
   	private String secretKey;
     
     private boolean debug;
+    
+	/**
+	 * DNS 缓存配置
+	 */
+	private Dns dns = new Dns();
+	
+	@Data
+	public static class Dns {
+		
+		/**
+		 * 是否为 Tim 等 HTTP 客户端启用带缓存的 DNS 解析
+		 */
+		private boolean enabled = false;
+		
+		/**
+		 * 解析结果的缓存时长（JDK 解析接口不返回记录的 TTL，按该时长缓存）
+		 */
+		private Duration ttl = Duration.ofSeconds(60);
+		
+		/**
+		 * 缓存时长过去该比例后在后台刷新解析结果，取值 0 ~ 1
+		 */
+		private double refreshRatio = 0.75;
+		
+		/**
+		 * 重新解析失败时，过期的解析结果最多还可使用的时长
+		 */
+		private Duration maxStale = Duration.ofMinutes(10);
+		
+	}
 	
 }
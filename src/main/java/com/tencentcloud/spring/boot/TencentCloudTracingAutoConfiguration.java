@@ -0,0 +1,45 @@
+package com.tencentcloud.spring.boot;
+
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.tencentcloud.spring.boot.tracing.OpenTelemetryTencentCloudTracer;
+import com.tencentcloud.spring.boot.tracing.OpenTelemetryTimRequestListener;
+import com.tencentcloud.spring.boot.tracing.TencentCloudTracer;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.OpenTelemetry;
+
+/**
+ * OpenTelemetry 链路追踪：存在 OpenTelemetry 依赖时为 Tim、Live、Trtc、Sms 调用创建 Span，
+ * 优先使用容器中的 OpenTelemetry 实例，否则在每次调用时获取 GlobalOpenTelemetry，
+ * 避免启动阶段提前获取导致 GlobalOpenTelemetry 被固定为无操作实现
+ */
+@Configuration
+@ConditionalOnClass(name = "io.opentelemetry.api.OpenTelemetry")
+@ConditionalOnProperty(prefix = "tencent.cloud.tracing", value = "enabled", havingValue = "true", matchIfMissing = true)
+public class TencentCloudTracingAutoConfiguration {
+
+	@Bean
+	@ConditionalOnMissingBean
+	public TencentCloudTracer tencentCloudTracer(ObjectProvider<OpenTelemetry> openTelemetryProvider) {
+		return new OpenTelemetryTencentCloudTracer(openTelemetry(openTelemetryProvider));
+	}
+
+	@Bean
+	public OpenTelemetryTimRequestListener openTelemetryTimRequestListener(ObjectProvider<OpenTelemetry> openTelemetryProvider) {
+		return new OpenTelemetryTimRequestListener(openTelemetry(openTelemetryProvider));
+	}
+
+	private static Supplier<OpenTelemetry> openTelemetry(ObjectProvider<OpenTelemetry> openTelemetryProvider) {
+		OpenTelemetry openTelemetry = openTelemetryProvider.getIfAvailable();
+		return openTelemetry != null ? () -> openTelemetry : GlobalOpenTelemetry::get;
+	}
+
+}
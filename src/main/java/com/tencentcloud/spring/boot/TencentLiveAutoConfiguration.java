@@ -1,5 +1,6 @@
 package com.tencentcloud.spring.boot;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -9,6 +10,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.util.StringUtils;
 
 import com.tencentcloud.spring.boot.live.TencentLiveTemplate;
+import com.tencentcloud.spring.boot.tracing.TencentCloudTracer;
 import com.tencentcloudapi.common.Credential;
 import com.tencentcloudapi.common.profile.ClientProfile;
 import com.tencentcloudapi.live.v20180801.LiveClient;
@@ -47,8 +49,11 @@ public class TencentLiveAutoConfiguration {
 	
 	@Bean
 	@ConditionalOnBean
-	public TencentLiveTemplate tencentLiveTemplate(LiveClient liveClient, TencentLiveProperties properties) {
-		return new TencentLiveTemplate(liveClient, properties);
+	public TencentLiveTemplate tencentLiveTemplate(LiveClient liveClient, TencentLiveProperties properties,
+			ObjectProvider<TencentCloudTracer> tracerProvider) {
+		TencentLiveTemplate template = new TencentLiveTemplate(liveClient, properties);
+		tracerProvider.ifAvailable(template::setTracer);
+		return template;
 	}
 
 }
\ No newline at end of file
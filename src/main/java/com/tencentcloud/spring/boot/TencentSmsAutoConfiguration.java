@@ -1,5 +1,6 @@
 package com.tencentcloud.spring.boot;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -9,6 +10,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.util.StringUtils;
 
 import com.tencentcloud.spring.boot.sms.TencentSmsTemplate;
+import com.tencentcloud.spring.boot.tracing.TencentCloudTracer;
 import com.tencentcloudapi.common.Credential;
 import com.tencentcloudapi.common.profile.ClientProfile;
 import com.tencentcloudapi.sms.v20190711.SmsClient;
@@ -45,8 +47,11 @@ public class TencentSmsAutoConfiguration {
 	
 	@Bean
 	@ConditionalOnBean
-	public TencentSmsTemplate tencentSmsTemplate(SmsClient smsClient, TencentSmsProperties properties) {
-		return new TencentSmsTemplate(smsClient, properties);
+	public TencentSmsTemplate tencentSmsTemplate(SmsClient smsClient, TencentSmsProperties properties,
+			ObjectProvider<TencentCloudTracer> tracerProvider) {
+		TencentSmsTemplate template = new TencentSmsTemplate(smsClient, properties);
+		tracerProvider.ifAvailable(template::setTracer);
+		return template;
 	}
 
 }
\ No newline at end of file
@@ -1,10 +1,30 @@
 package com.tencentcloud.spring.boot;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tencentcloud.spring.boot.tim.TencentTimReactiveTemplate;
 import com.tencentcloud.spring.boot.tim.TencentTimTemplate;
+import com.tencentcloud.spring.boot.tim.TimMetricsRequestListener;
+import com.tencentcloud.spring.boot.tim.TimRequestListener;
+import com.tencentcloud.spring.boot.tim.TimRequestLogger;
+import com.tencentcloud.spring.boot.tim.TimTemplateMetrics;
 import com.tencentcloud.spring.boot.tim.TimUserIdProvider;
+import com.tencentcloud.spring.boot.tim.TimWarmer;
 import com.tencentyun.TLSSigAPIv2;
+import io.micrometer.core.instrument.MeterRegistry;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.Dns;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -12,6 +32,10 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
+@AutoConfigureAfter(value = TencentCloudDnsAutoConfiguration.class, name = {
+		"org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration",
+		"org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration",
+		"org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration" })
 @ConditionalOnClass(TLSSigAPIv2.class)
 @ConditionalOnProperty(prefix = TencentTimProperties.PREFIX, value = "enabled", havingValue = "true")
 @EnableConfigurationProperties({ TencentCloudProperties.class, TencentTimProperties.class })
@@ -21,13 +45,91 @@ public class TencentTimAutoConfiguration {
 	public TencentTimTemplate tencentTimTemplate(
 			TencentTimProperties timProperties,
 			ObjectProvider<OkHttpClient> okhttp3ClientProvider,
-			ObjectProvider<TimUserIdProvider> timUserIdProvider) {
+			ObjectProvider<Dns> dnsProvider,
+			ObjectProvider<ObjectMapper> objectMapperProvider,
+			ObjectProvider<TimUserIdProvider> timUserIdProvider,
+			ObjectProvider<TimRequestLogger> timRequestLoggerProvider,
+			ObjectProvider<TimRequestListener> timRequestListenerProvider,
+			@Qualifier(TencentTimTemplate.CALLBACK_EXECUTOR_BEAN_NAME) ObjectProvider<Executor> timCallbackExecutorProvider) {
 		
-		OkHttpClient okhttp3Client = okhttp3ClientProvider.getIfAvailable(() -> new OkHttpClient.Builder().build());
+		OkHttpClient okhttp3Client = this.timHttpClient(timProperties.getHttp(), okhttp3ClientProvider.getIfAvailable(),
+				dnsProvider.getIfAvailable());
 		
-		return new TencentTimTemplate(timProperties, okhttp3Client, timUserIdProvider.getIfAvailable(() -> {
+		TencentTimTemplate template = new TencentTimTemplate(timProperties, okhttp3Client, timUserIdProvider.getIfAvailable(() -> {
 			return new TimUserIdProvider() {};
 		}));
+		if (timProperties.getJson().isReuseObjectMapper()) {
+			objectMapperProvider.ifAvailable(template::setObjectMapper);
+		}
+		timRequestLoggerProvider.ifAvailable(template::setRequestLogger);
+		timRequestListenerProvider.orderedStream().forEach(template::addRequestListener);
+		timCallbackExecutorProvider.ifAvailable(template::setCallbackExecutor);
+		return template;
+	}
+
+	@Bean
+	@ConditionalOnProperty(prefix = TencentTimProperties.PREFIX, value = "warmup.enabled", havingValue = "true")
+	public TimWarmer timWarmer(TencentTimTemplate tencentTimTemplate, TencentTimProperties timProperties) {
+		return new TimWarmer(tencentTimTemplate, timProperties.getWarmup());
+	}
+
+	/*
+	 * Tim 专用客户端：复用应用已有客户端的拦截器等配置，但使用独立的调度器和连接池，避免与其他业务争抢并发配额
+	 */
+	private OkHttpClient timHttpClient(TencentTimProperties.Http http, OkHttpClient sharedClient, Dns dns) {
+
+		Dispatcher dispatcher = new Dispatcher();
+		dispatcher.setMaxRequests(http.getMaxRequests());
+		dispatcher.setMaxRequestsPerHost(http.getMaxRequestsPerHost());
+
+		ConnectionPool connectionPool = new ConnectionPool(http.getMaxIdleConnections(),
+				http.getKeepAliveDuration().toMillis(), TimeUnit.MILLISECONDS);
+
+		OkHttpClient.Builder builder = sharedClient != null ? sharedClient.newBuilder() : new OkHttpClient.Builder();
+		if (dns != null) {
+			builder.dns(dns);
+		}
+		return builder.dispatcher(dispatcher)
+				.connectionPool(connectionPool)
+				.connectTimeout(http.getConnectTimeout())
+				.readTimeout(http.getReadTimeout())
+				.writeTimeout(http.getWriteTimeout())
+				.callTimeout(http.getCallTimeout())
+				.protocols(http.isHttp2() ? Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1) : Collections.singletonList(Protocol.HTTP_1_1))
+				.build();
+	}
+
+	@Configuration
+	@ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+	@ConditionalOnBean(type = "io.micrometer.core.instrument.MeterRegistry")
+	static class TencentTimMetricsConfiguration {
+
+		@Bean
+		public TimMetricsRequestListener timMetricsRequestListener(MeterRegistry meterRegistry) {
+			return new TimMetricsRequestListener(meterRegistry);
+		}
+
+		/*
+		 * 客户端状态指标依赖模板本身，不能作为监听器注入模板，单独绑定以避免循环依赖
+		 */
+		@Bean
+		public TimTemplateMetrics timTemplateMetrics(TencentTimTemplate tencentTimTemplate, MeterRegistry meterRegistry) {
+			TimTemplateMetrics metrics = new TimTemplateMetrics(tencentTimTemplate);
+			metrics.bindTo(meterRegistry);
+			return metrics;
+		}
+
+	}
+
+	@Configuration
+	@ConditionalOnClass(name = "reactor.core.publisher.Mono")
+	static class TencentTimReactiveConfiguration {
+
+		@Bean
+		public TencentTimReactiveTemplate tencentTimReactiveTemplate(TencentTimTemplate tencentTimTemplate) {
+			return new TencentTimReactiveTemplate(tencentTimTemplate);
+		}
+
 	}
 
 }
@@ -15,7 +15,23 @@
  */
 package com.tencentcloud.spring.boot;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.util.unit.DataSize;
+
+import com.google.common.collect.Sets;
+import com.tencentcloud.spring.boot.tim.TimApiAddress;
+import com.tencentcloud.spring.boot.tim.TimApiFamily;
+import com.tencentcloud.spring.boot.tim.TimJsonModule;
+import com.tencentcloud.spring.boot.tim.TimPriority;
 
 import lombok.Data;
 
@@ -27,12 +43,46 @@ public class TencentTimProperties {
 	public static final String PREFIX = "tencent.cloud.tim";
 	// 单位秒
 	private static final long EXPIRE = 86400 * 30;
+	// 默认接口调用频率限制，单位次/秒
+	private static final Map<TimApiAddress, Double> DEFAULT_RATE_LIMITS = new HashMap<>();
+	
+	static {
+		DEFAULT_RATE_LIMITS.put(TimApiAddress.SEND_MSG, 200d);
+		DEFAULT_RATE_LIMITS.put(TimApiAddress.SEND_BATCH_MSG, 200d);
+		DEFAULT_RATE_LIMITS.put(TimApiAddress.GET_APPID_GROUP_LIST, 200d);
+	}
+	// 默认接口优先级，未配置的接口为 NORMAL
+	private static final Map<TimApiAddress, TimPriority> DEFAULT_PRIORITIES = new HashMap<>();
+	
+	static {
+		for (TimApiAddress address : new TimApiAddress[] { TimApiAddress.SEND_MSG, TimApiAddress.SEND_GROUP_MSG,
+				TimApiAddress.SEND_GROUP_SYSTEM_NOTIFICATION, TimApiAddress.ADMIN_MSG_WITHDRAW, TimApiAddress.GROUP_MSG_RECALL }) {
+			DEFAULT_PRIORITIES.put(address, TimPriority.INTERACTIVE);
+		}
+		for (TimApiAddress address : new TimApiAddress[] { TimApiAddress.MULTI_ACCOUNT_IMPORT, TimApiAddress.IMPORT_MSG,
+				TimApiAddress.IMPORT_GROUP, TimApiAddress.IMPORT_GROUP_MSG, TimApiAddress.IMPORT_GROUP_MEMBER,
+				TimApiAddress.FRIEND_IMPORT, TimApiAddress.IM_SET_ATTR, TimApiAddress.IM_REMOVE_ATTR, TimApiAddress.IM_ADD_TAG,
+				TimApiAddress.IM_REMOVE_TAG, TimApiAddress.IM_REMOVE_ALL_TAGS, TimApiAddress.GET_HISTORY }) {
+			DEFAULT_PRIORITIES.put(address, TimPriority.BULK);
+		}
+	}
+	// 默认优先级权重
+	private static final Map<TimPriority, Integer> DEFAULT_WEIGHTS = new HashMap<>();
+	
+	static {
+		DEFAULT_WEIGHTS.put(TimPriority.INTERACTIVE, 8);
+		DEFAULT_WEIGHTS.put(TimPriority.NORMAL, 3);
+		DEFAULT_WEIGHTS.put(TimPriority.BULK, 1);
+	}
 	
 	/**
 	 * Enable Tencent Tim.
 	 */
 	private boolean enabled = false;
 
+	/**
+	 * 接口域名，未配置 routing.domains 时使用，默认为 console.tim.qq.com
+	 */
 	private String domain;
 	
 	/**
@@ -62,5 +112,525 @@ public class TencentTimProperties {
 	 * 若不设置该字段，则默认保存7天
 	 */
 	private long msgLifeTime = 604800;
+	
+	/**
+	 * 是否在虚拟线程上执行异步请求（需要 Java 21 及以上，运行环境不支持时忽略）：
+	 * 异步接口改为在虚拟线程中执行同步请求流程，与同步接口一致，网络异常时返回 ActionStatus=FAIL 的默认响应
+	 */
+	private boolean virtualThreads = false;
+	
+	/**
+	 * Tim 专用 HTTP 客户端配置
+	 */
+	private Http http = new Http();
+	
+	/**
+	 * Tim 请求日志配置
+	 */
+	private Logging logging = new Logging();
+	
+	/**
+	 * Tim 请求重试配置
+	 */
+	private Retry retry = new Retry();
+	
+	/**
+	 * Tim 客户端限流配置
+	 */
+	private RateLimit rateLimit = new RateLimit();
+	
+	/**
+	 * Tim 接口分组隔离舱配置
+	 */
+	private Bulkhead bulkhead = new Bulkhead();
+	
+	/**
+	 * Tim 接口分组熔断配置
+	 */
+	private CircuitBreaker circuitBreaker = new CircuitBreaker();
+	
+	/**
+	 * Tim 多域名路由配置
+	 */
+	private Routing routing = new Routing();
+	
+	/**
+	 * Tim 异步请求优先级调度配置
+	 */
+	private Scheduler scheduler = new Scheduler();
+	
+	/**
+	 * Tim 自适应并发限制配置
+	 */
+	private AdaptiveLimit adaptiveLimit = new AdaptiveLimit();
+	
+	/**
+	 * Tim 异步响应处理线程池配置
+	 */
+	private Callback callback = new Callback();
+	
+	/**
+	 * Tim 预热与连接保活配置
+	 */
+	private Warmup warmup = new Warmup();
+	
+	/**
+	 * Tim 请求体压缩配置
+	 */
+	private Compression compression = new Compression();
+	
+	/**
+	 * Tim 请求、响应 JSON 绑定配置
+	 */
+	private Json json = new Json();
+	
+	@Data
+	public static class Http {
+		
+		/**
+		 * 最大并发请求数
+		 */
+		private int maxRequests = 256;
+		
+		/**
+		 * 单个主机最大并发请求数（Tim 所有接口均访问同一域名）
+		 */
+		private int maxRequestsPerHost = 128;
+		
+		/**
+		 * 连接池最大空闲连接数
+		 */
+		private int maxIdleConnections = 32;
+		
+		/**
+		 * 空闲连接保活时长
+		 */
+		private Duration keepAliveDuration = Duration.ofMinutes(5);
+		
+		/**
+		 * 连接超时时间
+		 */
+		private Duration connectTimeout = Duration.ofSeconds(5);
+		
+		/**
+		 * 读超时时间
+		 */
+		private Duration readTimeout = Duration.ofSeconds(10);
+		
+		/**
+		 * 写超时时间
+		 */
+		private Duration writeTimeout = Duration.ofSeconds(10);
+		
+		/**
+		 * 整个调用的超时时间，0 表示不限制
+		 */
+		private Duration callTimeout = Duration.ZERO;
+		
+		/**
+		 * 响应打开超过该时长仍未关闭时告警为疑似连接泄漏，0 表示关闭检测
+		 */
+		private Duration leakDetectionThreshold = Duration.ofSeconds(30);
+		
+		/**
+		 * 是否启用 HTTP/2 协商
+		 */
+		private boolean http2 = true;
+		
+	}
+	
+	@Data
+	public static class Logging {
+		
+		/**
+		 * 请求成功时的默认日志级别
+		 */
+		private LogLevel level = LogLevel.INFO;
+		
+		/**
+		 * 按接口单独指定请求成功时的日志级别，设置为 OFF 时该接口的失败日志也不再输出
+		 */
+		private Map<TimApiAddress, LogLevel> levels = new HashMap<>();
+		
+		/**
+		 * 请求成功日志的采样比例，取值 0 ~ 1；失败与异常日志不采样
+		 */
+		private double sampleRate = 1.0d;
+		
+		/**
+		 * 请求参数在日志中的最大长度，超出部分截断；小于等于 0 表示不截断
+		 */
+		private int maxPayloadLength = 2048;
+		
+		/**
+		 * 日志中需要脱敏的请求参数字段，URL 中的 usersig 始终脱敏
+		 */
+		private Set<String> redactFields = Sets.newHashSet("MsgBody", "MsgContent", "OfflinePushInfo");
+		
+	}
+	
+	@Data
+	public static class Retry {
+		
+		/**
+		 * 是否启用失败重试
+		 */
+		private boolean enabled = false;
+		
+		/**
+		 * 最大尝试次数（包含首次请求）
+		 */
+		private int maxAttempts = 3;
+		
+		/**
+		 * 首次重试的退避时长
+		 */
+		private Duration initialBackoff = Duration.ofMillis(100);
+		
+		/**
+		 * 最大退避时长
+		 */
+		private Duration maxBackoff = Duration.ofSeconds(2);
+		
+		/**
+		 * 退避时长的增长倍数
+		 */
+		private double multiplier = 2.0d;
+		
+		/**
+		 * 退避时长的随机抖动比例，取值 0 ~ 1，实际退避时长在 [backoff * (1 - jitter), backoff] 之间
+		 */
+		private double jitter = 0.5d;
+		
+		/**
+		 * 可重试的 Tim 错误码：频率超限、服务内部错误、内部超时等
+		 */
+		private Set<Integer> retryableErrorCodes = Sets.newHashSet(60007, 60008, 60011, 60018, 60019,
+				10002, 20004, 20005, 30006, 30007, 70169, 90994, 91000);
+		
+		/**
+		 * 不进行重试的接口
+		 */
+		private Set<TimApiAddress> excludes = new HashSet<>();
+		
+		/**
+		 * 非幂等接口：请求可能已被服务端处理时不重试，仅在连接阶段失败、HTTP 429 或指定的可重试错误码时重试，避免重复发消息、重复导入等
+		 */
+		private Set<TimApiAddress> nonIdempotent = Sets.newHashSet(TimApiAddress.SEND_MSG, TimApiAddress.SEND_BATCH_MSG,
+				TimApiAddress.IMPORT_MSG, TimApiAddress.IM_PUSH, TimApiAddress.FRIEND_ADD, TimApiAddress.FRIEND_IMPORT,
+				TimApiAddress.CREATE_GROUP, TimApiAddress.ADD_GROUP_MEMBER, TimApiAddress.SEND_GROUP_MSG,
+				TimApiAddress.SEND_GROUP_SYSTEM_NOTIFICATION, TimApiAddress.IMPORT_GROUP, TimApiAddress.IMPORT_GROUP_MSG,
+				TimApiAddress.IMPORT_GROUP_MEMBER);
+		
+		/**
+		 * 重试预算：每个请求为预算积累的重试次数，0.1 表示重试量不超过请求量的 10%
+		 */
+		private double budgetRatio = 0.1d;
+		
+		/**
+		 * 重试预算上限，同时也是启动时的初始预算
+		 */
+		private int budgetMax = 50;
+		
+	}
+	
+	@Data
+	public static class RateLimit {
+		
+		/**
+		 * 是否启用客户端限流
+		 */
+		private boolean enabled = false;
+		
+		/**
+		 * 超出频率限制时的处理方式
+		 */
+		private RateLimitMode mode = RateLimitMode.QUEUE;
+		
+		/**
+		 * 排队模式下单个请求的最长等待时间，预计等待时间超出该值的请求直接拒绝
+		 */
+		private Duration maxWait = Duration.ofSeconds(1);
+		
+		/**
+		 * 令牌桶容量，以秒为单位，即允许突发的请求数为每秒请求数的倍数
+		 */
+		private double burstSeconds = 1.0d;
+		
+		/**
+		 * 按接口指定的每秒请求数，未配置的接口不限流；默认值参考 Tim 文档中的接口调用频率限制
+		 */
+		private Map<TimApiAddress, Double> limits = new HashMap<>(DEFAULT_RATE_LIMITS);
+		
+	}
+	
+	public enum RateLimitMode {
+		
+		/**
+		 * 排队等待令牌
+		 */
+		QUEUE,
+		/**
+		 * 直接拒绝
+		 */
+		REJECT
+		
+	}
+	
+	@Data
+	public static class Bulkhead {
+		
+		/**
+		 * 是否启用接口分组隔离：每个分组使用独立的调度器与并发配额，共享连接池
+		 */
+		private boolean enabled = false;
+		
+		/**
+		 * 每个分组默认的最大并发请求数
+		 */
+		private int maxConcurrentCalls = 32;
+		
+		/**
+		 * 按分组指定的最大并发请求数
+		 */
+		private Map<TimApiFamily, Integer> families = new HashMap<>();
+		
+		/**
+		 * 每个分组最多排队等待的异步请求数，超出时直接拒绝
+		 */
+		private int maxQueuedCalls = 256;
+		
+		/**
+		 * 同步请求等待并发配额的最长时间，0 表示不等待
+		 */
+		private Duration maxWait = Duration.ZERO;
+		
+	}
+	
+	@Data
+	public static class CircuitBreaker {
+		
+		/**
+		 * 是否启用接口分组熔断
+		 */
+		private boolean enabled = false;
+		
+		/**
+		 * 失败率阈值，取值 0 ~ 1，达到该值时熔断
+		 */
+		private double failureRateThreshold = 0.5d;
+		
+		/**
+		 * 统计失败率的滑动窗口大小（最近的请求数）
+		 */
+		private int slidingWindowSize = 50;
+		
+		/**
+		 * 计算失败率所需的最少请求数
+		 */
+		private int minimumCalls = 20;
+		
+		/**
+		 * 熔断后拒绝请求的时长，到期后进入半开状态
+		 */
+		private Duration waitDurationInOpenState = Duration.ofSeconds(30);
+		
+		/**
+		 * 半开状态下允许通过的试探请求数，全部成功后关闭熔断
+		 */
+		private int permittedCallsInHalfOpenState = 5;
+		
+	}
+	
+	@Data
+	public static class Routing {
+		
+		/**
+		 * 可用的接口域名列表，如 console.tim.qq.com、adminapisgp.im.qcloud.com；
+		 * 未指定协议时使用 https，也可指定 http://127.0.0.1:8080 等本地地址用于测试
+		 */
+		private List<String> domains = new ArrayList<>();
+		
+		/**
+		 * 耗时 EWMA 的平滑系数，取值 0 ~ 1，越大越偏重最近的请求
+		 */
+		private double ewmaAlpha = 0.2d;
+		
+		/**
+		 * 域名连接失败后被标记为不健康的时长
+		 */
+		private Duration unhealthyDuration = Duration.ofSeconds(30);
+		
+		/**
+		 * 健康但未被选中的域名超过该时长没有耗时样本时，分出一个请求重新探测其耗时，使恢复后的域名能被重新选中；为 0 时不探测
+		 */
+		private Duration probeInterval = Duration.ofSeconds(10);
+		
+	}
+	
+	@Data
+	public static class Scheduler {
+		
+		/**
+		 * 是否启用异步请求优先级调度
+		 */
+		private boolean enabled = false;
+		
+		/**
+		 * 同时进行的异步请求数上限，超出部分按优先级排队；应小于 http.max-requests，使排队发生在调度器而不是 OkHttp 调度器中
+		 */
+		private int maxConcurrentCalls = 128;
+		
+		/**
+		 * 每个优先级最多排队的请求数，超出时直接拒绝
+		 */
+		private int maxQueuedCalls = 10000;
+		
+		/**
+		 * 各优先级出队的权重
+		 */
+		private Map<TimPriority, Integer> weights = new HashMap<>(DEFAULT_WEIGHTS);
+		
+		/**
+		 * 按接口指定优先级，未配置的接口为 NORMAL
+		 */
+		private Map<TimApiAddress, TimPriority> priorities = new HashMap<>(DEFAULT_PRIORITIES);
+		
+	}
+	
+	@Data
+	public static class AdaptiveLimit {
+		
+		/**
+		 * 是否启用自适应并发限制，启用后超出当前并发上限的请求直接拒绝
+		 */
+		private boolean enabled = false;
+		
+		/**
+		 * 初始并发上限
+		 */
+		private int initialLimit = 20;
+		
+		/**
+		 * 最小并发上限
+		 */
+		private int minLimit = 8;
+		
+		/**
+		 * 最大并发上限
+		 */
+		private int maxLimit = 512;
+		
+		/**
+		 * 短期 RTT 相对长期 RTT 的容忍倍数，短期 RTT 不超过长期 RTT 的该倍数时认为没有排队
+		 */
+		private double rttTolerance = 1.5;
+		
+		/**
+		 * 短期 RTT 的平滑窗口（请求数）
+		 */
+		private int shortWindow = 10;
+		
+		/**
+		 * 长期 RTT 的平滑窗口（请求数）
+		 */
+		private int longWindow = 600;
+		
+		/**
+		 * 并发上限的平滑系数，取值 0 ~ 1，越大调整越快
+		 */
+		private double smoothing = 0.2;
+		
+		/**
+		 * 请求因过载失败时并发上限的收缩比例
+		 */
+		private double backoffRatio = 0.9;
+		
+	}
+	
+	@Data
+	public static class Callback {
+		
+		/**
+		 * 是否在独立线程池中处理异步响应（读取响应体、反序列化、日志及回调函数），关闭后在 OkHttp 调度线程中处理
+		 */
+		private boolean enabled = true;
+		
+		/**
+		 * 核心线程数
+		 */
+		private int corePoolSize = Runtime.getRuntime().availableProcessors();
+		
+		/**
+		 * 最大线程数
+		 */
+		private int maxPoolSize = Runtime.getRuntime().availableProcessors() * 2;
+		
+		/**
+		 * 任务队列容量，队列满时由提交任务的线程直接执行
+		 */
+		private int queueCapacity = 1024;
+		
+		/**
+		 * 空闲线程存活时间
+		 */
+		private Duration keepAlive = Duration.ofSeconds(60);
+		
+	}
+	
+	@Data
+	public static class Warmup {
+		
+		/**
+		 * 是否在应用就绪时预热：生成管理员 UserSig、构建序列化器、预先建立连接
+		 */
+		private boolean enabled = false;
+		
+		/**
+		 * 预先建立的连接数（并发发送的预热请求数）
+		 */
+		private int connections = 4;
+		
+		/**
+		 * 等待预热请求完成的超时时间
+		 */
+		private Duration timeout = Duration.ofSeconds(10);
+		
+		/**
+		 * 保活请求的发送间隔，应小于 http.keep-alive-duration，0 表示不保活
+		 */
+		private Duration keepAliveInterval = Duration.ofMinutes(2);
+		
+	}
+	
+	@Data
+	public static class Compression {
+		
+		/**
+		 * 是否以 gzip 压缩较大的请求体（Content-Encoding: gzip），启用后请求体预先序列化到内存
+		 */
+		private boolean enabled = false;
+		
+		/**
+		 * 请求体序列化后达到该大小时压缩
+		 */
+		private DataSize threshold = DataSize.ofKilobytes(4);
+		
+	}
+
+	@Data
+	public static class Json {
+		
+		/**
+		 * 是否复用应用已配置的 ObjectMapper（使用其副本，已注册的模块、日期格式等配置随之生效）
+		 */
+		private boolean reuseObjectMapper = false;
+		
+		/**
+		 * 注册的 Jackson 字节码加速模块，需自行引入对应依赖，未引入时忽略
+		 */
+		private TimJsonModule module = TimJsonModule.NONE;
+		
+	}
 
 }
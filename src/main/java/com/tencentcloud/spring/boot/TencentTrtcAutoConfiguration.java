@@ -9,6 +9,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.util.StringUtils;
 
+import com.tencentcloud.spring.boot.tracing.TencentCloudTracer;
 import com.tencentcloud.spring.boot.trtc.TencentTrtcTemplate;
 import com.tencentcloud.spring.boot.trtc.TrtcUserIdProvider;
 import com.tencentcloudapi.common.Credential;
@@ -50,10 +51,13 @@ public class TencentTrtcAutoConfiguration {
 	@Bean
 	@ConditionalOnBean
 	public TencentTrtcTemplate tencentTrtcTemplate(TrtcClient trtcClient, TencentTrtcProperties properties,
-			ObjectProvider<TrtcUserIdProvider> trtcUserIdProvider) {
-		return new TencentTrtcTemplate(trtcClient, properties, trtcUserIdProvider.getIfAvailable(() -> {
+			ObjectProvider<TrtcUserIdProvider> trtcUserIdProvider,
+			ObjectProvider<TencentCloudTracer> tracerProvider) {
+		TencentTrtcTemplate template = new TencentTrtcTemplate(trtcClient, properties, trtcUserIdProvider.getIfAvailable(() -> {
 			return new TrtcUserIdProvider() {};
 		}));
+		tracerProvider.ifAvailable(template::setTracer);
+		return template;
 	}
 
 }
\ No newline at end of file
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2018, hiwepy (https://github.com/hiwepy).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.tencentcloud.spring.boot.dns;
+
+import java.io.Closeable;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.tencentcloud.spring.boot.TencentCloudProperties;
+
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Dns;
+
+/**
+ * 带缓存的 DNS 解析：解析结果在有效期内直接返回，有效期将到时在后台线程中刷新，
+ * 刷新或过期后重新解析失败时，在允许的过期时长内继续返回旧的解析结果，避免 JVM 阻塞解析拖慢建连
+ */
+@Slf4j
+public class TencentCloudCachingDns implements Dns, Closeable {
+
+	/**
+	 * 解析监听器，用于统计解析耗时
+	 */
+	public interface LookupListener {
+
+		LookupListener NOOP = (hostname, durationNanos, error) -> {};
+
+		/**
+		 * 一次实际的解析（非缓存命中）结束
+		 * @param hostname 域名
+		 * @param durationNanos 解析耗时（纳秒）
+		 * @param error 解析异常，成功时为 null
+		 */
+		void onLookup(String hostname, long durationNanos, Throwable error);
+
+	}
+
+	private final Dns delegate;
+	private final TencentCloudProperties.Dns config;
+	private final ConcurrentMap<String, Entry> cache = new ConcurrentHashMap<>();
+	private final ExecutorService refreshExecutor;
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder staleHits = new LongAdder();
+	private final LongAdder refreshes = new LongAdder();
+	private volatile LookupListener listener = LookupListener.NOOP;
+
+	public TencentCloudCachingDns(TencentCloudProperties.Dns config) {
+		this(Dns.SYSTEM, config);
+	}
+
+	public TencentCloudCachingDns(Dns delegate, TencentCloudProperties.Dns config) {
+		this.delegate = delegate;
+		this.config = config;
+		this.refreshExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(256),
+				new ThreadFactoryBuilder().setNameFormat("tencent-cloud-dns-%d").setDaemon(true).build());
+	}
+
+	@Override
+	public List<InetAddress> lookup(String hostname) throws UnknownHostException {
+		long now = System.nanoTime();
+		Entry entry = cache.get(hostname);
+		if (entry != null && now < entry.expireAt) {
+			hits.increment();
+			if (now >= entry.refreshAt) {
+				this.refreshAsync(hostname, entry);
+			}
+			return entry.addresses;
+		}
+		misses.increment();
+		try {
+			return this.resolve(hostname).addresses;
+		} catch (UnknownHostException e) {
+			// 解析失败时在允许的过期时长内返回旧的解析结果
+			if (entry != null && now < entry.expireAt + config.getMaxStale().toNanos()) {
+				staleHits.increment();
+				log.warn("Dns lookup for {} failed, serving stale addresses {} : {}", hostname, entry.addresses, e.getMessage());
+				return entry.addresses;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * 预先解析并缓存域名
+	 * @param hostname 域名
+	 */
+	public void prefetch(String hostname) {
+		try {
+			this.lookup(hostname);
+		} catch (UnknownHostException e) {
+			log.warn("Dns prefetch for {} failed : {}", hostname, e.getMessage());
+		}
+	}
+
+	public void setLookupListener(LookupListener listener) {
+		this.listener = listener != null ? listener : LookupListener.NOOP;
+	}
+
+	public int getCacheSize() {
+		return cache.size();
+	}
+
+	public long getHits() {
+		return hits.sum();
+	}
+
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	public long getStaleHits() {
+		return staleHits.sum();
+	}
+
+	public long getRefreshes() {
+		return refreshes.sum();
+	}
+
+	@Override
+	public void close() {
+		refreshExecutor.shutdownNow();
+	}
+
+	private Entry resolve(String hostname) throws UnknownHostException {
+		long start = System.nanoTime();
+		try {
+			List<InetAddress> addresses = delegate.lookup(hostname);
+			listener.onLookup(hostname, System.nanoTime() - start, null);
+			Entry entry = new Entry(addresses, System.nanoTime());
+			cache.put(hostname, entry);
+			return entry;
+		} catch (UnknownHostException | RuntimeException e) {
+			listener.onLookup(hostname, System.nanoTime() - start, e);
+			throw e;
+		}
+	}
+
+	private void refreshAsync(String hostname, Entry entry) {
+		if (!entry.refreshing.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			refreshExecutor.execute(() -> {
+				try {
+					refreshes.increment();
+					this.resolve(hostname);
+				} catch (Exception e) {
+					// 刷新失败保留原有结果，到期后由下一次解析重试
+					log.debug("Dns refresh for {} failed : {}", hostname, e.getMessage());
+				} finally {
+					entry.refreshing.set(false);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			entry.refreshing.set(false);
+		}
+	}
+
+	private class Entry {
+
+		private final List<InetAddress> addresses;
+		private final long expireAt;
+		private final long refreshAt;
+		private final AtomicBoolean refreshing = new AtomicBoolean();
+
+		Entry(List<InetAddress> addresses, long resolvedAt) {
+			long ttl = config.getTtl().toNanos();
+			this.addresses = addresses;
+			this.expireAt = resolvedAt + ttl;
+			this.refreshAt = resolvedAt + (long) (ttl * config.getRefreshRatio());
+		}
+
+	}
+
+}
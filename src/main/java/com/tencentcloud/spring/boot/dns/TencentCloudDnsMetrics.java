@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2018, hiwepy (https://github.com/hiwepy).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.tencentcloud.spring.boot.dns;
+
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 基于 Micrometer 的 DNS 解析指标：
+ * tencent.cloud.dns.lookup 实际解析（非缓存命中）的耗时，按 host、outcome 区分；
+ * tencent.cloud.dns.cache 解析请求数，按 result（hit、miss、stale）区分；
+ * tencent.cloud.dns.refreshes 后台刷新次数；
+ * tencent.cloud.dns.cache.size 缓存的域名数
+ */
+public class TencentCloudDnsMetrics implements TencentCloudCachingDns.LookupListener {
+
+	private final MeterRegistry registry;
+
+	public TencentCloudDnsMetrics(MeterRegistry registry) {
+		this.registry = registry;
+	}
+
+	public void bindTo(TencentCloudCachingDns dns) {
+		FunctionCounter.builder("tencent.cloud.dns.cache", dns, TencentCloudCachingDns::getHits)
+				.tag("result", "hit")
+				.description("Dns lookups answered from cache")
+				.register(registry);
+		FunctionCounter.builder("tencent.cloud.dns.cache", dns, TencentCloudCachingDns::getMisses)
+				.tag("result", "miss")
+				.description("Dns lookups that required resolving")
+				.register(registry);
+		FunctionCounter.builder("tencent.cloud.dns.cache", dns, TencentCloudCachingDns::getStaleHits)
+				.tag("result", "stale")
+				.description("Dns lookups answered with stale addresses after a resolve failure")
+				.register(registry);
+		FunctionCounter.builder("tencent.cloud.dns.refreshes", dns, TencentCloudCachingDns::getRefreshes)
+				.description("Dns background refreshes")
+				.register(registry);
+		Gauge.builder("tencent.cloud.dns.cache.size", dns, TencentCloudCachingDns::getCacheSize)
+				.description("Hostnames held in the dns cache")
+				.register(registry);
+		dns.setLookupListener(this);
+	}
+
+	@Override
+	public void onLookup(String hostname, long durationNanos, Throwable error) {
+		Timer.builder("tencent.cloud.dns.lookup")
+				.tag("host", hostname)
+				.tag("outcome", error == null ? "SUCCESS" : "FAILURE")
+				.description("Dns resolve latency")
+				.publishPercentileHistogram()
+				.register(registry)
+				.record(durationNanos, TimeUnit.NANOSECONDS);
+	}
+
+}
@@ -20,6 +20,7 @@ import java.security.SecureRandom;
 import org.springframework.util.StringUtils;
 
 import com.tencentcloud.spring.boot.TencentLiveProperties;
+import com.tencentcloud.spring.boot.tracing.TencentCloudTracer;
 import com.tencentcloud.spring.boot.live.resp.MixStreamResult;
 import com.tencentcloud.spring.boot.live.resp.StreamResult;
 import com.tencentcloud.spring.boot.utils.CommonHelper;
@@ -64,6 +65,7 @@ public class TencentLiveTemplate {
 	private static final Float HEIGHT = 640F;
 
 	private LiveClient liveClient;
+	private TencentCloudTracer tracer = TencentCloudTracer.NOOP;
 	private TencentLiveProperties liveProperties;
 
 	public TencentLiveTemplate(LiveClient liveClient, TencentLiveProperties liveProperties) {
@@ -191,7 +193,7 @@ public class TencentLiveTemplate {
 				req.setOutputParams(outputParams);
 
 				// 通过client对象调用想要访问的接口，需要传入请求对象
-				CreateCommonMixStreamResponse commonMixStreamResponse = liveClient.CreateCommonMixStream(req);
+				CreateCommonMixStreamResponse commonMixStreamResponse = tracer.trace("live", "CreateCommonMixStream", req, () -> liveClient.CreateCommonMixStream(req));
 				
 				// 输出json格式的字符串回包
 				log.info("混流成功  {} {}", mixStreamSessionId, DescribeZonesRequest.toJsonString(commonMixStreamResponse));
@@ -247,7 +249,7 @@ public class TencentLiveTemplate {
 				req.setOutputParams(outputParams);
 
 				// 通过client对象调用想要访问的接口，需要传入请求对象
-				CreateCommonMixStreamResponse commonMixStreamResponse = liveClient.CreateCommonMixStream(req);
+				CreateCommonMixStreamResponse commonMixStreamResponse = tracer.trace("live", "CreateCommonMixStream", req, () -> liveClient.CreateCommonMixStream(req));
 				
 				// 输出json格式的字符串回包
 				log.info("混流成功  {} {}", mixStreamSessionId, DescribeZonesRequest.toJsonString(commonMixStreamResponse));
@@ -298,7 +300,7 @@ public class TencentLiveTemplate {
 				CancelCommonMixStreamRequest req = new CancelCommonMixStreamRequest();
 				req.setMixStreamSessionId(mixStreamSessionId);
 				// 通过client对象调用想要访问的接口，需要传入请求对象
-				CancelCommonMixStreamResponse commonMixStreamResponse = liveClient.CancelCommonMixStream(req);
+				CancelCommonMixStreamResponse commonMixStreamResponse = tracer.trace("live", "CancelCommonMixStream", req, () -> liveClient.CancelCommonMixStream(req));
 				// 输出json格式的字符串回包
 				log.info(DescribeZonesRequest.toJsonString(commonMixStreamResponse));
 				return Boolean.TRUE;
@@ -321,7 +323,7 @@ public class TencentLiveTemplate {
         req.setAppName(getLiveProperties().getAppName());
         req.setDomainName(getLiveProperties().getPushDomain());
         req.setStreamName(streamName);
-        DescribeLiveStreamStateResponse resp = liveClient.DescribeLiveStreamState(req);
+        DescribeLiveStreamStateResponse resp = tracer.trace("live", "DescribeLiveStreamState", req, () -> liveClient.DescribeLiveStreamState(req));
         log.info("查看视频流状态result:{}", DescribeLiveStreamStateResponse.toJsonString(resp));
         return resp.getStreamState();
     }
@@ -356,5 +358,13 @@ public class TencentLiveTemplate {
 	public TencentLiveProperties getLiveProperties() {
 		return liveProperties;
 	}
+	
+	public TencentCloudTracer getTracer() {
+		return tracer;
+	}
+	
+	public void setTracer(TencentCloudTracer tracer) {
+		this.tracer = tracer;
+	}
 
 }
@@ -18,6 +18,7 @@ package com.tencentcloud.spring.boot.sms;
 import org.springframework.boot.context.properties.PropertyMapper;
 
 import com.tencentcloud.spring.boot.TencentSmsProperties;
+import com.tencentcloud.spring.boot.tracing.TencentCloudTracer;
 import com.tencentcloudapi.common.exception.TencentCloudSDKException;
 import com.tencentcloudapi.sms.v20190711.SmsClient;
 import com.tencentcloudapi.sms.v20190711.models.SendSmsRequest;
@@ -26,6 +27,7 @@ import com.tencentcloudapi.sms.v20190711.models.SendSmsResponse;
 public class TencentSmsTemplate {
 
 	private SmsClient smsClient;
+	private TencentCloudTracer tracer = TencentCloudTracer.NOOP;
 	private TencentSmsProperties smsProperties;
 	
 	public TencentSmsTemplate(SmsClient smsClient, TencentSmsProperties smsProperties) {
@@ -89,7 +91,7 @@ public class TencentSmsTemplate {
 		 * 通过 client 对象调用 SendSms 方法发起请求。注意请求方法名与请求对象是对应的 返回的 res 是一个 SendSmsResponse
 		 * 类的实例，与请求对象对应
 		 */
-		return smsClient.SendSms(req);
+		return tracer.trace("sms", "SendSms", req, () -> smsClient.SendSms(req));
 	}
 	
 	/**
@@ -109,5 +111,13 @@ public class TencentSmsTemplate {
 	public TencentSmsProperties getSmsProperties() {
 		return smsProperties;
 	}
+	
+	public TencentCloudTracer getTracer() {
+		return tracer;
+	}
+	
+	public void setTracer(TencentCloudTracer tracer) {
+		this.tracer = tracer;
+	}
 
 }
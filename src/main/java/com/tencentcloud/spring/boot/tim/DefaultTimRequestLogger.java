@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2018, hiwepy (https://github.com/hiwepy).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.tencentcloud.spring.boot.tim;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import org.springframework.boot.logging.LogLevel;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.tencentcloud.spring.boot.TencentTimProperties;
+import com.tencentcloud.spring.boot.tim.resp.TimActionResponse;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 默认的 Tim 请求日志记录器
+ * 1、成功日志按接口配置日志级别并按比例采样，失败与异常日志始终以 ERROR 级别输出
+ * 2、URL 中的 usersig 与请求参数中的敏感字段（如消息体）会被脱敏，请求参数超过长度上限时截断
+ * 3、URL 与请求参数的格式化延迟到日志框架真正输出时才执行
+ */
+@Slf4j
+public class DefaultTimRequestLogger implements TimRequestLogger {
+
+	private static final String REDACTED = "******";
+	private static final String UNKNOWN_OPT = "-";
+	private static final Pattern USER_SIG_PATTERN = Pattern.compile("(?i)(usersig=)[^&]*");
+
+	private final TencentTimProperties.Logging logging;
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	public DefaultTimRequestLogger(TencentTimProperties.Logging logging) {
+		this.logging = logging;
+		objectMapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.ANY);
+		objectMapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
+	}
+
+	@Override
+	public void logSuccess(TimApiAddress address, String url, Object params, TimActionResponse res, long useTime) {
+		LogLevel level = this.getLevel(address);
+		if (!this.isEnabled(level) || !this.isSampled()) {
+			return;
+		}
+		this.log(level, "Tim {} >> Success, url : {}, params : {}, ActionStatus : {}, use time : {}",
+				this.getOpt(address), this.lazyUrl(url), this.lazyParams(params), res.getActionStatus(), useTime);
+	}
+
+	@Override
+	public void logFailure(TimApiAddress address, String url, Object params, TimActionResponse res, long useTime) {
+		if (!log.isErrorEnabled() || LogLevel.OFF.equals(this.getLevel(address))) {
+			return;
+		}
+		log.error("Tim {} >> Failure, url : {}, params : {}, ActionStatus : {}, ErrorCode : {}, ErrorInfo : {}, use time : {}",
+				this.getOpt(address), this.lazyUrl(url), this.lazyParams(params), res.getActionStatus(), res.getErrorCode(), res.getErrorInfo(), useTime);
+	}
+
+	@Override
+	public void logHttpFailure(TimApiAddress address, String url, Object params, int code, String message, long useTime) {
+		if (!log.isErrorEnabled() || LogLevel.OFF.equals(this.getLevel(address))) {
+			return;
+		}
+		log.error("Tim {} >> Http Failure, url : {}, params : {}, code : {}, message : {}, use time : {}",
+				this.getOpt(address), this.lazyUrl(url), this.lazyParams(params), code, message, useTime);
+	}
+
+	@Override
+	public void logError(TimApiAddress address, String url, Object params, Throwable ex, long useTime) {
+		if (!log.isErrorEnabled() || LogLevel.OFF.equals(this.getLevel(address))) {
+			return;
+		}
+		log.error("Tim {} >> Error, url : {}, params : {}, message : {}, use time : {}",
+				this.getOpt(address), this.lazyUrl(url), this.lazyParams(params), ex.getMessage(), useTime);
+	}
+
+	protected LogLevel getLevel(TimApiAddress address) {
+		LogLevel level = Objects.isNull(address) ? null : logging.getLevels().get(address);
+		return Objects.nonNull(level) ? level : logging.getLevel();
+	}
+
+	protected boolean isSampled() {
+		double sampleRate = logging.getSampleRate();
+		return sampleRate >= 1.0d || (sampleRate > 0d && ThreadLocalRandom.current().nextDouble() < sampleRate);
+	}
+
+	protected String getOpt(TimApiAddress address) {
+		return Objects.isNull(address) ? UNKNOWN_OPT : address.getOpt();
+	}
+
+	protected String redactUrl(String url) {
+		return USER_SIG_PATTERN.matcher(url).replaceAll("$1" + REDACTED);
+	}
+
+	protected String formatParams(Object params) {
+		String text;
+		try {
+			JsonNode node = objectMapper.valueToTree(params);
+			this.redact(node);
+			text = node.toString();
+		} catch (Exception e) {
+			text = String.valueOf(params);
+		}
+		int maxLength = logging.getMaxPayloadLength();
+		if (maxLength > 0 && text.length() > maxLength) {
+			return text.substring(0, maxLength) + "...(" + text.length() + " chars)";
+		}
+		return text;
+	}
+
+	private void redact(JsonNode node) {
+		if (node.isObject()) {
+			Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+			while (fields.hasNext()) {
+				Map.Entry<String, JsonNode> field = fields.next();
+				if (logging.getRedactFields().contains(field.getKey())) {
+					field.setValue(TextNode.valueOf(REDACTED));
+				} else {
+					this.redact(field.getValue());
+				}
+			}
+		} else if (node.isArray()) {
+			for (JsonNode element : node) {
+				this.redact(element);
+			}
+		}
+	}
+
+	private Object lazyUrl(String url) {
+		return new Lazy(() -> this.redactUrl(url));
+	}
+
+	private Object lazyParams(Object params) {
+		return new Lazy(() -> this.formatParams(params));
+	}
+
+	private boolean isEnabled(LogLevel level) {
+		switch (level) {
+			case TRACE:
+				return log.isTraceEnabled();
+			case DEBUG:
+				return log.isDebugEnabled();
+			case INFO:
+				return log.isInfoEnabled();
+			case WARN:
+				return log.isWarnEnabled();
+			case ERROR:
+			case FATAL:
+				return log.isErrorEnabled();
+			default:
+				return false;
+		}
+	}
+
+	private void log(LogLevel level, String format, Object... args) {
+		switch (level) {
+			case TRACE:
+				log.trace(format, args);
+				break;
+			case DEBUG:
+				log.debug(format, args);
+				break;
+			case INFO:
+				log.info(format, args);
+				break;
+			case WARN:
+				log.warn(format, args);
+				break;
+			case ERROR:
+			case FATAL:
+				log.error(format, args);
+				break;
+			default:
+				break;
+		}
+	}
+
+	/**
+	 * 延迟格式化：只有日志框架调用 toString() 时才执行
+	 */
+	private static class Lazy {
+
+		private final Supplier<String> supplier;
+
+		Lazy(Supplier<String> supplier) {
+			this.supplier = supplier;
+		}
+
+		@Override
+		public String toString() {
+			return supplier.get();
+		}
+
+	}
+
+}
@@ -17,11 +17,13 @@ package com.tencentcloud.spring.boot.tim;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.google.common.collect.ImmutableMap;
+import com.tencentcloud.spring.boot.tim.req.account.AccountStateQuery;
 import com.tencentcloud.spring.boot.tim.resp.TimActionResponse;
 import com.tencentcloud.spring.boot.tim.resp.account.AccountCheckResponse;
 import com.tencentcloud.spring.boot.tim.resp.account.AccountDeleteResponse;
@@ -34,6 +36,14 @@ public class TencentTimAccountAsyncOperations extends TencentTimAccountOperation
 	public TencentTimAccountAsyncOperations(TencentTimTemplate timTemplate) {
 		super(timTemplate);
 	}
+
+	/**
+	 * @param options 请求选项，如超时时间
+	 * @return 使用指定请求选项的操作对象，原对象不受影响
+	 */
+	public TencentTimAccountAsyncOperations withOptions(TimRequestOptions options) {
+		return (TencentTimAccountAsyncOperations) this.copyWithOptions(options);
+	}
 	
 	/**
 	 * 1、导入单个帐号
@@ -42,14 +52,15 @@ public class TencentTimAccountAsyncOperations extends TencentTimAccountOperation
 	 * @param nickname 用户昵称
 	 * @param avatar 用户头像
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncImport(String userId, String nickname, String avatar, Consumer<AccountImportResponse> consumer) {
+	public CompletableFuture<AccountImportResponse> asyncImport(String userId, String nickname, String avatar, Consumer<AccountImportResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("Identifier", getImUserByUserId(userId))
 				.put("Nick", nickname)
 				.put("FaceUrl", avatar)
 				.build();
-		this.asyncRequest(TimApiAddress.MULTI_ACCOUNT_IMPORT, requestBody, AccountImportResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.MULTI_ACCOUNT_IMPORT, requestBody, AccountImportResponse.class, consumer);
 	}
 	
 	/**
@@ -57,11 +68,12 @@ public class TencentTimAccountAsyncOperations extends TencentTimAccountOperation
 	 * API：https://cloud.tencent.com/document/product/269/4919
 	 * @param userIds 业务用户ID集合
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncImport(String[] userIds, Consumer<AccountsImportResponse> consumer) {
+	public CompletableFuture<AccountsImportResponse> asyncImport(String[] userIds, Consumer<AccountsImportResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("Accounts", Stream.of(userIds).map(uid -> this.getImUserByUserId(uid)).collect(Collectors.toList())).build();
-		this.asyncRequest(TimApiAddress.MULTI_ACCOUNT_IMPORT, requestBody, AccountsImportResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.MULTI_ACCOUNT_IMPORT, requestBody, AccountsImportResponse.class, consumer);
 	}
 	
 	/**
@@ -69,15 +81,16 @@ public class TencentTimAccountAsyncOperations extends TencentTimAccountOperation
 	 * API：https://cloud.tencent.com/document/product/269/36443
 	 * @param userIds 业务用户ID数组
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncDelete(String[] userIds, Consumer<AccountDeleteResponse> consumer) {
+	public CompletableFuture<AccountDeleteResponse> asyncDelete(String[] userIds, Consumer<AccountDeleteResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("DeleteItem", Stream.of(userIds).map(uid -> {
 					Map<String, Object> userMap = new HashMap<>();
 					userMap.put("UserID", this.getImUserByUserId(uid));
 					return userMap;
 				}).collect(Collectors.toList())).build();
-		this.asyncRequest(TimApiAddress.ACCOUNT_DELETE, requestBody, AccountDeleteResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.ACCOUNT_DELETE, requestBody, AccountDeleteResponse.class, consumer);
 	}
 	
 	/**
@@ -85,8 +98,9 @@ public class TencentTimAccountAsyncOperations extends TencentTimAccountOperation
 	 * API：https://cloud.tencent.com/document/product/269/38417
 	 * @param userIds 业务用户ID数组
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncCheck(String[] userIds, Consumer<AccountCheckResponse> consumer) {
+	public CompletableFuture<AccountCheckResponse> asyncCheck(String[] userIds, Consumer<AccountCheckResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("CheckItem", Stream.of(userIds).map(uid -> {
 					Map<String, Object> userMap = new HashMap<>();
@@ -94,7 +108,7 @@ public class TencentTimAccountAsyncOperations extends TencentTimAccountOperation
 					return userMap;
 				}).collect(Collectors.toList()))
 				.build();
-		this.asyncRequest(TimApiAddress.ACCOUNT_CHECK, requestBody, AccountCheckResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.ACCOUNT_CHECK, requestBody, AccountCheckResponse.class, consumer);
 	}
 	
 	/**
@@ -102,12 +116,13 @@ public class TencentTimAccountAsyncOperations extends TencentTimAccountOperation
 	 * API：https://cloud.tencent.com/document/product/269/3853
 	 * @param userId 业务用户ID
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncKickout(String userId, Consumer<TimActionResponse> consumer) {
+	public CompletableFuture<TimActionResponse> asyncKickout(String userId, Consumer<TimActionResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("Identifier", this.getImUserByUserId(userId))
 				.build();
-		this.asyncRequest(TimApiAddress.ACCOUNT_KICK, requestBody, TimActionResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.ACCOUNT_KICK, requestBody, TimActionResponse.class, consumer);
 	}
 
 	/**
@@ -116,15 +131,15 @@ public class TencentTimAccountAsyncOperations extends TencentTimAccountOperation
 	 * @param needDetail 是否需要详情结果
 	 * @param userIds 业务用户ID数组
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncGetState(boolean needDetail, String[] userIds, Consumer<AccountStateResponse> consumer) {
-		ImmutableMap.Builder<String, Object> builder = new ImmutableMap.Builder<String, Object>()
-			.put("To_Account", Stream.of(userIds).map(uid -> this.getImUserByUserId(uid)).collect(Collectors.toList()));
-		if(needDetail) {
-			builder.put("IsNeedDetail", 1);
-		}
+	public CompletableFuture<AccountStateResponse> asyncGetState(boolean needDetail, String[] userIds, Consumer<AccountStateResponse> consumer) {
+		AccountStateQuery requestBody = AccountStateQuery.builder()
+				.toAccount(Stream.of(userIds).map(uid -> this.getImUserByUserId(uid)).collect(Collectors.toList()))
+				.isNeedDetail(needDetail ? 1 : null)
+				.build();
 		// {"ActionStatus":"OK","ErrorInfo":"","ErrorCode":0,"QueryResult":[{"To_Account":"449","State":"Offline","Status":"Offline"}]}
-		this.asyncRequest(TimApiAddress.ACCOUNT_STATE, builder.build(), AccountStateResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.ACCOUNT_STATE, requestBody, AccountStateResponse.class, consumer);
 	}
 	
 }
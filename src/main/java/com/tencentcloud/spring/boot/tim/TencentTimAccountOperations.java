@@ -21,6 +21,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.google.common.collect.ImmutableMap;
+import com.tencentcloud.spring.boot.tim.req.account.AccountStateQuery;
 import com.tencentcloud.spring.boot.tim.resp.account.AccountCheckResponse;
 import com.tencentcloud.spring.boot.tim.resp.account.AccountDeleteResponse;
 import com.tencentcloud.spring.boot.tim.resp.account.AccountImportResponse;
@@ -123,13 +124,12 @@ public class TencentTimAccountOperations extends TencentTimOperations {
 	 * @return 操作结果
 	 */
 	public AccountStateResponse getState(boolean needDetail, String... userIds) {
-		ImmutableMap.Builder<String, Object> builder = new ImmutableMap.Builder<String, Object>()
-			.put("To_Account", Stream.of(userIds).map(uid -> this.getImUserByUserId(uid)).collect(Collectors.toList()));
-		if(needDetail) {
-			builder.put("IsNeedDetail", 1);
-		}
+		AccountStateQuery requestBody = AccountStateQuery.builder()
+				.toAccount(Stream.of(userIds).map(uid -> this.getImUserByUserId(uid)).collect(Collectors.toList()))
+				.isNeedDetail(needDetail ? 1 : null)
+				.build();
 		// {"ActionStatus":"OK","ErrorInfo":"","ErrorCode":0,"QueryResult":[{"To_Account":"449","State":"Offline","Status":"Offline"}]}
-		return super.request(TimApiAddress.ACCOUNT_STATE, builder.build(), AccountStateResponse.class);
+		return super.request(TimApiAddress.ACCOUNT_STATE, requestBody, AccountStateResponse.class);
 	}
 	
 }
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2018, hiwepy (https://github.com/hiwepy).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.tencentcloud.spring.boot.tim;
+
+import com.tencentcloud.spring.boot.tim.resp.TimActionResponse;
+import com.tencentcloud.spring.boot.tim.resp.account.AccountCheckResponse;
+import com.tencentcloud.spring.boot.tim.resp.account.AccountDeleteResponse;
+import com.tencentcloud.spring.boot.tim.resp.account.AccountImportResponse;
+import com.tencentcloud.spring.boot.tim.resp.account.AccountStateResponse;
+import com.tencentcloud.spring.boot.tim.resp.account.AccountsImportResponse;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 帐号管理（响应式）
+ * 基于 {@link TencentTimAccountAsyncOperations} 的非阻塞实现，订阅时才发起请求
+ */
+public class TencentTimAccountReactiveOperations {
+
+	/**
+	 * 导入多个帐号单次最多支持的帐号数
+	 */
+	public static final int MULTI_ACCOUNT_IMPORT_MAX_ACCOUNTS = 100;
+
+	private final TencentTimAccountAsyncOperations asyncOps;
+
+	public TencentTimAccountReactiveOperations(TencentTimAccountAsyncOperations asyncOps) {
+		this.asyncOps = asyncOps;
+	}
+
+	/**
+	 * 1、导入单个帐号
+	 * API：https://cloud.tencent.com/document/product/269/1608
+	 * @param userId 业务用户ID
+	 * @param nickname 用户昵称
+	 * @param avatar 用户头像
+	 * @return 响应结果
+	 */
+	public Mono<AccountImportResponse> aImport(String userId, String nickname, String avatar) {
+		return TencentTimReactiveTemplate.deferFuture(() -> asyncOps.asyncImport(userId, nickname, avatar, null));
+	}
+
+	/**
+	 * 2、导入多个帐号
+	 * API：https://cloud.tencent.com/document/product/269/4919
+	 * @param userIds 业务用户ID集合
+	 * @return 响应结果
+	 */
+	public Mono<AccountsImportResponse> aImport(String[] userIds) {
+		return TencentTimReactiveTemplate.deferFuture(() -> asyncOps.asyncImport(userIds, null));
+	}
+
+	/**
+	 * 3、删除帐号
+	 * API：https://cloud.tencent.com/document/product/269/36443
+	 * @param userIds 业务用户ID数组
+	 * @return 响应结果
+	 */
+	public Mono<AccountDeleteResponse> delete(String[] userIds) {
+		return TencentTimReactiveTemplate.deferFuture(() -> asyncOps.asyncDelete(userIds, null));
+	}
+
+	/**
+	 * 4、查询帐号
+	 * API：https://cloud.tencent.com/document/product/269/38417
+	 * @param userIds 业务用户ID数组
+	 * @return 响应结果
+	 */
+	public Mono<AccountCheckResponse> check(String[] userIds) {
+		return TencentTimReactiveTemplate.deferFuture(() -> asyncOps.asyncCheck(userIds, null));
+	}
+
+	/**
+	 * 5、失效帐号登录态（踢出）
+	 * API：https://cloud.tencent.com/document/product/269/3853
+	 * @param userId 业务用户ID
+	 * @return 响应结果
+	 */
+	public Mono<TimActionResponse> kickout(String userId) {
+		return TencentTimReactiveTemplate.deferFuture(() -> asyncOps.asyncKickout(userId, null));
+	}
+
+	/**
+	 * 6、查询帐号在线状态
+	 * API：https://cloud.tencent.com/document/product/269/2566
+	 * @param needDetail 是否需要详情结果
+	 * @param userIds 业务用户ID数组
+	 * @return 响应结果
+	 */
+	public Mono<AccountStateResponse> getState(boolean needDetail, String[] userIds) {
+		return TencentTimReactiveTemplate.deferFuture(() -> asyncOps.asyncGetState(needDetail, userIds, null));
+	}
+
+	/**
+	 * 导入多个帐号（流式）
+	 * 按每批最多 100 个帐号切分上游的用户ID流，逐批调用导入多个帐号接口，下游按需请求时才拉取上游元素
+	 * API：https://cloud.tencent.com/document/product/269/4919
+	 * @param userIds 业务用户ID流
+	 * @return 每一批次的响应结果
+	 */
+	public Flux<AccountsImportResponse> importAccounts(Flux<String> userIds) {
+		return userIds.buffer(MULTI_ACCOUNT_IMPORT_MAX_ACCOUNTS)
+				.concatMap(batch -> this.aImport(batch.toArray(new String[0])), 1);
+	}
+
+}
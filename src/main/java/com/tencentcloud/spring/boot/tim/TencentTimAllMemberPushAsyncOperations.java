@@ -17,6 +17,7 @@ package com.tencentcloud.spring.boot.tim;
 
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -39,6 +40,14 @@ public class TencentTimAllMemberPushAsyncOperations extends TencentTimAllMemberP
 	public TencentTimAllMemberPushAsyncOperations(TencentTimTemplate timTemplate) {
 		super(timTemplate);
 	}
+
+	/**
+	 * @param options 请求选项，如超时时间
+	 * @return 使用指定请求选项的操作对象，原对象不受影响
+	 */
+	public TencentTimAllMemberPushAsyncOperations withOptions(TimRequestOptions options) {
+		return (TencentTimAllMemberPushAsyncOperations) this.copyWithOptions(options);
+	}
 	
 	/**
 	 * 1、全员推送
@@ -47,14 +56,15 @@ public class TencentTimAllMemberPushAsyncOperations extends TencentTimAllMemberP
 	 * @param msgRandom 消息随机数，由随机函数产生。用于推送任务去重。对于不同的推送请求，MsgRandom7 天之内不能重复，否则视为相同的推送任务（调用推送 API 返回失败的时候可以用相同的 MsgRandom 进行重试）
 	 * @param msgBody  消息内容，具体格式请参考 MsgBody 消息内容说明（一条消息可包括多种消息元素，所以 MsgBody 为 Array 类型）
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncPush(String userId, Integer msgRandom, MsgBody[] msgBody, Consumer<AllMemberPushResponse> consumer) {
+	public CompletableFuture<AllMemberPushResponse> asyncPush(String userId, Integer msgRandom, MsgBody[] msgBody, Consumer<AllMemberPushResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("From_Account", this.getImUserByUserId(userId))
 				.put("MsgRandom", msgRandom)
 				.put("MsgBody", msgBody)
 				.build();
-		this.asyncRequest(TimApiAddress.IM_PUSH, requestBody, AllMemberPushResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.IM_PUSH, requestBody, AllMemberPushResponse.class, consumer);
 	}
 	
 	/**
@@ -65,15 +75,16 @@ public class TencentTimAllMemberPushAsyncOperations extends TencentTimAllMemberP
 	 * @param msgLifeTime 消息离线存储时间，单位秒，最多保存7天（604800秒）。默认为0，表示不离线存储
 	 * @param msgBody  消息内容，具体格式请参考 MsgBody 消息内容说明（一条消息可包括多种消息元素，所以 MsgBody 为 Array 类型）
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncPush(String userId, Integer msgRandom, Integer msgLifeTime, MsgBody[] msgBody, Consumer<AllMemberPushResponse> consumer) {
+	public CompletableFuture<AllMemberPushResponse> asyncPush(String userId, Integer msgRandom, Integer msgLifeTime, MsgBody[] msgBody, Consumer<AllMemberPushResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("From_Account", this.getImUserByUserId(userId))
 				.put("MsgRandom", msgRandom)
 				.put("MsgLifeTime", Objects.isNull(msgLifeTime) ? 0 : msgLifeTime)
 				.put("MsgBody", msgBody)
 				.build();
-		this.asyncRequest(TimApiAddress.IM_PUSH, requestBody, AllMemberPushResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.IM_PUSH, requestBody, AllMemberPushResponse.class, consumer);
 	}
 	
 	/**
@@ -85,8 +96,9 @@ public class TencentTimAllMemberPushAsyncOperations extends TencentTimAllMemberP
 	 * @param offlinePushInfo 离线推送信息配置，具体可参考 消息格式描述
 	 * @param msgBody  消息内容，具体格式请参考 MsgBody 消息内容说明（一条消息可包括多种消息元素，所以 MsgBody 为 Array 类型）
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncPush(String userId, Integer msgRandom, Integer msgLifeTime, OfflinePushInfo offlinePushInfo, 
+	public CompletableFuture<AllMemberPushResponse> asyncPush(String userId, Integer msgRandom, Integer msgLifeTime, OfflinePushInfo offlinePushInfo, 
 			MsgBody[] msgBody, Consumer<AllMemberPushResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("From_Account", this.getImUserByUserId(userId))
@@ -95,7 +107,7 @@ public class TencentTimAllMemberPushAsyncOperations extends TencentTimAllMemberP
 				.put("MsgBody", msgBody)
 				.put("OfflinePushInfo", offlinePushInfo)
 				.build();
-		this.asyncRequest(TimApiAddress.IM_PUSH, requestBody, AllMemberPushResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.IM_PUSH, requestBody, AllMemberPushResponse.class, consumer);
 	}
 	
 	/**
@@ -108,8 +120,9 @@ public class TencentTimAllMemberPushAsyncOperations extends TencentTimAllMemberP
 	 * @param offlinePushInfo 离线推送信息配置，具体可参考 消息格式描述
 	 * @param msgBody  消息内容，具体格式请参考 MsgBody 消息内容说明（一条消息可包括多种消息元素，所以 MsgBody 为 Array 类型）
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncPush(String userId, Integer msgRandom, Integer msgLifeTime, Condition condition,
+	public CompletableFuture<AllMemberPushResponse> asyncPush(String userId, Integer msgRandom, Integer msgLifeTime, Condition condition,
 			OfflinePushInfo offlinePushInfo, MsgBody[] msgBody, Consumer<AllMemberPushResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("From_Account", this.getImUserByUserId(userId))
@@ -119,7 +132,7 @@ public class TencentTimAllMemberPushAsyncOperations extends TencentTimAllMemberP
 				.put("Condition", condition)
 				.put("OfflinePushInfo", offlinePushInfo)
 				.build();
-		this.asyncRequest(TimApiAddress.IM_PUSH, requestBody, AllMemberPushResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.IM_PUSH, requestBody, AllMemberPushResponse.class, consumer);
 	}
 	
 	/**
@@ -127,8 +140,9 @@ public class TencentTimAllMemberPushAsyncOperations extends TencentTimAllMemberP
 	 * API：https://cloud.tencent.com/document/product/269/45935
 	 * @param attrNames 属性名数组，单个属性最长不超过50字节。应用最多可以有10个推送属性（编号从0到9），用户自定义每个属性的含义
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncSetAppAttrNames(String[] attrNames, Consumer<TimActionResponse> consumer) {
+	public CompletableFuture<TimActionResponse> asyncSetAppAttrNames(String[] attrNames, Consumer<TimActionResponse> consumer) {
 		Map<String, String> attrNameMap = Maps.newHashMap();
 		for (int i = 0; i < attrNames.length; i++) {
 			attrNameMap.put(String.valueOf(i), attrNames[i]);
@@ -136,16 +150,17 @@ public class TencentTimAllMemberPushAsyncOperations extends TencentTimAllMemberP
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("AttrNames", attrNameMap)
 				.build();
-		this.asyncRequest(TimApiAddress.IM_SET_ATTR_NAME, requestBody, TimActionResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.IM_SET_ATTR_NAME, requestBody, TimActionResponse.class, consumer);
 	}
 	
 	/**
 	 * 3、获取应用属性名称
 	 * API：https://cloud.tencent.com/document/product/269/45936
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncGetAppAttrNames(Consumer<AppAttrNameResponse> consumer) {
-		this.asyncRequest(TimApiAddress.IM_GET_ATTR_NAME, Maps.newHashMap(), AppAttrNameResponse.class, consumer);
+	public CompletableFuture<AppAttrNameResponse> asyncGetAppAttrNames(Consumer<AppAttrNameResponse> consumer) {
+		return this.asyncRequest(TimApiAddress.IM_GET_ATTR_NAME, Maps.newHashMap(), AppAttrNameResponse.class, consumer);
 	}
 	
 	/**
@@ -153,12 +168,13 @@ public class TencentTimAllMemberPushAsyncOperations extends TencentTimAllMemberP
 	 * API：https://cloud.tencent.com/document/product/269/45938
 	 * @param userAttrs 属性名数组，单个属性最长不超过50字节。应用最多可以有10个推送属性（编号从0到9），用户自定义每个属性的含义
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncSetUserAttrs(UserAttrs[] userAttrs, Consumer<TimActionResponse> consumer) {
+	public CompletableFuture<TimActionResponse> asyncSetUserAttrs(UserAttrs[] userAttrs, Consumer<TimActionResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("UserAttrs", userAttrs)
 				.build();
-		this.asyncRequest(TimApiAddress.IM_SET_ATTR, requestBody, TimActionResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.IM_SET_ATTR, requestBody, TimActionResponse.class, consumer);
 	}
 	
 	/**
@@ -166,12 +182,13 @@ public class TencentTimAllMemberPushAsyncOperations extends TencentTimAllMemberP
 	 * API：https://cloud.tencent.com/document/product/269/45937
 	 * @param userIds 用户ID数组
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncGetUserAttrs(String[] userIds, Consumer<UserAttrsResponse> consumer) {
+	public CompletableFuture<UserAttrsResponse> asyncGetUserAttrs(String[] userIds, Consumer<UserAttrsResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("To_Account", Stream.of(userIds).map(uid -> this.getImUserByUserId(uid)).collect(Collectors.toList()))
 				.build();
-		this.asyncRequest(TimApiAddress.IM_GET_ATTR, requestBody, UserAttrsResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.IM_GET_ATTR, requestBody, UserAttrsResponse.class, consumer);
 	}
 	
 	/**
@@ -179,12 +196,13 @@ public class TencentTimAllMemberPushAsyncOperations extends TencentTimAllMemberP
 	 * API：https://cloud.tencent.com/document/product/269/45939
 	 * @param userAttrs 属性名数组，单个属性最长不超过50字节。应用最多可以有10个推送属性（编号从0到9），用户自定义每个属性的含义
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncRemoveUserAttrs(UserAttrs[] userAttrs, Consumer<TimActionResponse> consumer) {
+	public CompletableFuture<TimActionResponse> asyncRemoveUserAttrs(UserAttrs[] userAttrs, Consumer<TimActionResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("UserAttrs", userAttrs)
 				.build();
-		this.asyncRequest(TimApiAddress.IM_REMOVE_ATTR, requestBody, TimActionResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.IM_REMOVE_ATTR, requestBody, TimActionResponse.class, consumer);
 	}
 	
 	/**
@@ -195,12 +213,13 @@ public class TencentTimAllMemberPushAsyncOperations extends TencentTimAllMemberP
 	 * c、单个标签最大长度为50字节。
 	 * @param userTags 用户标签数组
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncAddUserTags(UserTags[] userTags, Consumer<TimActionResponse> consumer) {
+	public CompletableFuture<TimActionResponse> asyncAddUserTags(UserTags[] userTags, Consumer<TimActionResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("UserTags", userTags)
 				.build();
-		this.asyncRequest(TimApiAddress.IM_ADD_TAG, requestBody, TimActionResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.IM_ADD_TAG, requestBody, TimActionResponse.class, consumer);
 	}
 
 	/**
@@ -208,12 +227,13 @@ public class TencentTimAllMemberPushAsyncOperations extends TencentTimAllMemberP
 	 * API：https://cloud.tencent.com/document/product/269/45940
 	 * @param userIds 用户ID数组
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncGetUserTags(String[] userIds, Consumer<UserTagsResponse> consumer) {
+	public CompletableFuture<UserTagsResponse> asyncGetUserTags(String[] userIds, Consumer<UserTagsResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("To_Account", Stream.of(userIds).map(uid -> this.getImUserByUserId(uid)).collect(Collectors.toList()))
 				.build();
-		this.asyncRequest(TimApiAddress.IM_GET_TAG, requestBody, UserTagsResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.IM_GET_TAG, requestBody, UserTagsResponse.class, consumer);
 	}
 	
 	
@@ -222,12 +242,13 @@ public class TencentTimAllMemberPushAsyncOperations extends TencentTimAllMemberP
 	 * API：https://cloud.tencent.com/document/product/269/45942
 	 * @param userTags 用户标签数组
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncRemoveUserTags(UserTags[] userTags, Consumer<TimActionResponse> consumer) {
+	public CompletableFuture<TimActionResponse> asyncRemoveUserTags(UserTags[] userTags, Consumer<TimActionResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("UserTags", userTags)
 				.build();
-		this.asyncRequest(TimApiAddress.IM_REMOVE_TAG, requestBody, TimActionResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.IM_REMOVE_TAG, requestBody, TimActionResponse.class, consumer);
 	}
 
 	/**
@@ -235,12 +256,13 @@ public class TencentTimAllMemberPushAsyncOperations extends TencentTimAllMemberP
 	 * API：https://cloud.tencent.com/document/product/269/45943
 	 * @param userIds 用户ID数组
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncRemoveUserTags(String[] userIds, Consumer<TimActionResponse> consumer) {
+	public CompletableFuture<TimActionResponse> asyncRemoveUserTags(String[] userIds, Consumer<TimActionResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("To_Account", Stream.of(userIds).map(uid -> this.getImUserByUserId(uid)).collect(Collectors.toList()))
 				.build();
-		this.asyncRequest(TimApiAddress.IM_REMOVE_ALL_TAGS, requestBody, TimActionResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.IM_REMOVE_ALL_TAGS, requestBody, TimActionResponse.class, consumer);
 	}
 
 }
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2018, hiwepy (https://github.com/hiwepy).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.tencentcloud.spring.boot.tim;
+
+import com.tencentcloud.spring.boot.tim.req.message.MsgBody;
+import com.tencentcloud.spring.boot.tim.req.message.OfflinePushInfo;
+import com.tencentcloud.spring.boot.tim.req.push.Condition;
+import com.tencentcloud.spring.boot.tim.resp.TimActionResponse;
+import com.tencentcloud.spring.boot.tim.resp.push.AllMemberPushResponse;
+import com.tencentcloud.spring.boot.tim.resp.push.AppAttrNameResponse;
+import com.tencentcloud.spring.boot.tim.resp.push.UserAttrs;
+import com.tencentcloud.spring.boot.tim.resp.push.UserAttrsResponse;
+import com.tencentcloud.spring.boot.tim.resp.push.UserTags;
+import com.tencentcloud.spring.boot.tim.resp.push.UserTagsResponse;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 全员推送（响应式）
+ * 基于 {@link TencentTimAllMemberPushAsyncOperations} 的非阻塞实现，订阅时才发起请求
+ */
+public class TencentTimAllMemberPushReactiveOperations {
+	private final TencentTimAllMemberPushAsyncOperations asyncOps;
+
+	public TencentTimAllMemberPushReactiveOperations(TencentTimAllMemberPushAsyncOperations asyncOps) {
+		this.asyncOps = asyncOps;
+	}
+
+	/**
+	 * 1、全员推送
+	 * API：https://cloud.tencent.com/document/product/269/45934
+	 * @param userId 业务用户ID
+	 * @param msgRandom 消息随机数，由随机函数产生。用于推送任务去重。对于不同的推送请求，MsgRandom7 天之内不能重复，否则视为相同的推送任务（调用推送 API 返回失败的时候可以用相同的 MsgRandom 进行重试）
+	 * @param msgBody  消息内容，具体格式请参考 MsgBody 消息内容说明（一条消息可包括多种消息元素，所以 MsgBody 为 Array 类型）
+	 * @return 响应结果
+	 */
+	public Mono<AllMemberPushResponse> push(String userId, Integer msgRandom, MsgBody[] msgBody) {
+		return TencentTimReactiveTemplate.deferFuture(() -> asyncOps.asyncPush(userId, msgRandom, msgBody, null));
+	}
+
+	/**
+	 * 1、全员推送
+	 * API：https://cloud.tencent.com/document/product/269/45934
+	 * @param userId 业务用户ID
+	 * @param msgRandom 消息随机数，由随机函数产生。用于推送任务去重。对于不同的推送请求，MsgRandom7 天之内不能重复，否则视为相同的推送任务（调用推送 API 返回失败的时候可以用相同的 MsgRandom 进行重试）
+	 * @param msgLifeTime 消息离线存储时间，单位秒，最多保存7天（604800秒）。默认为0，表示不离线存储
+	 * @param msgBody  消息内容，具体格式请参考 MsgBody 消息内容说明（一条消息可包括多种消息元素，所以 MsgBody 为 Array 类型）
+	 * @return 响应结果
+	 */
+	public Mono<AllMemberPushResponse> push(String userId, Integer msgRandom, Integer msgLifeTime, MsgBody[] msgBody) {
+		return TencentTimReactiveTemplate.deferFuture(() -> asyncOps.asyncPush(userId, msgRandom, msgLifeTime, msgBody, null));
+	}
+
+	/**
+	 * 1、全员推送
+	 * API：https://cloud.tencent.com/document/product/269/45934
+	 * @param userId 业务用户ID
+	 * @param msgRandom 消息随机数，由随机函数产生。用于推送任务去重。对于不同的推送请求，MsgRandom7 天之内不能重复，否则视为相同的推送任务（调用推送 API 返回失败的时候可以用相同的 MsgRandom 进行重试）
+	 * @param msgLifeTime 消息离线存储时间，单位秒，最多保存7天（604800秒）。默认为0，表示不离线存储
+	 * @param offlinePushInfo 离线推送信息配置，具体可参考 消息格式描述
+	 * @param msgBody  消息内容，具体格式请参考 MsgBody 消息内容说明（一条消息可包括多种消息元素，所以 MsgBody 为 Array 类型）
+	 * @return 响应结果
+	 */
+	public Mono<AllMemberPushResponse> push(String userId, Integer msgRandom, Integer msgLifeTime, OfflinePushInfo offlinePushInfo, MsgBody[] msgBody) {
+		return TencentTimReactiveTemplate.deferFuture(() -> asyncOps.asyncPush(userId, msgRandom, msgLifeTime, offlinePushInfo, msgBody, null));
+	}
+
+	/**
+	 * 1、全员推送
+	 * API：https://cloud.tencent.com/document/product/269/45934
+	 * @param userId 业务用户ID
+	 * @param msgRandom 消息随机数，由随机函数产生。用于推送任务去重。对于不同的推送请求，MsgRandom7 天之内不能重复，否则视为相同的推送任务（调用推送 API 返回失败的时候可以用相同的 MsgRandom 进行重试）
+	 * @param msgLifeTime 消息离线存储时间，单位秒，最多保存7天（604800秒）。默认为0，表示不离线存储
+	 * @param condition AttrsOr 和 AttrsAnd 可以并存，TagsOr 和 TagsAnd 也可以并存。但是标签和属性条件不能并存。如果没有 Condition，则推送给全部用户
+	 * @param offlinePushInfo 离线推送信息配置，具体可参考 消息格式描述
+	 * @param msgBody  消息内容，具体格式请参考 MsgBody 消息内容说明（一条消息可包括多种消息元素，所以 MsgBody 为 Array 类型）
+	 * @return 响应结果
+	 */
+	public Mono<AllMemberPushResponse> push(String userId, Integer msgRandom, Integer msgLifeTime, Condition condition, OfflinePushInfo offlinePushInfo, MsgBody[] msgBody) {
+		return TencentTimReactiveTemplate.deferFuture(() -> asyncOps.asyncPush(userId, msgRandom, msgLifeTime, condition, offlinePushInfo, msgBody, null));
+	}
+
+	/**
+	 * 2、设置应用属性名称
+	 * API：https://cloud.tencent.com/document/product/269/45935
+	 * @param attrNames 属性名数组，单个属性最长不超过50字节。应用最多可以有10个推送属性（编号从0到9），用户自定义每个属性的含义
+	 * @return 响应结果
+	 */
+	public Mono<TimActionResponse> setAppAttrNames(String[] attrNames) {
+		return TencentTimReactiveTemplate.deferFuture(() -> asyncOps.asyncSetAppAttrNames(attrNames, null));
+	}
+
+	/**
+	 * 3、获取应用属性名称
+	 * API：https://cloud.tencent.com/document/product/269/45936
+	 * @return 响应结果
+	 */
+	public Mono<AppAttrNameResponse> getAppAttrNames() {
+		return TencentTimReactiveTemplate.deferFuture(() -> asyncOps.asyncGetAppAttrNames(null));
+	}
+
+	/**
+	 * 4、设置用户属性
+	 * API：https://cloud.tencent.com/document/product/269/45938
+	 * @param userAttrs 属性名数组，单个属性最长不超过50字节。应用最多可以有10个推送属性（编号从0到9），用户自定义每个属性的含义
+	 * @return 响应结果
+	 */
+	public Mono<TimActionResponse> setUserAttrs(UserAttrs[] userAttrs) {
+		return TencentTimReactiveTemplate.deferFuture(() -> asyncOps.asyncSetUserAttrs(userAttrs, null));
+	}
+
+	/**
+	 * 5、获取用户属性
+	 * API：https://cloud.tencent.com/document/product/269/45937
+	 * @param userIds 用户ID数组
+	 * @return 响应结果
+	 */
+	public Mono<UserAttrsResponse> getUserAttrs(String[] userIds) {
+		return TencentTimReactiveTemplate.deferFuture(() -> asyncOps.asyncGetUserAttrs(userIds, null));
+	}
+
+	/**
+	 * 6、删除用户属性
+	 * API：https://cloud.tencent.com/document/product/269/45939
+	 * @param userAttrs 属性名数组，单个属性最长不超过50字节。应用最多可以有10个推送属性（编号从0到9），用户自定义每个属性的含义
+	 * @return 响应结果
+	 */
+	public Mono<TimActionResponse> removeUserAttrs(UserAttrs[] userAttrs) {
+		return TencentTimReactiveTemplate.deferFuture(() -> asyncOps.asyncRemoveUserAttrs(userAttrs, null));
+	}
+
+	/**
+	 * 7、添加用户标签
+	 * API：https://cloud.tencent.com/document/product/269/45941
+	 * a、每次请求最多只能给100个用户添加标签，请求体中单个用户添加标签数最多为10个。
+	 * b、单个用户可设置最大标签数为100个，若用户当前标签超过100，则添加新标签之前请先删除旧标签。
+	 * c、单个标签最大长度为50字节。
+	 * @param userTags 用户标签数组
+	 * @return 响应结果
+	 */
+	public Mono<TimActionResponse> addUserTags(UserTags[] userTags) {
+		return TencentTimReactiveTemplate.deferFuture(() -> asyncOps.asyncAddUserTags(userTags, null));
+	}
+
+	/**
+	 * 8、获取用户标签
+	 * API：https://cloud.tencent.com/document/product/269/45940
+	 * @param userIds 用户ID数组
+	 * @return 响应结果
+	 */
+	public Mono<UserTagsResponse> getUserTags(String[] userIds) {
+		return TencentTimReactiveTemplate.deferFuture(() -> asyncOps.asyncGetUserTags(userIds, null));
+	}
+
+	/**
+	 * 9、删除用户标签
+	 * API：https://cloud.tencent.com/document/product/269/45942
+	 * @param userTags 用户标签数组
+	 * @return 响应结果
+	 */
+	public Mono<TimActionResponse> removeUserTags(UserTags[] userTags) {
+		return TencentTimReactiveTemplate.deferFuture(() -> asyncOps.asyncRemoveUserTags(userTags, null));
+	}
+
+	/**
+	 * 10、删除用户所有标签
+	 * API：https://cloud.tencent.com/document/product/269/45943
+	 * @param userIds 用户ID数组
+	 * @return 响应结果
+	 */
+	public Mono<TimActionResponse> removeUserTags(String[] userIds) {
+		return TencentTimReactiveTemplate.deferFuture(() -> asyncOps.asyncRemoveUserTags(userIds, null));
+	}
+
+}
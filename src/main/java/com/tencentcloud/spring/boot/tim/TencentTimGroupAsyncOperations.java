@@ -19,6 +19,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -26,12 +27,14 @@ import java.util.stream.Stream;
 import com.google.common.collect.ImmutableMap;
 import com.tencentcloud.spring.boot.tim.req.common.MapKV;
 import com.tencentcloud.spring.boot.tim.req.group.GroupInfo;
+import com.tencentcloud.spring.boot.tim.req.group.GroupInfoQuery;
 import com.tencentcloud.spring.boot.tim.req.group.GroupJoinedQuery;
 import com.tencentcloud.spring.boot.tim.req.group.GroupMember;
 import com.tencentcloud.spring.boot.tim.req.group.GroupMemberImport;
 import com.tencentcloud.spring.boot.tim.req.group.GroupMemberModify;
 import com.tencentcloud.spring.boot.tim.req.group.GroupMemberQuery;
 import com.tencentcloud.spring.boot.tim.req.group.GroupMessage;
+import com.tencentcloud.spring.boot.tim.req.group.GroupMessageSend;
 import com.tencentcloud.spring.boot.tim.req.group.GroupMessageImport;
 import com.tencentcloud.spring.boot.tim.req.group.GroupModify;
 import com.tencentcloud.spring.boot.tim.req.group.GroupResponseFilter;
@@ -67,17 +70,26 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 		super(timTemplate);
 	}
 
+	/**
+	 * @param options 请求选项，如超时时间
+	 * @return 使用指定请求选项的操作对象，原对象不受影响
+	 */
+	public TencentTimGroupAsyncOperations withOptions(TimRequestOptions options) {
+		return (TencentTimGroupAsyncOperations) this.copyWithOptions(options);
+	}
+
 	/**
 	 * 1、获取 App 中的所有群组
 	 * API：https://cloud.tencent.com/document/product/269/1614
 	 * @param limit 本次获取的群组 ID 数量的上限，不得超过 10000。如果不填，默认为最大值 10000
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncGetAppGroupList(Integer limit, Consumer<AppGroupGetResponse> consumer) {
+	public CompletableFuture<AppGroupGetResponse> asyncGetAppGroupList(Integer limit, Consumer<AppGroupGetResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("Limit", limit)
 				.build();
-		this.asyncRequest(TimApiAddress.GET_APPID_GROUP_LIST, requestBody, AppGroupGetResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.GET_APPID_GROUP_LIST, requestBody, AppGroupGetResponse.class, consumer);
 	}
 
 	/**
@@ -86,13 +98,14 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 	 * @param limit 本次获取的群组 ID 数量的上限，不得超过 10000。如果不填，默认为最大值 10000
 	 * @param next  群太多时分页拉取标志，第一次填0，以后填上一次返回的值，返回的 Next 为0代表拉完了
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncGetAppGroupList(Integer limit, Integer next, Consumer<AppGroupGetResponse> consumer) {
+	public CompletableFuture<AppGroupGetResponse> asyncGetAppGroupList(Integer limit, Integer next, Consumer<AppGroupGetResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("Limit", limit)
 				.put("Next", next)
 				.build();
-		this.asyncRequest(TimApiAddress.GET_APPID_GROUP_LIST, requestBody, AppGroupGetResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.GET_APPID_GROUP_LIST, requestBody, AppGroupGetResponse.class, consumer);
 	}
 
 	/**
@@ -103,14 +116,15 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 	 * @param groupType 如果仅需要返回特定群组形态的群组，可以通过 GroupType 进行过滤，但此时返回的 TotalCount 的含义就变成了 App 中属于该群组形态的群组总数。不填为获取所有类型的群组。
 	 * 群组形态包括 Public（公开群），Private（私密群），ChatRoom（聊天室），AVChatRoom（音视频聊天室）和 BChatRoom（在线成员广播大群）
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncGetAppGroupList(Integer limit, Integer next, String groupType, Consumer<AppGroupGetResponse> consumer) {
+	public CompletableFuture<AppGroupGetResponse> asyncGetAppGroupList(Integer limit, Integer next, String groupType, Consumer<AppGroupGetResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("Limit", limit)
 				.put("Next", next)
 				.put("GroupType", groupType)
 				.build();
-		this.asyncRequest(TimApiAddress.GET_APPID_GROUP_LIST, requestBody, AppGroupGetResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.GET_APPID_GROUP_LIST, requestBody, AppGroupGetResponse.class, consumer);
 	}
 
 	/**
@@ -121,15 +135,16 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 	 * 群组形态包括 Public（公开群），Private（私密群），ChatRoom（聊天室），AVChatRoom（音视频聊天室）和 BChatRoom（在线成员广播大群）
 	 * @param groupName  群名称，最长30字节，使用 UTF-8 编码，1个汉字占3个字节
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncCreateGroup(String ownerId, String groupType, String groupName,
+	public CompletableFuture<GroupCreateResponse> asyncCreateGroup(String ownerId, String groupType, String groupName,
 			Consumer<GroupCreateResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("Owner_Account", this.getImUserByUserId(ownerId))
 				.put("Type", groupType)
 				.put("Name", groupName)
 				.build();
-		this.asyncRequest(TimApiAddress.CREATE_GROUP, requestBody, GroupCreateResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.CREATE_GROUP, requestBody, GroupCreateResponse.class, consumer);
 	}
 
 	/**
@@ -145,8 +160,9 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 	 * @param maxMemberCount  最大群成员数量，缺省时的默认值：私有群是200，公开群是2000，聊天室是6000，音视频聊天室和在线成员广播大群无限制
 	 * @param applyJoinOption  申请加群处理方式。包含 FreeAccess（自由加入），NeedPermission（需要验证），DisableApply（禁止加群），不填默认为 NeedPermission（需要验证）仅当创建支持申请加群的 群组 时，该字段有效
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncCreateGroup(String ownerId, String groupType, String groupName, String introduction,
+	public CompletableFuture<GroupCreateResponse> asyncCreateGroup(String ownerId, String groupType, String groupName, String introduction,
 			String notification, String faceUrl, Integer maxMemberCount, String applyJoinOption,
 			Consumer<GroupCreateResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
@@ -159,7 +175,7 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 				.put("MaxMemberCount", maxMemberCount)
 				.put("ApplyJoinOption", applyJoinOption)
 				.build();
-		this.asyncRequest(TimApiAddress.CREATE_GROUP, requestBody, GroupCreateResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.CREATE_GROUP, requestBody, GroupCreateResponse.class, consumer);
 	}
 
 	/**
@@ -171,8 +187,9 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 	 * @param groupName  群名称，最长30字节，使用 UTF-8 编码，1个汉字占3个字节
 	 * @param groupMembers  初始群成员列表，最多500个（选填）
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncCreateGroupWithMembers(String ownerId, String groupType, String groupName, GroupMember[] groupMembers,
+	public CompletableFuture<GroupCreateResponse> asyncCreateGroupWithMembers(String ownerId, String groupType, String groupName, GroupMember[] groupMembers,
 			Consumer<GroupCreateResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("Owner_Account", this.getImUserByUserId(ownerId))
@@ -180,7 +197,7 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 				.put("Name", groupName)
 				.put("MemberList", groupMembers)
 				.build();
-		this.asyncRequest(TimApiAddress.CREATE_GROUP, requestBody, GroupCreateResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.CREATE_GROUP, requestBody, GroupCreateResponse.class, consumer);
 	}
 
 	/**
@@ -193,8 +210,9 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 	 * @param groupName  群名称，最长30字节，使用 UTF-8 编码，1个汉字占3个字节
 	 * @param groupMembers  初始群成员列表，最多500个（选填）
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncCreateGroupWithMembers(String ownerId, String groupId, String groupType, String groupName, GroupMember[] groupMembers,
+	public CompletableFuture<GroupCreateResponse> asyncCreateGroupWithMembers(String ownerId, String groupId, String groupType, String groupName, GroupMember[] groupMembers,
 			Consumer<GroupCreateResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("Owner_Account", this.getImUserByUserId(ownerId))
@@ -203,7 +221,7 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 				.put("Name", groupName)
 				.put("MemberList", groupMembers)
 				.build();
-		this.asyncRequest(TimApiAddress.CREATE_GROUP, requestBody, GroupCreateResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.CREATE_GROUP, requestBody, GroupCreateResponse.class, consumer);
 	}
 
 	/**
@@ -211,9 +229,10 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 	 * API：https://cloud.tencent.com/document/product/269/1615
 	 * @param group 群组信息
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncCreateGroup(GroupInfo group, Consumer<GroupCreateResponse> consumer) {
-		this.asyncRequest(TimApiAddress.CREATE_GROUP, group, GroupCreateResponse.class, consumer);
+	public CompletableFuture<GroupCreateResponse> asyncCreateGroup(GroupInfo group, Consumer<GroupCreateResponse> consumer) {
+		return this.asyncRequest(TimApiAddress.CREATE_GROUP, group, GroupCreateResponse.class, consumer);
 	}
 
 	/**
@@ -227,8 +246,9 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 	 * @param maxMemberCount  最大群成员数量，缺省时的默认值：私有群是200，公开群是2000，聊天室是6000，音视频聊天室和在线成员广播大群无限制
 	 * @param applyJoinOption  申请加群处理方式。包含 FreeAccess（自由加入），NeedPermission（需要验证），DisableApply（禁止加群），不填默认为 NeedPermission（需要验证）仅当创建支持申请加群的 群组 时，该字段有效
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncUpdateGroup(String groupId, String groupName, String introduction,
+	public CompletableFuture<GroupModifyResponse> asyncUpdateGroup(String groupId, String groupName, String introduction,
 			String notification, String faceUrl, Integer maxMemberCount, String applyJoinOption,
 			Consumer<GroupModifyResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
@@ -240,7 +260,7 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 				.put("MaxMemberCount", maxMemberCount)
 				.put("ApplyJoinOption", applyJoinOption)
 				.build();
-		this.asyncRequest(TimApiAddress.MODIFY_GROUP_BASE_INFO, requestBody, GroupModifyResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.MODIFY_GROUP_BASE_INFO, requestBody, GroupModifyResponse.class, consumer);
 	}
 
 	/**
@@ -248,9 +268,10 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 	 * API：https://cloud.tencent.com/document/product/269/1620
 	 * @param group 修改内容
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncUpdateGroup(GroupModify group, Consumer<GroupModifyResponse> consumer) {
-		this.asyncRequest(TimApiAddress.MODIFY_GROUP_BASE_INFO, group, GroupModifyResponse.class, consumer);
+	public CompletableFuture<GroupModifyResponse> asyncUpdateGroup(GroupModify group, Consumer<GroupModifyResponse> consumer) {
+		return this.asyncRequest(TimApiAddress.MODIFY_GROUP_BASE_INFO, group, GroupModifyResponse.class, consumer);
 	}
 
 	/**
@@ -258,12 +279,13 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 	 * API：https://cloud.tencent.com/document/product/269/1616
 	 * @param groupIds 群组列表（必填）
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncGetGroupInfo(String[] groupIds, Consumer<GroupInfoGetResponse> consumer) {
-		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
-				.put("GroupIdList", groupIds)
+	public CompletableFuture<GroupInfoGetResponse> asyncGetGroupInfo(String[] groupIds, Consumer<GroupInfoGetResponse> consumer) {
+		GroupInfoQuery requestBody = GroupInfoQuery.builder()
+				.groupIdList(groupIds)
 				.build();
-		this.asyncRequest(TimApiAddress.GET_GROUP_INFO, requestBody, GroupInfoGetResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.GET_GROUP_INFO, requestBody, GroupInfoGetResponse.class, consumer);
 	}
 
 	/**
@@ -272,13 +294,14 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 	 * @param groupIds 群组列表（必填）
 	 * @param responseFilter 包含三个过滤器：GroupBaseInfoFilter，MemberInfoFilter，AppDefinedDataFilter_Group，分别是基础信息字段过滤器，成员信息字段过滤器，群组维度的自定义字段过滤器
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncGetGroupInfo(String[] groupIds, GroupResponseFilter responseFilter, Consumer<GroupInfoGetResponse> consumer) {
-		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
-				.put("GroupIdList", groupIds)
-				.put("ResponseFilter", responseFilter)
+	public CompletableFuture<GroupInfoGetResponse> asyncGetGroupInfo(String[] groupIds, GroupResponseFilter responseFilter, Consumer<GroupInfoGetResponse> consumer) {
+		GroupInfoQuery requestBody = GroupInfoQuery.builder()
+				.groupIdList(groupIds)
+				.responseFilter(responseFilter)
 				.build();
-		this.asyncRequest(TimApiAddress.GET_GROUP_INFO, requestBody, GroupInfoGetResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.GET_GROUP_INFO, requestBody, GroupInfoGetResponse.class, consumer);
 	}
 
 	/**
@@ -288,8 +311,9 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 	 * @param silence 是否静默加人。0：非静默加人；1：静默加人。不填该字段默认为0
 	 * @param userIds 要添加的群成员 ID
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncAddGroupMember(String groupId, Integer silence, String[] userIds, Consumer<GroupMemberAddResponse> consumer) {
+	public CompletableFuture<GroupMemberAddResponse> asyncAddGroupMember(String groupId, Integer silence, String[] userIds, Consumer<GroupMemberAddResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("GroupId", groupId)
 				.put("Silence", Objects.nonNull(silence) ? silence : 0)
@@ -297,7 +321,7 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 					return new GroupMemberAccount(this.getImUserByUserId(uid));
 				}).collect(Collectors.toList()))
 				.build();
-		this.asyncRequest(TimApiAddress.ADD_GROUP_MEMBER, requestBody, GroupMemberAddResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.ADD_GROUP_MEMBER, requestBody, GroupMemberAddResponse.class, consumer);
 	}
 
 	/**
@@ -307,14 +331,15 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 	 * @param reason 踢出用户原因
 	 * @param userIds 要删除的群成员数组
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncDeleteGroupMember(String groupId, String reason, String[] userIds, Consumer<GroupMemberDeleteResponse> consumer) {
+	public CompletableFuture<GroupMemberDeleteResponse> asyncDeleteGroupMember(String groupId, String reason, String[] userIds, Consumer<GroupMemberDeleteResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("GroupId", groupId)
 				.put("Reason", reason)
 				.put("MemberToDel_Account", Stream.of(userIds).map(uid -> this.getImUserByUserId(uid)).collect(Collectors.toList()))
 				.build();
-		this.asyncRequest(TimApiAddress.DELETE_GROUP_MEMBER, requestBody, GroupMemberDeleteResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.DELETE_GROUP_MEMBER, requestBody, GroupMemberDeleteResponse.class, consumer);
 	}
 
 	/**
@@ -325,15 +350,16 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 	 * @param reason 踢出用户原因
 	 * @param userIds 要删除的群成员数组
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncDeleteGroupMember(String groupId, Integer silence, String reason,  String[] userIds, Consumer<GroupMemberDeleteResponse> consumer) {
+	public CompletableFuture<GroupMemberDeleteResponse> asyncDeleteGroupMember(String groupId, Integer silence, String reason,  String[] userIds, Consumer<GroupMemberDeleteResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("GroupId", groupId)
 				.put("Silence", Objects.nonNull(silence) ? silence : 0)
 				.put("Reason", reason)
 				.put("MemberToDel_Account", Stream.of(userIds).map(uid -> this.getImUserByUserId(uid)).collect(Collectors.toList()))
 				.build();
-		this.asyncRequest(TimApiAddress.DELETE_GROUP_MEMBER, requestBody, GroupMemberDeleteResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.DELETE_GROUP_MEMBER, requestBody, GroupMemberDeleteResponse.class, consumer);
 	}
 
 	/**
@@ -343,14 +369,15 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 	 * @param userId 要操作的群成员ID（必填）
 	 * @param role 成员身份，Admin/Member 分别为设置/取消管理员
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncUpdateGroupMemberRole(String groupId, String userId, String role, Consumer<GroupMemberModifyResponse> consumer) {
+	public CompletableFuture<GroupMemberModifyResponse> asyncUpdateGroupMemberRole(String groupId, String userId, String role, Consumer<GroupMemberModifyResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("GroupId", groupId)
 				.put("Member_Account", this.getImUserByUserId(userId))
 				.put("Role", role)
 				.build();
-		this.asyncRequest(TimApiAddress.MODIFY_GROUP_MEMBER_INFO, requestBody, GroupMemberModifyResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.MODIFY_GROUP_MEMBER_INFO, requestBody, GroupMemberModifyResponse.class, consumer);
 	}
 
 
@@ -361,14 +388,15 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 	 * @param userId 要操作的群成员ID（必填）
 	 * @param msgFlag 消息屏蔽类型： AcceptAndNotify 代表接收并提示消息，Discard 代表不接收也不提示消息，AcceptNotNotify 代表接收消息但不提示。
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncUpdateGroupMemberMsgFlag(String groupId, String userId, String msgFlag, Consumer<GroupMemberModifyResponse> consumer) {
+	public CompletableFuture<GroupMemberModifyResponse> asyncUpdateGroupMemberMsgFlag(String groupId, String userId, String msgFlag, Consumer<GroupMemberModifyResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("GroupId", groupId)
 				.put("Member_Account", this.getImUserByUserId(userId))
 				.put("MsgFlag", msgFlag)
 				.build();
-		this.asyncRequest(TimApiAddress.MODIFY_GROUP_MEMBER_INFO, requestBody, GroupMemberModifyResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.MODIFY_GROUP_MEMBER_INFO, requestBody, GroupMemberModifyResponse.class, consumer);
 	}
 
 	/**
@@ -378,14 +406,15 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 	 * @param userId 要操作的群成员ID（必填）
 	 * @param nameCard 群名片（最大不超过50个字节）
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncUpdateGroupMemberNameCard(String groupId, String userId, String nameCard, Consumer<GroupMemberModifyResponse> consumer) {
+	public CompletableFuture<GroupMemberModifyResponse> asyncUpdateGroupMemberNameCard(String groupId, String userId, String nameCard, Consumer<GroupMemberModifyResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("GroupId", groupId)
 				.put("Member_Account", this.getImUserByUserId(userId))
 				.put("NameCard", nameCard)
 				.build();
-		this.asyncRequest(TimApiAddress.MODIFY_GROUP_MEMBER_INFO, requestBody, GroupMemberModifyResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.MODIFY_GROUP_MEMBER_INFO, requestBody, GroupMemberModifyResponse.class, consumer);
 	}
 
 	/**
@@ -395,15 +424,16 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 	 * @param userId 要操作的群成员ID（必填）
 	 * @param appMemberDefinedData 群成员维度的自定义字段，默认情况是没有的，可以通过 即时通信 IM 控制台 进行配置，详情请参阅 群组系统
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncUpdateGroupMemberAttrs(String groupId, String userId, List<MapKV> appMemberDefinedData,
+	public CompletableFuture<GroupMemberModifyResponse> asyncUpdateGroupMemberAttrs(String groupId, String userId, List<MapKV> appMemberDefinedData,
 			Consumer<GroupMemberModifyResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("GroupId", groupId)
 				.put("Member_Account", this.getImUserByUserId(userId))
 				.put("AppMemberDefinedData", appMemberDefinedData)
 				.build();
-		this.asyncRequest(TimApiAddress.MODIFY_GROUP_MEMBER_INFO, requestBody, GroupMemberModifyResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.MODIFY_GROUP_MEMBER_INFO, requestBody, GroupMemberModifyResponse.class, consumer);
 	}
 
 	/**
@@ -413,15 +443,16 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 	 * @param userId 要操作的群成员ID（必填）
 	 * @param shutUpTime 群成员的禁言时间，单位为秒，0表示取消禁言，4294967295为永久禁言
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncUpdateGroupMemberShutUpTime(String groupId, String userId, Long shutUpTime,
+	public CompletableFuture<GroupMemberModifyResponse> asyncUpdateGroupMemberShutUpTime(String groupId, String userId, Long shutUpTime,
 			Consumer<GroupMemberModifyResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("GroupId", groupId)
 				.put("Member_Account", this.getImUserByUserId(userId))
 				.put("ShutUpTime", Objects.nonNull(shutUpTime) ? shutUpTime : 0)
 				.build();
-		this.asyncRequest(TimApiAddress.MODIFY_GROUP_MEMBER_INFO, requestBody, GroupMemberModifyResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.MODIFY_GROUP_MEMBER_INFO, requestBody, GroupMemberModifyResponse.class, consumer);
 	}
 
 	/**
@@ -429,9 +460,10 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 	 * API：https://cloud.tencent.com/document/product/269/1623
 	 * @param member 群成员资料
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncUpdateGroupMember(GroupMemberModify member, Consumer<GroupMemberModifyResponse> consumer) {
-		this.asyncRequest(TimApiAddress.MODIFY_GROUP_MEMBER_INFO, member, GroupMemberModifyResponse.class, consumer);
+	public CompletableFuture<GroupMemberModifyResponse> asyncUpdateGroupMember(GroupMemberModify member, Consumer<GroupMemberModifyResponse> consumer) {
+		return this.asyncRequest(TimApiAddress.MODIFY_GROUP_MEMBER_INFO, member, GroupMemberModifyResponse.class, consumer);
 	}
 
 	/**
@@ -441,14 +473,15 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 	 * @param limit 一次最多获取多少个成员的资料，不得超过6000。如果不填，则获取群内全部成员的信息
 	 * @param offset 从第几个成员开始获取，如果不填则默认为0，表示从第一个成员开始获取
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncGetGroupMember(String groupId, Integer limit, Integer offset, Consumer<GroupMemberGetResponse> consumer) {
+	public CompletableFuture<GroupMemberGetResponse> asyncGetGroupMember(String groupId, Integer limit, Integer offset, Consumer<GroupMemberGetResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("GroupId", groupId)
 				.put("Limit", limit)
 				.put("Offset", offset)
 				.build();
-		this.asyncRequest(TimApiAddress.GET_GROUP_MEMBER_INFO, requestBody, GroupMemberGetResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.GET_GROUP_MEMBER_INFO, requestBody, GroupMemberGetResponse.class, consumer);
 	}
 
 	/**
@@ -456,9 +489,10 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 	 * API：https://cloud.tencent.com/document/product/269/1617
 	 * @param query 筛选条件
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncGetGroupMember(GroupMemberQuery query, Consumer<GroupMemberGetResponse> consumer) {
-		this.asyncRequest(TimApiAddress.GET_GROUP_MEMBER_INFO, query, GroupMemberGetResponse.class, consumer);
+	public CompletableFuture<GroupMemberGetResponse> asyncGetGroupMember(GroupMemberQuery query, Consumer<GroupMemberGetResponse> consumer) {
+		return this.asyncRequest(TimApiAddress.GET_GROUP_MEMBER_INFO, query, GroupMemberGetResponse.class, consumer);
 	}
 
 	/**
@@ -466,12 +500,13 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 	 * API：https://cloud.tencent.com/document/product/269/1624
 	 * @param groupId 群组ID（必填）
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncDestoryGroup(String groupId, Consumer<GroupDestoryResponse> consumer) {
+	public CompletableFuture<GroupDestoryResponse> asyncDestoryGroup(String groupId, Consumer<GroupDestoryResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("GroupId", groupId)
 				.build();
-		this.asyncRequest(TimApiAddress.DESTROY_GROUP, requestBody, GroupDestoryResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.DESTROY_GROUP, requestBody, GroupDestoryResponse.class, consumer);
 	}
 
 	/**
@@ -479,12 +514,13 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 	 * API：https://cloud.tencent.com/document/product/269/1625
 	 * @param userId 业务用户ID
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncGetJoinedGroupList(String userId, Consumer<GroupJoinedListGetResponse> consumer) {
+	public CompletableFuture<GroupJoinedListGetResponse> asyncGetJoinedGroupList(String userId, Consumer<GroupJoinedListGetResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("Member_Account", this.getImUserByUserId(userId))
 				.build();
-		this.asyncRequest(TimApiAddress.GET_JOINED_GROUP_LIST, requestBody, GroupJoinedListGetResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.GET_JOINED_GROUP_LIST, requestBody, GroupJoinedListGetResponse.class, consumer);
 	}
 
 	/**
@@ -493,13 +529,14 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 	 * @param userId 业务用户ID
 	 * @param groupType 所拉取的群组所属的群组类型，例如 Public（陌生人社交群），Private（同新版本 Work，好友工作群）和 ChatRoom（同新版本 Meeting，会议群），如果指定 AVChatRoom（直播群），获得的成员可能不完整。
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncGetJoinedGroupList(String userId, String groupType, Consumer<GroupJoinedListGetResponse> consumer) {
+	public CompletableFuture<GroupJoinedListGetResponse> asyncGetJoinedGroupList(String userId, String groupType, Consumer<GroupJoinedListGetResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("Member_Account", this.getImUserByUserId(userId))
 				.put("GroupType", groupType)
 				.build();
-		this.asyncRequest(TimApiAddress.GET_JOINED_GROUP_LIST, requestBody, GroupJoinedListGetResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.GET_JOINED_GROUP_LIST, requestBody, GroupJoinedListGetResponse.class, consumer);
 	}
 
 	/**
@@ -509,14 +546,15 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 	 * @param limit 一次最多获取多少个成员的资料，不得超过6000。如果不填，则获取群内全部成员的信息
 	 * @param offset 从第几个成员开始获取，如果不填则默认为0，表示从第一个成员开始获取
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncGetJoinedGroupList(String userId, Integer limit, Integer offset, Consumer<GroupJoinedListGetResponse> consumer) {
+	public CompletableFuture<GroupJoinedListGetResponse> asyncGetJoinedGroupList(String userId, Integer limit, Integer offset, Consumer<GroupJoinedListGetResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("Member_Account", this.getImUserByUserId(userId))
 				.put("Limit", limit)
 				.put("Offset", offset)
 				.build();
-		this.asyncRequest(TimApiAddress.GET_JOINED_GROUP_LIST, requestBody, GroupJoinedListGetResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.GET_JOINED_GROUP_LIST, requestBody, GroupJoinedListGetResponse.class, consumer);
 	}
 
 	/**
@@ -527,15 +565,16 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 	 * @param limit 一次最多获取多少个成员的资料，不得超过6000。如果不填，则获取群内全部成员的信息
 	 * @param offset 从第几个成员开始获取，如果不填则默认为0，表示从第一个成员开始获取
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncGetJoinedGroupList(String userId, String groupType, Integer limit, Integer offset, Consumer<GroupJoinedListGetResponse> consumer) {
+	public CompletableFuture<GroupJoinedListGetResponse> asyncGetJoinedGroupList(String userId, String groupType, Integer limit, Integer offset, Consumer<GroupJoinedListGetResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("Member_Account", this.getImUserByUserId(userId))
 				.put("GroupType", groupType)
 				.put("Limit", limit)
 				.put("Offset", offset)
 				.build();
-		this.asyncRequest(TimApiAddress.GET_JOINED_GROUP_LIST, requestBody, GroupJoinedListGetResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.GET_JOINED_GROUP_LIST, requestBody, GroupJoinedListGetResponse.class, consumer);
 	}
 
 
@@ -548,8 +587,9 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 	 * @param limit 一次最多获取多少个成员的资料，不得超过6000。如果不填，则获取群内全部成员的信息
 	 * @param offset 从第几个成员开始获取，如果不填则默认为0，表示从第一个成员开始获取
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncGetJoinedGroupList(String userId, Integer withHugeGroups, Integer withNoActiveGroups, Integer limit, Integer offset,
+	public CompletableFuture<GroupJoinedListGetResponse> asyncGetJoinedGroupList(String userId, Integer withHugeGroups, Integer withNoActiveGroups, Integer limit, Integer offset,
 			Consumer<GroupJoinedListGetResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("Member_Account", this.getImUserByUserId(userId))
@@ -558,7 +598,7 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 				.put("Limit", limit)
 				.put("Offset", offset)
 				.build();
-		this.asyncRequest(TimApiAddress.GET_JOINED_GROUP_LIST, requestBody, GroupJoinedListGetResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.GET_JOINED_GROUP_LIST, requestBody, GroupJoinedListGetResponse.class, consumer);
 	}
 
 	/**
@@ -566,9 +606,10 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 	 * API：https://cloud.tencent.com/document/product/269/1625
 	 * @param query 筛选条件
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncGetJoinedGroupList(GroupJoinedQuery query, Consumer<GroupJoinedListGetResponse> consumer) {
-		this.asyncRequest(TimApiAddress.GET_JOINED_GROUP_LIST, query, GroupJoinedListGetResponse.class, consumer);
+	public CompletableFuture<GroupJoinedListGetResponse> asyncGetJoinedGroupList(GroupJoinedQuery query, Consumer<GroupJoinedListGetResponse> consumer) {
+		return this.asyncRequest(TimApiAddress.GET_JOINED_GROUP_LIST, query, GroupJoinedListGetResponse.class, consumer);
 	}
 
 	/**
@@ -577,13 +618,14 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 	 * @param groupId 群组ID（必填）
 	 * @param userIds 业务用户ID数组
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncGetRoleInGroup(String groupId, String[] userIds, Consumer<GroupMemberRoleGetResponse> consumer) {
+	public CompletableFuture<GroupMemberRoleGetResponse> asyncGetRoleInGroup(String groupId, String[] userIds, Consumer<GroupMemberRoleGetResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("GroupId", groupId)
 				.put("User_Account", Stream.of(userIds).map(uid -> this.getImUserByUserId(uid)).collect(Collectors.toList()))
 				.build();
-		this.asyncRequest(TimApiAddress.GET_ROLE_IN_GROUP, requestBody, GroupMemberRoleGetResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.GET_ROLE_IN_GROUP, requestBody, GroupMemberRoleGetResponse.class, consumer);
 	}
 
 	/**
@@ -593,15 +635,16 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 	 * @param userIds 需要禁言的用户帐号，最多支持500个帐号
 	 * @param shutUpTime 需禁言时间，单位为秒，为0时表示取消禁言
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncUpdateGroupMemberShutUpTime(String groupId, String[] userIds, Long shutUpTime,
+	public CompletableFuture<GroupMemberForbidSendMsgResponse> asyncUpdateGroupMemberShutUpTime(String groupId, String[] userIds, Long shutUpTime,
 			Consumer<GroupMemberForbidSendMsgResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("GroupId", groupId)
 				.put("Members_Account", Stream.of(userIds).map(uid -> this.getImUserByUserId(uid)).collect(Collectors.toList()))
 				.put("ShutUpTime", Objects.nonNull(shutUpTime) ? shutUpTime : 0)
 				.build();
-		this.asyncRequest(TimApiAddress.FORBID_SEND_MSG, requestBody, GroupMemberForbidSendMsgResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.FORBID_SEND_MSG, requestBody, GroupMemberForbidSendMsgResponse.class, consumer);
 	}
 
 	/**
@@ -609,12 +652,13 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 	 * API：https://cloud.tencent.com/document/product/269/2925
 	 * @param groupId 群组ID（必填）
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncGetGroup(String groupId, Consumer<GroupMemberShuttedUinResponse> consumer) {
+	public CompletableFuture<GroupMemberShuttedUinResponse> asyncGetGroup(String groupId, Consumer<GroupMemberShuttedUinResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("GroupId", groupId)
 				.build();
-		this.asyncRequest(TimApiAddress.GET_GROUP_SHUTTED_UIN, requestBody, GroupMemberShuttedUinResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.GET_GROUP_SHUTTED_UIN, requestBody, GroupMemberShuttedUinResponse.class, consumer);
 	}
 
 	/**
@@ -625,16 +669,17 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 	 * @param offlinePushInfo 离线推送信息配置，详细可参阅 消息格式描述
 	 * @param msgBody 消息体，详细可参阅 消息格式描述
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncSendGroupMsg(String groupId, String random, OfflinePushInfo offlinePushInfo,
+	public CompletableFuture<GroupMsgSendResponse> asyncSendGroupMsg(String groupId, String random, OfflinePushInfo offlinePushInfo,
 			MsgBody[] msgBody, Consumer<GroupMsgSendResponse> consumer) {
-		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
-				.put("GroupId", groupId)
-				.put("Random", random)
-				.put("MsgBody", msgBody)
-				.put("OfflinePushInfo", offlinePushInfo)
+		GroupMessageSend requestBody = GroupMessageSend.builder()
+				.groupId(groupId)
+				.random(random)
+				.msgBody(msgBody)
+				.offlinePushInfo(offlinePushInfo)
 				.build();
-		this.asyncRequest(TimApiAddress.SEND_GROUP_MSG, requestBody, GroupMsgSendResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.SEND_GROUP_MSG, requestBody, GroupMsgSendResponse.class, consumer);
 	}
 
 	/**
@@ -646,17 +691,18 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 	 * @param offlinePushInfo 离线推送信息配置，详细可参阅 消息格式描述
 	 * @param msgBody 消息体，详细可参阅 消息格式描述
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncSendGroupMsg(String groupId, String random, String[] forbidCallbackControl, OfflinePushInfo offlinePushInfo,
+	public CompletableFuture<GroupMsgSendResponse> asyncSendGroupMsg(String groupId, String random, String[] forbidCallbackControl, OfflinePushInfo offlinePushInfo,
 			MsgBody[] msgBody, Consumer<GroupMsgSendResponse> consumer) {
-		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
-				.put("GroupId", groupId)
-				.put("Random", random)
-				.put("ForbidCallbackControl", forbidCallbackControl)
-				.put("OfflinePushInfo", offlinePushInfo)
-				.put("MsgBody", msgBody)
+		GroupMessageSend requestBody = GroupMessageSend.builder()
+				.groupId(groupId)
+				.random(random)
+				.forbidCallbackControl(forbidCallbackControl)
+				.offlinePushInfo(offlinePushInfo)
+				.msgBody(msgBody)
 				.build();
-		this.asyncRequest(TimApiAddress.SEND_GROUP_MSG, requestBody, GroupMsgSendResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.SEND_GROUP_MSG, requestBody, GroupMsgSendResponse.class, consumer);
 	}
 
 	/**
@@ -668,15 +714,16 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 	 * @param onlineOnlyFlag 如果消息体中指定 OnlineOnlyFlag，只要值大于0，则消息表示只在线下发，不存离线和漫游（AVChatRoom 和 BChatRoom 不允许使用）。
 	 * @param msgBody 消息体，详细可参阅 消息格式描述
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncSendGroupMsg(String groupId, String random, String onlineOnlyFlag, MsgBody[] msgBody, Consumer<GroupMsgSendResponse> consumer) {
-		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
-				.put("GroupId", groupId)
-				.put("Random", random)
-				.put("OnlineOnlyFlag", onlineOnlyFlag)
-				.put("MsgBody", msgBody)
+	public CompletableFuture<GroupMsgSendResponse> asyncSendGroupMsg(String groupId, String random, String onlineOnlyFlag, MsgBody[] msgBody, Consumer<GroupMsgSendResponse> consumer) {
+		GroupMessageSend requestBody = GroupMessageSend.builder()
+				.groupId(groupId)
+				.random(random)
+				.onlineOnlyFlag(onlineOnlyFlag)
+				.msgBody(msgBody)
 				.build();
-		this.asyncRequest(TimApiAddress.SEND_GROUP_MSG, requestBody, GroupMsgSendResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.SEND_GROUP_MSG, requestBody, GroupMsgSendResponse.class, consumer);
 	}
 
 	/**
@@ -690,18 +737,19 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 	 * @param offlinePushInfo 离线推送信息配置，详细可参阅 消息格式描述
 	 * @param msgBody 消息体，详细可参阅 消息格式描述
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncSendGroupMsg(String groupId, String random, String onlineOnlyFlag, String[] forbidCallbackControl, OfflinePushInfo offlinePushInfo,
+	public CompletableFuture<GroupMsgSendResponse> asyncSendGroupMsg(String groupId, String random, String onlineOnlyFlag, String[] forbidCallbackControl, OfflinePushInfo offlinePushInfo,
 			MsgBody[] msgBody, Consumer<GroupMsgSendResponse> consumer) {
-		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
-				.put("GroupId", groupId)
-				.put("Random", random)
-				.put("OnlineOnlyFlag", onlineOnlyFlag)
-				.put("ForbidCallbackControl", forbidCallbackControl)
-				.put("OfflinePushInfo", offlinePushInfo)
-				.put("MsgBody", msgBody)
+		GroupMessageSend requestBody = GroupMessageSend.builder()
+				.groupId(groupId)
+				.random(random)
+				.onlineOnlyFlag(onlineOnlyFlag)
+				.forbidCallbackControl(forbidCallbackControl)
+				.offlinePushInfo(offlinePushInfo)
+				.msgBody(msgBody)
 				.build();
-		this.asyncRequest(TimApiAddress.SEND_GROUP_MSG, requestBody, GroupMsgSendResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.SEND_GROUP_MSG, requestBody, GroupMsgSendResponse.class, consumer);
 	}
 
 	/**
@@ -713,15 +761,16 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 	 * @param random 随机数字，五分钟数字相同认为是重复消息
 	 * @param msgBody 消息体，详细可参阅 消息格式描述
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncSendGroupProxyMsg(String groupId, String userId, String random, MsgBody[] msgBody, Consumer<GroupMsgSendResponse> consumer) {
-		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
-				.put("GroupId", groupId)
-				.put("From_Account", this.getImUserByUserId(userId))
-				.put("Random", random)
-				.put("MsgBody", msgBody)
+	public CompletableFuture<GroupMsgSendResponse> asyncSendGroupProxyMsg(String groupId, String userId, String random, MsgBody[] msgBody, Consumer<GroupMsgSendResponse> consumer) {
+		GroupMessageSend requestBody = GroupMessageSend.builder()
+				.groupId(groupId)
+				.account(this.getImUserByUserId(userId))
+				.random(random)
+				.msgBody(msgBody)
 				.build();
-		this.asyncRequest(TimApiAddress.SEND_GROUP_MSG, requestBody, GroupMsgSendResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.SEND_GROUP_MSG, requestBody, GroupMsgSendResponse.class, consumer);
 	}
 
 	/**
@@ -729,9 +778,10 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 	 * API：https://cloud.tencent.com/document/product/269/1629
 	 * @param message 消息对象
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncSendGroupMsg(GroupMessage message, Consumer<GroupMsgSendResponse> consumer) {
-		this.asyncRequest(TimApiAddress.SEND_GROUP_MSG, message, GroupMsgSendResponse.class, consumer);
+	public CompletableFuture<GroupMsgSendResponse> asyncSendGroupMsg(GroupMessage message, Consumer<GroupMsgSendResponse> consumer) {
+		return this.asyncRequest(TimApiAddress.SEND_GROUP_MSG, message, GroupMsgSendResponse.class, consumer);
 	}
 
 	/**
@@ -740,13 +790,14 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
      * @param groupId 群组ID（必填）
 	 * @param content 系统通知的内容
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncSendGroupSysMsg(String groupId, String content, Consumer<GroupSystemNotificationSendResponse> consumer) {
+	public CompletableFuture<GroupSystemNotificationSendResponse> asyncSendGroupSysMsg(String groupId, String content, Consumer<GroupSystemNotificationSendResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("GroupId", groupId)
 				.put("Content", content)
 				.build();
-		this.asyncRequest(TimApiAddress.SEND_GROUP_SYSTEM_NOTIFICATION, requestBody, GroupSystemNotificationSendResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.SEND_GROUP_SYSTEM_NOTIFICATION, requestBody, GroupSystemNotificationSendResponse.class, consumer);
 	}
 
 	/**
@@ -756,14 +807,15 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 	 * @param userIds 接收者群成员列表，请填写接收者 UserID，不填或为空表示全员下发
 	 * @param content 系统通知的内容
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncSendGroupSysMsg(String groupId, String[] userIds, String content, Consumer<GroupSystemNotificationSendResponse> consumer) {
+	public CompletableFuture<GroupSystemNotificationSendResponse> asyncSendGroupSysMsg(String groupId, String[] userIds, String content, Consumer<GroupSystemNotificationSendResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("GroupId", groupId)
 				.put("ToMembers_Account", Stream.of(userIds).map(uid -> this.getImUserByUserId(uid)).collect(Collectors.toList()))
 				.put("Content", content)
 				.build();
-		this.asyncRequest(TimApiAddress.SEND_GROUP_SYSTEM_NOTIFICATION, requestBody, GroupSystemNotificationSendResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.SEND_GROUP_SYSTEM_NOTIFICATION, requestBody, GroupSystemNotificationSendResponse.class, consumer);
 	}
 
 	/**
@@ -772,13 +824,14 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
      * @param groupId 要被转移的群 ID（必填）
      * @param userId 新群主 ID（必填）
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncChangeGroupOwner(String groupId, String userId, Consumer<GroupChangeOwnerResponse> consumer) {
+	public CompletableFuture<GroupChangeOwnerResponse> asyncChangeGroupOwner(String groupId, String userId, Consumer<GroupChangeOwnerResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("GroupId", groupId)
 				.put("NewOwner_Account", this.getImUserByUserId(userId))
 				.build();
-		this.asyncRequest(TimApiAddress.CHANGE_GROUP_OWNER, requestBody, GroupChangeOwnerResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.CHANGE_GROUP_OWNER, requestBody, GroupChangeOwnerResponse.class, consumer);
 	}
 
 	/**
@@ -787,8 +840,9 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
      * @param groupId 要被转移的群 ID（必填）
      * @param msgSeqs 被撤回的消息 seq 数组，一次请求最多可以撤回10条消息 seq
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncRecallGroupMsg(String groupId, Integer[] msgSeqs, Consumer<GroupMsgRecallResponse> consumer) {
+	public CompletableFuture<GroupMsgRecallResponse> asyncRecallGroupMsg(String groupId, Integer[] msgSeqs, Consumer<GroupMsgRecallResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("GroupId", groupId)
 				.put("MsgSeqList", Stream.of(msgSeqs).map(msgSeq -> {
@@ -797,7 +851,7 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 					return msgSeqMap;
 				}).collect(Collectors.toList()))
 				.build();
-		this.asyncRequest(TimApiAddress.GROUP_MSG_RECALL, requestBody, GroupMsgRecallResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.GROUP_MSG_RECALL, requestBody, GroupMsgRecallResponse.class, consumer);
 	}
 
 	/**
@@ -809,15 +863,16 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 	 * @param groupName  群名称，最长30字节，使用 UTF-8 编码，1个汉字占3个字节
 	 * @param createTime  群组的创建时间（选填，不填会以请求时刻为准）
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncImportGroup(String userId, String groupType, String groupName, Integer createTime, Consumer<GroupMsgImportResponse> consumer) {
+	public CompletableFuture<GroupMsgImportResponse> asyncImportGroup(String userId, String groupType, String groupName, Integer createTime, Consumer<GroupMsgImportResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("Owner_Account", this.getImUserByUserId(userId))
 				.put("Type", groupType)
 				.put("Name", groupName)
 				.put("CreateTime", createTime)
 				.build();
-		this.asyncRequest(TimApiAddress.IMPORT_GROUP, requestBody, GroupMsgImportResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.IMPORT_GROUP, requestBody, GroupMsgImportResponse.class, consumer);
 	}
 
 	/**
@@ -836,8 +891,9 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 	 * @param appDefinedData  群组维度的自定义字段，默认情况是没有的，需要开通，详细请参阅 群组系统
 	 * @param createTime  群组的创建时间（选填，不填会以请求时刻为准）
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncImportGroup(String userId, String groupId, String groupType, String groupName,
+	public CompletableFuture<GroupMsgImportResponse> asyncImportGroup(String userId, String groupId, String groupType, String groupName,
 			String introduction, String notification, String faceUrl, Integer maxMemberCount, String applyJoinOption,
 			List<MapKV> appDefinedData, Integer createTime, Consumer<GroupMsgImportResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
@@ -850,7 +906,7 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 				.put("ApplyJoinOption", applyJoinOption)
 				.put("AppDefinedData", appDefinedData)
 				.build();
-		this.asyncRequest(TimApiAddress.IMPORT_GROUP, requestBody, GroupMsgImportResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.IMPORT_GROUP, requestBody, GroupMsgImportResponse.class, consumer);
 	}
 
 	/**
@@ -859,13 +915,14 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 	 * @param groupId 要导入消息的群 ID
 	 * @param msgList 导入的消息列表
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncImportGroupMsg(String groupId, GroupMessageImport[] msgList, Consumer<GroupMsgImportResponse> consumer) {
+	public CompletableFuture<GroupMsgImportResponse> asyncImportGroupMsg(String groupId, GroupMessageImport[] msgList, Consumer<GroupMsgImportResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("GroupId", groupId)
 				.put("MsgList", msgList)
 				.build();
-		this.asyncRequest(TimApiAddress.IMPORT_GROUP_MSG, requestBody, GroupMsgImportResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.IMPORT_GROUP_MSG, requestBody, GroupMsgImportResponse.class, consumer);
 	}
 
 	/**
@@ -874,13 +931,14 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 	 * @param groupId 要导入消息的群 ID
 	 * @param memberList 导入的消息列表
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncImportGroupMember(String groupId, GroupMemberImport[] memberList, Consumer<GroupMemberImportResponse> consumer) {
+	public CompletableFuture<GroupMemberImportResponse> asyncImportGroupMember(String groupId, GroupMemberImport[] memberList, Consumer<GroupMemberImportResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("GroupId", groupId)
 				.put("MemberList", memberList)
 				.build();
-		this.asyncRequest(TimApiAddress.IMPORT_GROUP_MSG, requestBody, GroupMemberImportResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.IMPORT_GROUP_MSG, requestBody, GroupMemberImportResponse.class, consumer);
 	}
 
 	/**
@@ -890,15 +948,16 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 	 * @param userId 要操作的群成员 ID
 	 * @param unreadMsgNum 成员未读消息数
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncSetGroupMemberUnreadMsgNum(String groupId, String userId, Integer unreadMsgNum,
+	public CompletableFuture<GroupMsgUnreadNumResponse> asyncSetGroupMemberUnreadMsgNum(String groupId, String userId, Integer unreadMsgNum,
 			Consumer<GroupMsgUnreadNumResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("GroupId", groupId)
 				.put("Member_Account", this.getImUserByUserId(userId))
 				.put("UnreadMsgNum", unreadMsgNum)
 				.build();
-		this.asyncRequest(TimApiAddress.SET_UNREAD_MSG_NUM, requestBody, GroupMsgUnreadNumResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.SET_UNREAD_MSG_NUM, requestBody, GroupMsgUnreadNumResponse.class, consumer);
 	}
 
 	/**
@@ -907,13 +966,14 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 	 * @param groupId 要撤回消息的群 ID
 	 * @param userId 被撤回消息的发送者 ID
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncRecallGroupMemberMsg(String groupId, String userId, Consumer<GroupMsgUnreadNumResponse> consumer) {
+	public CompletableFuture<GroupMsgUnreadNumResponse> asyncRecallGroupMemberMsg(String groupId, String userId, Consumer<GroupMsgUnreadNumResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("GroupId", groupId)
 				.put("Sender_Account", this.getImUserByUserId(userId))
 				.build();
-		this.asyncRequest(TimApiAddress.DELETE_GROUP_MSG_BY_SENDER, requestBody, GroupMsgUnreadNumResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.DELETE_GROUP_MSG_BY_SENDER, requestBody, GroupMsgUnreadNumResponse.class, consumer);
 	}
 
 	/**
@@ -922,14 +982,15 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 	 * @param groupId 要拉取历史消息的群组 ID
 	 * @param reqMsgSeq 拉取消息的最大 seq
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncGetGroupMsg(String groupId, Integer reqMsgSeq, Consumer<GroupMsgGetResponse> consumer) {
+	public CompletableFuture<GroupMsgGetResponse> asyncGetGroupMsg(String groupId, Integer reqMsgSeq, Consumer<GroupMsgGetResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("GroupId", groupId)
 				.put("ReqMsgSeq", reqMsgSeq)
 				.put("ReqMsgNumber", 20)
 				.build();
-		this.asyncRequest(TimApiAddress.GROUP_MSG_GET_SIMPLE, requestBody, GroupMsgGetResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.GROUP_MSG_GET_SIMPLE, requestBody, GroupMsgGetResponse.class, consumer);
 	}
 
 	/**
@@ -939,14 +1000,15 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 	 * @param reqMsgSeq 拉取消息的最大 seq
 	 * @param reqMsgNumber 拉取的历史消息的条数，目前一次请求最多返回20条历史消息，所以这里最好小于等于20
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncGetGroupMsg(String groupId, Integer reqMsgSeq, Integer reqMsgNumber, Consumer<GroupMsgGetResponse> consumer) {
+	public CompletableFuture<GroupMsgGetResponse> asyncGetGroupMsg(String groupId, Integer reqMsgSeq, Integer reqMsgNumber, Consumer<GroupMsgGetResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("GroupId", groupId)
 				.put("ReqMsgSeq", reqMsgSeq)
 				.put("ReqMsgNumber", reqMsgNumber)
 				.build();
-		this.asyncRequest(TimApiAddress.GROUP_MSG_GET_SIMPLE, requestBody, GroupMsgGetResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.GROUP_MSG_GET_SIMPLE, requestBody, GroupMsgGetResponse.class, consumer);
 	}
 
 	/**
@@ -954,11 +1016,12 @@ public class TencentTimGroupAsyncOperations extends TencentTimGroupOperations {
 	 * API：https://cloud.tencent.com/document/product/269/49180
 	 * @param groupId 要撤回消息的群 ID
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncGetGroupMemberOnlineNum(String groupId, Consumer<GroupMemberOnlineNumGetResponse> consumer) {
+	public CompletableFuture<GroupMemberOnlineNumGetResponse> asyncGetGroupMemberOnlineNum(String groupId, Consumer<GroupMemberOnlineNumGetResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("GroupId", groupId)
 				.build();
-		this.asyncRequest(TimApiAddress.GET_ONLINE_MEMBER_NUM, requestBody, GroupMemberOnlineNumGetResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.GET_ONLINE_MEMBER_NUM, requestBody, GroupMemberOnlineNumGetResponse.class, consumer);
 	}
 }
@@ -4,6 +4,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -12,12 +13,14 @@ import org.apache.commons.lang3.StringUtils;
 import com.google.common.collect.ImmutableMap;
 import com.tencentcloud.spring.boot.tim.req.common.MapKV;
 import com.tencentcloud.spring.boot.tim.req.group.GroupInfo;
+import com.tencentcloud.spring.boot.tim.req.group.GroupInfoQuery;
 import com.tencentcloud.spring.boot.tim.req.group.GroupJoinedQuery;
 import com.tencentcloud.spring.boot.tim.req.group.GroupMember;
 import com.tencentcloud.spring.boot.tim.req.group.GroupMemberImport;
 import com.tencentcloud.spring.boot.tim.req.group.GroupMemberModify;
 import com.tencentcloud.spring.boot.tim.req.group.GroupMemberQuery;
 import com.tencentcloud.spring.boot.tim.req.group.GroupMessage;
+import com.tencentcloud.spring.boot.tim.req.group.GroupMessageSend;
 import com.tencentcloud.spring.boot.tim.req.group.GroupMessageImport;
 import com.tencentcloud.spring.boot.tim.req.group.GroupModify;
 import com.tencentcloud.spring.boot.tim.req.group.GroupResponseFilter;
@@ -28,6 +31,7 @@ import com.tencentcloud.spring.boot.tim.resp.group.AppGroupGetResponse;
 import com.tencentcloud.spring.boot.tim.resp.group.GroupChangeOwnerResponse;
 import com.tencentcloud.spring.boot.tim.resp.group.GroupCreateResponse;
 import com.tencentcloud.spring.boot.tim.resp.group.GroupDestoryResponse;
+import com.tencentcloud.spring.boot.tim.resp.group.GroupId;
 import com.tencentcloud.spring.boot.tim.resp.group.GroupInfoGetResponse;
 import com.tencentcloud.spring.boot.tim.resp.group.GroupJoinedListGetResponse;
 import com.tencentcloud.spring.boot.tim.resp.group.GroupMemberAccount;
@@ -95,6 +99,22 @@ public class TencentTimGroupOperations extends TencentTimOperations {
 		return super.request(TimApiAddress.GET_APPID_GROUP_LIST, requestBody, AppGroupGetResponse.class);
 	}
 
+	/**
+	 * 3、获取 App 中的所有群组（流式读取）：群组 ID 在读取响应时依次回调，不在内存中保留整个列表
+	 * API：https://cloud.tencent.com/document/product/269/1614
+	 * @param limit 本次获取的群组 ID 数量的上限，不得超过 10000。如果不填，默认为最大值 10000
+	 * @param next  群太多时分页拉取标志，第一次填0，以后填上一次返回的值，返回的 Next 为0代表拉完了
+	 * @param consumer 群组 ID 处理回调函数
+	 * @return 操作结果，不含 GroupIdList
+	 */
+	public AppGroupGetResponse forEachAppGroup(Integer limit, Integer next, Consumer<GroupId> consumer) {
+		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
+				.put("Limit", limit)
+				.put("Next", next)
+				.build();
+		return super.requestStream(TimApiAddress.GET_APPID_GROUP_LIST, requestBody, AppGroupGetResponse.class, "GroupIdList", GroupId.class, consumer);
+	}
+
 	/**
 	 * 4、获取 App 中的所有群组
 	 * API：https://cloud.tencent.com/document/product/269/1614
@@ -255,8 +275,8 @@ public class TencentTimGroupOperations extends TencentTimOperations {
 	 * @return 操作结果
 	 */
 	public GroupInfoGetResponse getGroupInfo(String... groupIds) {
-		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
-				.put("GroupIdList", groupIds)
+		GroupInfoQuery requestBody = GroupInfoQuery.builder()
+				.groupIdList(groupIds)
 				.build();
 		return super.request(TimApiAddress.GET_GROUP_INFO, requestBody, GroupInfoGetResponse.class);
 	}
@@ -269,9 +289,9 @@ public class TencentTimGroupOperations extends TencentTimOperations {
 	 * @return 操作结果
 	 */
 	public GroupInfoGetResponse getGroupInfo(String[] groupIds, GroupResponseFilter responseFilter) {
-		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
-				.put("GroupIdList", groupIds)
-				.put("ResponseFilter", responseFilter)
+		GroupInfoQuery requestBody = GroupInfoQuery.builder()
+				.groupIdList(groupIds)
+				.responseFilter(responseFilter)
 				.build();
 		return super.request(TimApiAddress.GET_GROUP_INFO, requestBody, GroupInfoGetResponse.class);
 	}
@@ -502,6 +522,30 @@ public class TencentTimGroupOperations extends TencentTimOperations {
 		return super.request(TimApiAddress.GET_GROUP_MEMBER_INFO, query, GroupMemberGetResponse.class);
 	}
 
+	/**
+	 * 28、获取群成员详细资料（流式读取）：群成员在读取响应时依次回调，不在内存中保留整个列表
+	 * API：https://cloud.tencent.com/document/product/269/1617
+	 * @param groupId 群组ID（必填）
+	 * @param limit 一次最多获取多少个成员的资料，不得超过6000。如果不填，则获取群内全部成员的信息
+	 * @param offset 从第几个成员开始获取，如果不填则默认为0，表示从第一个成员开始获取
+	 * @param filterNotFound 是否过滤IM账号不存在的用户（群成员IM账号不存在的时，memberAccount值为@TLS#NOT_FOUND）
+	 * @param consumer 群成员处理回调函数
+	 * @return 操作结果，不含 MemberList
+	 */
+	public GroupMemberGetResponse forEachGroupMember(String groupId, Integer limit, Integer offset, boolean filterNotFound, Consumer<GroupMember> consumer) {
+		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
+				.put("GroupId", groupId)
+				.put("Limit", limit)
+				.put("Offset", offset)
+				.build();
+		Consumer<GroupMember> memberConsumer = !filterNotFound ? consumer : member -> {
+			if (!StringUtils.startsWith(member.getMemberAccount(), "@TLS#NOT_FOUND")) {
+				consumer.accept(member);
+			}
+		};
+		return super.requestStream(TimApiAddress.GET_GROUP_MEMBER_INFO, requestBody, GroupMemberGetResponse.class, "MemberList", GroupMember.class, memberConsumer);
+	}
+
 	/**
 	 * 29、解散群组（群组解散之后将无法恢复，请谨慎调用该接口）
 	 * API：https://cloud.tencent.com/document/product/269/1624
@@ -662,11 +706,11 @@ public class TencentTimGroupOperations extends TencentTimOperations {
 	 * @return 操作结果
 	 */
 	public GroupMsgSendResponse sendGroupMsg(String groupId, String random, OfflinePushInfo offlinePushInfo, MsgBody... msgBody) {
-		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
-				.put("GroupId", groupId)
-				.put("Random", random)
-				.put("MsgBody", msgBody)
-				.put("OfflinePushInfo", offlinePushInfo)
+		GroupMessageSend requestBody = GroupMessageSend.builder()
+				.groupId(groupId)
+				.random(random)
+				.msgBody(msgBody)
+				.offlinePushInfo(offlinePushInfo)
 				.build();
 		return super.request(TimApiAddress.SEND_GROUP_MSG, requestBody, GroupMsgSendResponse.class);
 	}
@@ -682,12 +726,12 @@ public class TencentTimGroupOperations extends TencentTimOperations {
 	 * @return 操作结果
 	 */
 	public GroupMsgSendResponse sendGroupMsg(String groupId, String random, String[] forbidCallbackControl, OfflinePushInfo offlinePushInfo, MsgBody... msgBody) {
-		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
-				.put("GroupId", groupId)
-				.put("Random", random)
-				.put("ForbidCallbackControl", forbidCallbackControl)
-				.put("OfflinePushInfo", offlinePushInfo)
-				.put("MsgBody", msgBody)
+		GroupMessageSend requestBody = GroupMessageSend.builder()
+				.groupId(groupId)
+				.random(random)
+				.forbidCallbackControl(forbidCallbackControl)
+				.offlinePushInfo(offlinePushInfo)
+				.msgBody(msgBody)
 				.build();
 		return super.request(TimApiAddress.SEND_GROUP_MSG, requestBody, GroupMsgSendResponse.class);
 	}
@@ -703,11 +747,11 @@ public class TencentTimGroupOperations extends TencentTimOperations {
 	 * @return 操作结果
 	 */
 	public GroupMsgSendResponse sendGroupMsg(String groupId, String random, String onlineOnlyFlag, MsgBody... msgBody) {
-		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
-				.put("GroupId", groupId)
-				.put("Random", random)
-				.put("OnlineOnlyFlag", onlineOnlyFlag)
-				.put("MsgBody", msgBody)
+		GroupMessageSend requestBody = GroupMessageSend.builder()
+				.groupId(groupId)
+				.random(random)
+				.onlineOnlyFlag(onlineOnlyFlag)
+				.msgBody(msgBody)
 				.build();
 		return super.request(TimApiAddress.SEND_GROUP_MSG, requestBody, GroupMsgSendResponse.class);
 	}
@@ -725,13 +769,13 @@ public class TencentTimGroupOperations extends TencentTimOperations {
 	 * @return 操作结果
 	 */
 	public GroupMsgSendResponse sendGroupMsg(String groupId, String random, String onlineOnlyFlag, String[] forbidCallbackControl, OfflinePushInfo offlinePushInfo, MsgBody... msgBody) {
-		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
-				.put("GroupId", groupId)
-				.put("Random", random)
-				.put("OnlineOnlyFlag", onlineOnlyFlag)
-				.put("ForbidCallbackControl", forbidCallbackControl)
-				.put("OfflinePushInfo", offlinePushInfo)
-				.put("MsgBody", msgBody)
+		GroupMessageSend requestBody = GroupMessageSend.builder()
+				.groupId(groupId)
+				.random(random)
+				.onlineOnlyFlag(onlineOnlyFlag)
+				.forbidCallbackControl(forbidCallbackControl)
+				.offlinePushInfo(offlinePushInfo)
+				.msgBody(msgBody)
 				.build();
 		return super.request(TimApiAddress.SEND_GROUP_MSG, requestBody, GroupMsgSendResponse.class);
 	}
@@ -747,11 +791,11 @@ public class TencentTimGroupOperations extends TencentTimOperations {
 	 * @return 操作结果
 	 */
 	public GroupMsgSendResponse sendGroupProxyMsg(String groupId, String userId, String random, MsgBody... msgBody) {
-		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
-				.put("GroupId", groupId)
-				.put("From_Account", this.getImUserByUserId(userId))
-				.put("Random", random)
-				.put("MsgBody", msgBody)
+		GroupMessageSend requestBody = GroupMessageSend.builder()
+				.groupId(groupId)
+				.account(this.getImUserByUserId(userId))
+				.random(random)
+				.msgBody(msgBody)
 				.build();
 		return super.request(TimApiAddress.SEND_GROUP_MSG, requestBody, GroupMsgSendResponse.class);
 	}
@@ -16,6 +16,7 @@
 package com.tencentcloud.spring.boot.tim;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 import com.google.common.collect.ImmutableMap;
@@ -27,6 +28,14 @@ public class TencentTimNospeakingAsyncOperations extends TencentTimNospeakingOpe
 	public TencentTimNospeakingAsyncOperations(TencentTimTemplate timTemplate) {
 		super(timTemplate);
 	}
+
+	/**
+	 * @param options 请求选项，如超时时间
+	 * @return 使用指定请求选项的操作对象，原对象不受影响
+	 */
+	public TencentTimNospeakingAsyncOperations withOptions(TimRequestOptions options) {
+		return (TencentTimNospeakingAsyncOperations) this.copyWithOptions(options);
+	}
 	
 	/**
 	 * 1、设置全局禁言
@@ -35,15 +44,16 @@ public class TencentTimNospeakingAsyncOperations extends TencentTimNospeakingOpe
 	 * @param c2CmsgNospeakingTime  单聊消息禁言时长，单位为秒，非负整数。等于 0 代表没有被设置禁言；等于最大值4294967295（十六进制 0xFFFFFFFF）代表被设置永久禁言；其它代表该帐号禁言时长，如果等于3600表示该帐号被禁言一小时
 	 * @param groupmsgNospeakingTime 群组消息禁言时长，单位为秒，非负整数。等于0代表没有被设置禁言；等于最大值4294967295（十六进制 0xFFFFFFFF）代表被设置永久禁言；其它代表该帐号禁言时长，如果等于3600表示该帐号被禁言一小时
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncSetNoSpeaking(String userId, Integer c2CmsgNospeakingTime, Integer groupmsgNospeakingTime, 
+	public CompletableFuture<TimActionResponse> asyncSetNoSpeaking(String userId, Integer c2CmsgNospeakingTime, Integer groupmsgNospeakingTime, 
 			Consumer<TimActionResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("Set_Account", this.getImUserByUserId(userId))
 				.put("C2CmsgNospeakingTime", c2CmsgNospeakingTime)
 				.put("GroupmsgNospeakingTime", groupmsgNospeakingTime)
 				.build();
-		this.asyncRequest(TimApiAddress.SET_NO_SPEAKING, requestBody, TimActionResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.SET_NO_SPEAKING, requestBody, TimActionResponse.class, consumer);
 	}
 	
 	/**
@@ -51,12 +61,13 @@ public class TencentTimNospeakingAsyncOperations extends TencentTimNospeakingOpe
 	 * API：https://cloud.tencent.com/document/product/269/4229
 	 * @param userId 查询禁言信息的帐号的业务用户ID
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncGetNoSpeaking(String userId, Consumer<NoSpeakingResponse> consumer) {
+	public CompletableFuture<NoSpeakingResponse> asyncGetNoSpeaking(String userId, Consumer<NoSpeakingResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("Get_Account", this.getImUserByUserId(userId))
 				.build();
-		this.asyncRequest(TimApiAddress.GET_NO_SPEAKING, requestBody, NoSpeakingResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.GET_NO_SPEAKING, requestBody, NoSpeakingResponse.class, consumer);
 	}
 
 }
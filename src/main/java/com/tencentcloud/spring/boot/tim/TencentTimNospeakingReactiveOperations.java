@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2018, hiwepy (https://github.com/hiwepy).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.tencentcloud.spring.boot.tim;
+
+import com.tencentcloud.spring.boot.tim.resp.TimActionResponse;
+import com.tencentcloud.spring.boot.tim.resp.nospeaking.NoSpeakingResponse;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 全局禁言管理（响应式）
+ * 基于 {@link TencentTimNospeakingAsyncOperations} 的非阻塞实现，订阅时才发起请求
+ */
+public class TencentTimNospeakingReactiveOperations {
+	private final TencentTimNospeakingAsyncOperations asyncOps;
+
+	public TencentTimNospeakingReactiveOperations(TencentTimNospeakingAsyncOperations asyncOps) {
+		this.asyncOps = asyncOps;
+	}
+
+	/**
+	 * 1、设置全局禁言
+	 * API：https://cloud.tencent.com/document/product/269/4230
+	 * @param userId 设置禁言配置的帐号的业务用户ID
+	 * @param c2CmsgNospeakingTime  单聊消息禁言时长，单位为秒，非负整数。等于 0 代表没有被设置禁言；等于最大值4294967295（十六进制 0xFFFFFFFF）代表被设置永久禁言；其它代表该帐号禁言时长，如果等于3600表示该帐号被禁言一小时
+	 * @param groupmsgNospeakingTime 群组消息禁言时长，单位为秒，非负整数。等于0代表没有被设置禁言；等于最大值4294967295（十六进制 0xFFFFFFFF）代表被设置永久禁言；其它代表该帐号禁言时长，如果等于3600表示该帐号被禁言一小时
+	 * @return 响应结果
+	 */
+	public Mono<TimActionResponse> setNoSpeaking(String userId, Integer c2CmsgNospeakingTime, Integer groupmsgNospeakingTime) {
+		return TencentTimReactiveTemplate.deferFuture(() -> asyncOps.asyncSetNoSpeaking(userId, c2CmsgNospeakingTime, groupmsgNospeakingTime, null));
+	}
+
+	/**
+	 * 2、查询全局禁言
+	 * API：https://cloud.tencent.com/document/product/269/4229
+	 * @param userId 查询禁言信息的帐号的业务用户ID
+	 * @return 响应结果
+	 */
+	public Mono<NoSpeakingResponse> getNoSpeaking(String userId) {
+		return TencentTimReactiveTemplate.deferFuture(() -> asyncOps.asyncGetNoSpeaking(userId, null));
+	}
+
+}
@@ -15,10 +15,11 @@
  */
 package com.tencentcloud.spring.boot.tim;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.RandomUtils;
 
@@ -35,6 +36,14 @@ public class TencentTimOpenimAsyncOperations extends TencentTimOpenimOperations
 	public TencentTimOpenimAsyncOperations(TencentTimTemplate timTemplate) {
 		super(timTemplate);
 	}
+
+	/**
+	 * @param options 请求选项，如超时时间
+	 * @return 使用指定请求选项的操作对象，原对象不受影响
+	 */
+	public TencentTimOpenimAsyncOperations withOptions(TimRequestOptions options) {
+		return (TencentTimOpenimAsyncOperations) this.copyWithOptions(options);
+	}
 	
 	/**
 	 * 1、单发单聊消息
@@ -45,9 +54,10 @@ public class TencentTimOpenimAsyncOperations extends TencentTimOpenimOperations
 	 * @param userId 业务用户ID
 	 * @param msgBody 消息体
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void sendAsyncMsg(String userId, MsgBody[] msgBody, Consumer<MessageSendResponse> consumer) {
-		this.sendAsyncMsg(userId, false, msgBody, consumer);
+	public CompletableFuture<MessageSendResponse> sendAsyncMsg(String userId, MsgBody[] msgBody, Consumer<MessageSendResponse> consumer) {
+		return this.sendAsyncMsg(userId, false, msgBody, consumer);
 	}
 	
 	/**
@@ -60,9 +70,10 @@ public class TencentTimOpenimAsyncOperations extends TencentTimOpenimOperations
 	 * @param syncOtherMachine 是否希望将消息同步至 From_Account
 	 * @param msgBody 消息体
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void sendAsyncMsg(String userId, boolean syncOtherMachine, MsgBody[] msgBody, Consumer<MessageSendResponse> consumer) {
-		this.sendAsyncMsg(userId, syncOtherMachine, FORBID_CALLBACK_CONTROL, msgBody, consumer);
+	public CompletableFuture<MessageSendResponse> sendAsyncMsg(String userId, boolean syncOtherMachine, MsgBody[] msgBody, Consumer<MessageSendResponse> consumer) {
+		return this.sendAsyncMsg(userId, syncOtherMachine, FORBID_CALLBACK_CONTROL, msgBody, consumer);
 	}
 	
 	/**
@@ -76,19 +87,20 @@ public class TencentTimOpenimAsyncOperations extends TencentTimOpenimOperations
 	 * @param forbidCallbackControl 消息回调禁止开关，只对本条消息有效，ForbidBeforeSendMsgCallback 表示禁止发消息前回调，ForbidAfterSendMsgCallback 表示禁止发消息后回调
 	 * @param msgBody 消息体
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void sendAsyncMsg(String userId, boolean syncOtherMachine, String[] forbidCallbackControl, 
+	public CompletableFuture<MessageSendResponse> sendAsyncMsg(String userId, boolean syncOtherMachine, String[] forbidCallbackControl, 
 			MsgBody[] msgBody, Consumer<MessageSendResponse> consumer) {
-		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
-				.put("SyncOtherMachine", syncOtherMachine ? 1 : 2) // 消息不同步至发送方
-				.put("To_Account", getImUserByUserId(userId))
-				.put("MsgLifeTime", getTimTemplate().getMsgLifeTime())
-				.put("MsgRandom", RandomUtils.nextInt())
-				.put("MsgTimeStamp", Long.valueOf(System.currentTimeMillis() /1000L).intValue())
-				.put("ForbidCallbackControl", forbidCallbackControl)
-				.put("MsgBody", msgBody)
+		Message message = Message.builder()
+				.syncOtherMachine(syncOtherMachine ? 1 : 2) // 若不希望将消息同步至 From_Account，则 SyncOtherMachine 填写2；若希望将消息同步至 From_Account，则 SyncOtherMachine 填写1。
+				.toAccount(getImUserByUserId(userId))
+				.msgLifeTime(Math.toIntExact(getTimTemplate().getMsgLifeTime()))
+				.msgRandom(RandomUtils.nextInt())
+				.msgTimeStamp(Long.valueOf(System.currentTimeMillis() /1000L).intValue())
+				.forbidCallbackControl(forbidCallbackControl == null ? null : Arrays.asList(forbidCallbackControl))
+				.msgBody(Arrays.asList(msgBody))
 				.build();
-		this.asyncRequest(TimApiAddress.SEND_MSG, requestBody, MessageSendResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.SEND_MSG, message, MessageSendResponse.class, consumer);
 	}
 	
 	/**
@@ -101,9 +113,10 @@ public class TencentTimOpenimAsyncOperations extends TencentTimOpenimOperations
 	 * @param userId 业务用户ID
 	 * @param msgBody 消息体
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void sendAsyncMsg(String fromUid, String userId, MsgBody[] msgBody, Consumer<MessageSendResponse> consumer) {
-		this.sendAsyncMsg(fromUid, userId, false, msgBody, consumer);
+	public CompletableFuture<MessageSendResponse> sendAsyncMsg(String fromUid, String userId, MsgBody[] msgBody, Consumer<MessageSendResponse> consumer) {
+		return this.sendAsyncMsg(fromUid, userId, false, msgBody, consumer);
 	}
 
 	/**
@@ -117,10 +130,11 @@ public class TencentTimOpenimAsyncOperations extends TencentTimOpenimOperations
 	 * @param syncOtherMachine 是否希望将消息同步至 From_Account
 	 * @param msgBody 消息体
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void sendAsyncMsg(String fromUid, String userId, boolean syncOtherMachine, 
+	public CompletableFuture<MessageSendResponse> sendAsyncMsg(String fromUid, String userId, boolean syncOtherMachine, 
 			MsgBody[] msgBody, Consumer<MessageSendResponse> consumer) {
-		this.sendAsyncMsg(fromUid, userId, syncOtherMachine, FORBID_CALLBACK_CONTROL, msgBody, consumer);
+		return this.sendAsyncMsg(fromUid, userId, syncOtherMachine, FORBID_CALLBACK_CONTROL, msgBody, consumer);
 	}
 	
 	/**
@@ -135,20 +149,21 @@ public class TencentTimOpenimAsyncOperations extends TencentTimOpenimOperations
 	 * @param forbidCallbackControl 消息回调禁止开关，只对本条消息有效，ForbidBeforeSendMsgCallback 表示禁止发消息前回调，ForbidAfterSendMsgCallback 表示禁止发消息后回调
 	 * @param msgBody 消息体
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void sendAsyncMsg(String fromUid, String userId, boolean syncOtherMachine, String[] forbidCallbackControl, 
+	public CompletableFuture<MessageSendResponse> sendAsyncMsg(String fromUid, String userId, boolean syncOtherMachine, String[] forbidCallbackControl, 
 			MsgBody[] msgBody, Consumer<MessageSendResponse> consumer) {
-		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
-				.put("SyncOtherMachine", syncOtherMachine ? 1 : 2) // 若不希望将消息同步至 From_Account，则 SyncOtherMachine 填写2；若希望将消息同步至 From_Account，则 SyncOtherMachine 填写1。
-				.put("From_Account", getImUserByUserId(fromUid))
-				.put("To_Account", getImUserByUserId(userId))
-				.put("MsgLifeTime", getTimTemplate().getMsgLifeTime())
-				.put("MsgRandom", RandomUtils.nextInt())
-				.put("MsgTimeStamp", Long.valueOf(System.currentTimeMillis() /1000L).intValue())
-				.put("ForbidCallbackControl", FORBID_CALLBACK_CONTROL)
-				.put("MsgBody", msgBody)
+		Message message = Message.builder()
+				.syncOtherMachine(syncOtherMachine ? 1 : 2) // 若不希望将消息同步至 From_Account，则 SyncOtherMachine 填写2；若希望将消息同步至 From_Account，则 SyncOtherMachine 填写1。
+				.fromAccount(getImUserByUserId(fromUid))
+				.toAccount(getImUserByUserId(userId))
+				.msgLifeTime(Math.toIntExact(getTimTemplate().getMsgLifeTime()))
+				.msgRandom(RandomUtils.nextInt())
+				.msgTimeStamp(Long.valueOf(System.currentTimeMillis() /1000L).intValue())
+				.forbidCallbackControl(forbidCallbackControl == null ? null : Arrays.asList(forbidCallbackControl))
+				.msgBody(Arrays.asList(msgBody))
 				.build();
-		this.asyncRequest(TimApiAddress.SEND_MSG, requestBody, MessageSendResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.SEND_MSG, message, MessageSendResponse.class, consumer);
 	}
 	
 	/**
@@ -159,9 +174,10 @@ public class TencentTimOpenimAsyncOperations extends TencentTimOpenimOperations
 	 * API：https://cloud.tencent.com/document/product/269/2282
 	 * @param message 消息实体
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void sendAsyncMsg(Message message, Consumer<MessageSendResponse> consumer) {
-		this.asyncRequest(TimApiAddress.SEND_MSG, message, MessageSendResponse.class, consumer);
+	public CompletableFuture<MessageSendResponse> sendAsyncMsg(Message message, Consumer<MessageSendResponse> consumer) {
+		return this.asyncRequest(TimApiAddress.SEND_MSG, message, MessageSendResponse.class, consumer);
 	}
 	
 	/**
@@ -175,9 +191,10 @@ public class TencentTimOpenimAsyncOperations extends TencentTimOpenimOperations
 	 * @param userIds 业务用户ID
 	 * @param msgBody 消息体
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void sendAsyncMsg(List<String> userIds, MsgBody[] msgBody, Consumer<MessageSendResponse> consumer) {
-		this.sendAsyncMsg(userIds, false, msgBody, consumer);
+	public CompletableFuture<MessageSendResponse> sendAsyncMsg(List<String> userIds, MsgBody[] msgBody, Consumer<MessageSendResponse> consumer) {
+		return this.sendAsyncMsg(userIds, false, msgBody, consumer);
 	}
 	
 	/**
@@ -193,8 +210,8 @@ public class TencentTimOpenimAsyncOperations extends TencentTimOpenimOperations
 	 * @param msgBody 消息体
 	 
 	 */
-	public void sendAsyncMsg(List<String> userIds, boolean syncOtherMachine, MsgBody[] msgBody, Consumer<MessageSendResponse> consumer) {
-		this.sendAsyncMsg(userIds, syncOtherMachine, FORBID_CALLBACK_CONTROL, msgBody, consumer);
+	public CompletableFuture<MessageSendResponse> sendAsyncMsg(List<String> userIds, boolean syncOtherMachine, MsgBody[] msgBody, Consumer<MessageSendResponse> consumer) {
+		return this.sendAsyncMsg(userIds, syncOtherMachine, FORBID_CALLBACK_CONTROL, msgBody, consumer);
 	}
 	
 	/**
@@ -210,20 +227,21 @@ public class TencentTimOpenimAsyncOperations extends TencentTimOpenimOperations
 	 * @param forbidCallbackControl 消息回调禁止开关，只对本条消息有效，ForbidBeforeSendMsgCallback 表示禁止发消息前回调，ForbidAfterSendMsgCallback 表示禁止发消息后回调
 	 * @param msgBody 消息体
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void sendAsyncMsg(List<String> userIds, boolean syncOtherMachine, String[] forbidCallbackControl, 
+	public CompletableFuture<MessageSendResponse> sendAsyncMsg(List<String> userIds, boolean syncOtherMachine, String[] forbidCallbackControl, 
 			MsgBody[] msgBody, Consumer<MessageSendResponse> consumer) {
 		
-		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
-				.put("SyncOtherMachine", syncOtherMachine ? 1 : 2) // 消息不同步至发送方
-				.put("To_Account", userIds.stream().map(uid -> this.getImUserByUserId(uid)).collect(Collectors.toList()))
-				.put("MsgLifeTime", getTimTemplate().getMsgLifeTime())
-				.put("MsgRandom", RandomUtils.nextInt())
-				.put("MsgTimeStamp", Long.valueOf(System.currentTimeMillis() /1000L).intValue())
-				.put("ForbidCallbackControl", forbidCallbackControl)
-				.put("MsgBody", msgBody)
+		BatchMessage message = BatchMessage.builder()
+				.syncOtherMachine(syncOtherMachine ? 1 : 2) // 若不希望将消息同步至 From_Account，则 SyncOtherMachine 填写2；若希望将消息同步至 From_Account，则 SyncOtherMachine 填写1。
+				.toAccount(userIds.stream().map(uid -> this.getImUserByUserId(uid)).toArray(String[]::new))
+				.msgLifeTime(Math.toIntExact(getTimTemplate().getMsgLifeTime()))
+				.msgRandom(RandomUtils.nextInt())
+				.msgTimeStamp(Long.valueOf(System.currentTimeMillis() /1000L).intValue())
+				.forbidCallbackControl(forbidCallbackControl == null ? null : Arrays.asList(forbidCallbackControl))
+				.msgBody(Arrays.asList(msgBody))
 				.build();
-		this.asyncRequest(TimApiAddress.SEND_BATCH_MSG, requestBody, MessageSendResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.SEND_BATCH_MSG, message, MessageSendResponse.class, consumer);
 	}
 	
 	/**
@@ -238,9 +256,10 @@ public class TencentTimOpenimAsyncOperations extends TencentTimOpenimOperations
 	 * @param userIds 业务用户ID
 	 * @param msgBody 消息体
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void sendAsyncMsg(String fromUid, List<String> userIds, MsgBody[] msgBody, Consumer<MessageSendResponse> consumer) {
-		this.sendAsyncMsg(fromUid, userIds, false, msgBody, consumer);
+	public CompletableFuture<MessageSendResponse> sendAsyncMsg(String fromUid, List<String> userIds, MsgBody[] msgBody, Consumer<MessageSendResponse> consumer) {
+		return this.sendAsyncMsg(fromUid, userIds, false, msgBody, consumer);
 	}
 
 	/**
@@ -256,10 +275,11 @@ public class TencentTimOpenimAsyncOperations extends TencentTimOpenimOperations
 	 * @param syncOtherMachine 是否希望将消息同步至 From_Account
 	 * @param msgBody 消息体
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void sendAsyncMsg(String fromUid, List<String> userIds, boolean syncOtherMachine, 
+	public CompletableFuture<MessageSendResponse> sendAsyncMsg(String fromUid, List<String> userIds, boolean syncOtherMachine, 
 			MsgBody[] msgBody, Consumer<MessageSendResponse> consumer) {
-		this.sendAsyncMsg(fromUid, userIds, syncOtherMachine, FORBID_CALLBACK_CONTROL, msgBody, consumer);
+		return this.sendAsyncMsg(fromUid, userIds, syncOtherMachine, FORBID_CALLBACK_CONTROL, msgBody, consumer);
 	}
 	
 	/**
@@ -276,20 +296,21 @@ public class TencentTimOpenimAsyncOperations extends TencentTimOpenimOperations
 	 * @param forbidCallbackControl 消息回调禁止开关，只对本条消息有效，ForbidBeforeSendMsgCallback 表示禁止发消息前回调，ForbidAfterSendMsgCallback 表示禁止发消息后回调
 	 * @param msgBody 消息体
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void sendAsyncMsg(String fromUid, List<String> userIds, boolean syncOtherMachine, String[] forbidCallbackControl,
+	public CompletableFuture<MessageSendResponse> sendAsyncMsg(String fromUid, List<String> userIds, boolean syncOtherMachine, String[] forbidCallbackControl,
 			MsgBody[] msgBody, Consumer<MessageSendResponse> consumer) {
-		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
-				.put("SyncOtherMachine", syncOtherMachine ? 1 : 2) // 若不希望将消息同步至 From_Account，则 SyncOtherMachine 填写2；若希望将消息同步至 From_Account，则 SyncOtherMachine 填写1。
-				.put("From_Account", getImUserByUserId(fromUid))
-				.put("To_Account", userIds.stream().map(uid -> this.getImUserByUserId(uid)).collect(Collectors.toList()))
-				.put("MsgLifeTime", getTimTemplate().getMsgLifeTime())
-				.put("MsgRandom", RandomUtils.nextInt())
-				.put("MsgTimeStamp", Long.valueOf(System.currentTimeMillis() /1000L).intValue())
-				.put("ForbidCallbackControl", FORBID_CALLBACK_CONTROL)
-				.put("MsgBody", msgBody)
+		BatchMessage message = BatchMessage.builder()
+				.syncOtherMachine(syncOtherMachine ? 1 : 2) // 若不希望将消息同步至 From_Account，则 SyncOtherMachine 填写2；若希望将消息同步至 From_Account，则 SyncOtherMachine 填写1。
+				.fromAccount(getImUserByUserId(fromUid))
+				.toAccount(userIds.stream().map(uid -> this.getImUserByUserId(uid)).toArray(String[]::new))
+				.msgLifeTime(Math.toIntExact(getTimTemplate().getMsgLifeTime()))
+				.msgRandom(RandomUtils.nextInt())
+				.msgTimeStamp(Long.valueOf(System.currentTimeMillis() /1000L).intValue())
+				.forbidCallbackControl(forbidCallbackControl == null ? null : Arrays.asList(forbidCallbackControl))
+				.msgBody(Arrays.asList(msgBody))
 				.build();
-		this.asyncRequest(TimApiAddress.SEND_BATCH_MSG, requestBody, MessageSendResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.SEND_BATCH_MSG, message, MessageSendResponse.class, consumer);
 	}
 	
 	/**
@@ -302,9 +323,10 @@ public class TencentTimOpenimAsyncOperations extends TencentTimOpenimOperations
      * API：https://cloud.tencent.com/document/product/269/1612
 	 * @param message 消息实体
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncSendMsg(BatchMessage message, Consumer<MessageSendResponse> consumer) {
-		this.asyncRequest(TimApiAddress.SEND_BATCH_MSG, message, MessageSendResponse.class, consumer);
+	public CompletableFuture<MessageSendResponse> asyncSendMsg(BatchMessage message, Consumer<MessageSendResponse> consumer) {
+		return this.asyncRequest(TimApiAddress.SEND_BATCH_MSG, message, MessageSendResponse.class, consumer);
 	}
     
 	/**
@@ -320,8 +342,9 @@ public class TencentTimOpenimAsyncOperations extends TencentTimOpenimOperations
 	 * @param syncFromOldSystem 是否历史消息导入,该字段只能填1或2，其他值是非法值；1表示实时消息导入，消息加入未读计数；2表示历史消息导入，消息不计入未读
 	 * @param msgBody 消息体
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncImportMsg(String fromUid, String userId, boolean syncFromOldSystem, MsgBody[] msgBody, Consumer<TimActionResponse> consumer) {
+	public CompletableFuture<TimActionResponse> asyncImportMsg(String fromUid, String userId, boolean syncFromOldSystem, MsgBody[] msgBody, Consumer<TimActionResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("SyncFromOldSystem", syncFromOldSystem ? 1 : 2)
 				.put("From_Account", getImUserByUserId(fromUid))
@@ -330,7 +353,7 @@ public class TencentTimOpenimAsyncOperations extends TencentTimOpenimOperations
 				.put("MsgTimeStamp", Long.valueOf(System.currentTimeMillis() /1000L).intValue())
 				.put("MsgBody", msgBody)
 				.build();
-		this.asyncRequest(TimApiAddress.IMPORT_MSG, requestBody, TimActionResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.IMPORT_MSG, requestBody, TimActionResponse.class, consumer);
 	}
 	
 	/**
@@ -342,8 +365,9 @@ public class TencentTimOpenimAsyncOperations extends TencentTimOpenimOperations
 	 * @param minTime 请求的消息时间范围的最小值
 	 * @param maxTime 请求的消息时间范围的最大值
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncGetMsgs(String fromUid, String userId, int maxCnt, int minTime, int maxTime, Consumer<MessageGetResponse> consumer) {
+	public CompletableFuture<MessageGetResponse> asyncGetMsgs(String fromUid, String userId, int maxCnt, int minTime, int maxTime, Consumer<MessageGetResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("From_Account", getImUserByUserId(fromUid))
 				.put("To_Account", getImUserByUserId(userId))
@@ -351,7 +375,7 @@ public class TencentTimOpenimAsyncOperations extends TencentTimOpenimOperations
 				.put("MinTime", minTime)
 				.put("MaxTime", maxTime)
 				.build();
-		this.asyncRequest(TimApiAddress.ADMIN_GET_ROAMMSG, requestBody, MessageGetResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.ADMIN_GET_ROAMMSG, requestBody, MessageGetResponse.class, consumer);
 	}
 	
 	/**
@@ -364,8 +388,9 @@ public class TencentTimOpenimAsyncOperations extends TencentTimOpenimOperations
 	 * @param maxTime 请求的消息时间范围的最大值
 	 * @param lastMsgKey 上一次拉取到的最后一条消息的 MsgKey，续拉时需要填该字段，填写方法见上方 
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncGetMsgs(String fromUid, String userId, int maxCnt, int minTime, int maxTime, String lastMsgKey, Consumer<MessageGetResponse> consumer) {
+	public CompletableFuture<MessageGetResponse> asyncGetMsgs(String fromUid, String userId, int maxCnt, int minTime, int maxTime, String lastMsgKey, Consumer<MessageGetResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("From_Account", getImUserByUserId(fromUid))
 				.put("To_Account", getImUserByUserId(userId))
@@ -374,7 +399,7 @@ public class TencentTimOpenimAsyncOperations extends TencentTimOpenimOperations
 				.put("MaxTime", maxTime)
 				.put("LastMsgKey", lastMsgKey)
 				.build();
-		this.asyncRequest(TimApiAddress.ADMIN_GET_ROAMMSG, requestBody, MessageGetResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.ADMIN_GET_ROAMMSG, requestBody, MessageGetResponse.class, consumer);
 	}
 	
 	/**
@@ -384,14 +409,15 @@ public class TencentTimOpenimAsyncOperations extends TencentTimOpenimOperations
 	 * @param userId 接收方用户ID
 	 * @param msgKey 待撤回消息的唯一标识。该字段由 REST API 接口 单发单聊消息 和 批量发单聊消息 返回
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncWithdrawMsg(String fromUid, String userId, String msgKey, Consumer<TimActionResponse> consumer) {
+	public CompletableFuture<TimActionResponse> asyncWithdrawMsg(String fromUid, String userId, String msgKey, Consumer<TimActionResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("From_Account", getImUserByUserId(fromUid))
 				.put("To_Account", getImUserByUserId(userId))
 				.put("MsgKey", msgKey)
 				.build();
-		this.asyncRequest(TimApiAddress.ADMIN_MSG_WITHDRAW, requestBody, TimActionResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.ADMIN_MSG_WITHDRAW, requestBody, TimActionResponse.class, consumer);
 	}
 	
 	/**
@@ -400,13 +426,14 @@ public class TencentTimOpenimAsyncOperations extends TencentTimOpenimOperations
 	 * @param reportUid 进行消息已读的用户 UserId
 	 * @param peerUid 进行消息已读的单聊会话的另一方用户 UserId
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncReadMsg(String reportUid, String peerUid, Consumer<TimActionResponse> consumer) {
+	public CompletableFuture<TimActionResponse> asyncReadMsg(String reportUid, String peerUid, Consumer<TimActionResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("Report_Account", getImUserByUserId(reportUid))
 				.put("Peer_Account", getImUserByUserId(peerUid))
 				.build();
-		this.asyncRequest(TimApiAddress.ADMIN_SET_MSG_READ, requestBody, TimActionResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.ADMIN_SET_MSG_READ, requestBody, TimActionResponse.class, consumer);
 	}
 	
 }
@@ -15,9 +15,9 @@
  */
 package com.tencentcloud.spring.boot.tim;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.RandomUtils;
 
@@ -85,16 +85,16 @@ public class TencentTimOpenimOperations extends TencentTimOperations {
 	 */
 	public MessageSendResponse sendMsg(String userId, boolean syncOtherMachine, String[] forbidCallbackControl, MsgBody... msgBody) {
 		
-		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
-				.put("SyncOtherMachine", syncOtherMachine ? 1 : 2) // 消息不同步至发送方
-				.put("To_Account", getImUserByUserId(userId))
-				.put("MsgLifeTime", getTimTemplate().getMsgLifeTime())
-				.put("MsgRandom", RandomUtils.nextInt())
-				.put("MsgTimeStamp", Long.valueOf(System.currentTimeMillis() /1000L).intValue())
-				.put("ForbidCallbackControl", forbidCallbackControl)
-				.put("MsgBody", msgBody).build();
-
-		return super.request(TimApiAddress.SEND_MSG, requestBody, MessageSendResponse.class);
+		Message message = Message.builder()
+				.syncOtherMachine(syncOtherMachine ? 1 : 2) // 若不希望将消息同步至 From_Account，则 SyncOtherMachine 填写2；若希望将消息同步至 From_Account，则 SyncOtherMachine 填写1。
+				.toAccount(getImUserByUserId(userId))
+				.msgLifeTime(Math.toIntExact(getTimTemplate().getMsgLifeTime()))
+				.msgRandom(RandomUtils.nextInt())
+				.msgTimeStamp(Long.valueOf(System.currentTimeMillis() /1000L).intValue())
+				.forbidCallbackControl(forbidCallbackControl == null ? null : Arrays.asList(forbidCallbackControl))
+				.msgBody(Arrays.asList(msgBody))
+				.build();
+		return super.request(TimApiAddress.SEND_MSG, message, MessageSendResponse.class);
 	}
 	
 	/**
@@ -142,17 +142,17 @@ public class TencentTimOpenimOperations extends TencentTimOperations {
 	 * @return 操作结果
 	 */
 	public MessageSendResponse sendMsg(String fromUid, String userId, boolean syncOtherMachine, String[] forbidCallbackControl, MsgBody... msgBody) {
-		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
-				.put("SyncOtherMachine", syncOtherMachine ? 1 : 2) // 若不希望将消息同步至 From_Account，则 SyncOtherMachine 填写2；若希望将消息同步至 From_Account，则 SyncOtherMachine 填写1。
-				.put("From_Account", getImUserByUserId(fromUid))
-				.put("To_Account", getImUserByUserId(userId))
-				.put("MsgLifeTime", getTimTemplate().getMsgLifeTime())
-				.put("MsgRandom", RandomUtils.nextInt())
-				.put("MsgTimeStamp", Long.valueOf(System.currentTimeMillis() /1000L).intValue())
-				.put("ForbidCallbackControl", FORBID_CALLBACK_CONTROL)
-				.put("MsgBody", msgBody)
+		Message message = Message.builder()
+				.syncOtherMachine(syncOtherMachine ? 1 : 2) // 若不希望将消息同步至 From_Account，则 SyncOtherMachine 填写2；若希望将消息同步至 From_Account，则 SyncOtherMachine 填写1。
+				.fromAccount(getImUserByUserId(fromUid))
+				.toAccount(getImUserByUserId(userId))
+				.msgLifeTime(Math.toIntExact(getTimTemplate().getMsgLifeTime()))
+				.msgRandom(RandomUtils.nextInt())
+				.msgTimeStamp(Long.valueOf(System.currentTimeMillis() /1000L).intValue())
+				.forbidCallbackControl(forbidCallbackControl == null ? null : Arrays.asList(forbidCallbackControl))
+				.msgBody(Arrays.asList(msgBody))
 				.build();
-		return super.request(TimApiAddress.SEND_MSG, requestBody, MessageSendResponse.class);
+		return super.request(TimApiAddress.SEND_MSG, message, MessageSendResponse.class);
 	}
 	
 	/**
@@ -216,16 +216,16 @@ public class TencentTimOpenimOperations extends TencentTimOperations {
 	 * @return 操作结果
 	 */
 	public MessageSendResponse sendMsg(List<String> userIds, boolean syncOtherMachine, String[] forbidCallbackControl, MsgBody... msgBody) {
-		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
-				.put("SyncOtherMachine", syncOtherMachine ? 1 : 2) // 消息不同步至发送方
-				.put("To_Account", userIds.stream().map(uid -> this.getImUserByUserId(uid)).collect(Collectors.toList()))
-				.put("MsgLifeTime", getTimTemplate().getMsgLifeTime())
-				.put("MsgRandom", RandomUtils.nextInt())
-				.put("MsgTimeStamp", Long.valueOf(System.currentTimeMillis() /1000L).intValue())
-				.put("ForbidCallbackControl", forbidCallbackControl)
-				.put("MsgBody", msgBody)
+		BatchMessage message = BatchMessage.builder()
+				.syncOtherMachine(syncOtherMachine ? 1 : 2) // 若不希望将消息同步至 From_Account，则 SyncOtherMachine 填写2；若希望将消息同步至 From_Account，则 SyncOtherMachine 填写1。
+				.toAccount(userIds.stream().map(uid -> this.getImUserByUserId(uid)).toArray(String[]::new))
+				.msgLifeTime(Math.toIntExact(getTimTemplate().getMsgLifeTime()))
+				.msgRandom(RandomUtils.nextInt())
+				.msgTimeStamp(Long.valueOf(System.currentTimeMillis() /1000L).intValue())
+				.forbidCallbackControl(forbidCallbackControl == null ? null : Arrays.asList(forbidCallbackControl))
+				.msgBody(Arrays.asList(msgBody))
 				.build();
-		return super.request(TimApiAddress.SEND_BATCH_MSG, requestBody, MessageSendResponse.class);
+		return super.request(TimApiAddress.SEND_BATCH_MSG, message, MessageSendResponse.class);
 	}
 	
 	/**
@@ -279,17 +279,17 @@ public class TencentTimOpenimOperations extends TencentTimOperations {
 	 * @return 操作结果
 	 */
 	public MessageSendResponse sendMsg(String fromUid, List<String> userIds, boolean syncOtherMachine, String[] forbidCallbackControl, MsgBody... msgBody) {
-		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
-				.put("SyncOtherMachine", syncOtherMachine ? 1 : 2) // 若不希望将消息同步至 From_Account，则 SyncOtherMachine 填写2；若希望将消息同步至 From_Account，则 SyncOtherMachine 填写1。
-				.put("From_Account", getImUserByUserId(fromUid))
-				.put("To_Account", userIds.stream().map(uid -> this.getImUserByUserId(uid)).collect(Collectors.toList()))
-				.put("MsgLifeTime", getTimTemplate().getMsgLifeTime())
-				.put("MsgRandom", RandomUtils.nextInt())
-				.put("MsgTimeStamp", Long.valueOf(System.currentTimeMillis() /1000L).intValue())
-				.put("ForbidCallbackControl", FORBID_CALLBACK_CONTROL)
-				.put("MsgBody", msgBody)
+		BatchMessage message = BatchMessage.builder()
+				.syncOtherMachine(syncOtherMachine ? 1 : 2) // 若不希望将消息同步至 From_Account，则 SyncOtherMachine 填写2；若希望将消息同步至 From_Account，则 SyncOtherMachine 填写1。
+				.fromAccount(getImUserByUserId(fromUid))
+				.toAccount(userIds.stream().map(uid -> this.getImUserByUserId(uid)).toArray(String[]::new))
+				.msgLifeTime(Math.toIntExact(getTimTemplate().getMsgLifeTime()))
+				.msgRandom(RandomUtils.nextInt())
+				.msgTimeStamp(Long.valueOf(System.currentTimeMillis() /1000L).intValue())
+				.forbidCallbackControl(forbidCallbackControl == null ? null : Arrays.asList(forbidCallbackControl))
+				.msgBody(Arrays.asList(msgBody))
 				.build();
-		return super.request(TimApiAddress.SEND_BATCH_MSG, requestBody, MessageSendResponse.class);
+		return super.request(TimApiAddress.SEND_BATCH_MSG, message, MessageSendResponse.class);
 	}
 	
 	/**
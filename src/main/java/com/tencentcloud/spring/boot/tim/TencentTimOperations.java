@@ -15,34 +15,47 @@
  */
 package com.tencentcloud.spring.boot.tim;
 
-import java.io.IOException;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 import org.springframework.beans.BeanUtils;
 
 import com.tencentcloud.spring.boot.tim.resp.TimActionResponse;
-import com.tencentcloud.spring.boot.utils.CommonHelper;
-
-import lombok.extern.slf4j.Slf4j;
 
 /**
  * Tim 接口集成
  * https://cloud.tencent.com/document/product/269/42440
  */
-@Slf4j
-public abstract class TencentTimOperations {
+public abstract class TencentTimOperations implements Cloneable {
 
 	public static final String PREFIX = "https://console.tim.qq.com";
 	public static final String APPLICATION_JSON_VALUE = "application/json";
 	public static final String APPLICATION_JSON_UTF8_VALUE = "application/json;charset=UTF-8";
 
 	protected TencentTimTemplate timTemplate;
+	protected TimRequestOptions options = TimRequestOptions.DEFAULT;
 
 	public TencentTimOperations(TencentTimTemplate timTemplate) {
 		this.timTemplate = timTemplate;
 	}
 	
+	/**
+	 * 复制当前操作对象并使用指定的请求选项，原对象不受影响
+	 * @param options 请求选项
+	 * @return 新的操作对象
+	 */
+	protected TencentTimOperations copyWithOptions(TimRequestOptions options) {
+		try {
+			TencentTimOperations copy = (TencentTimOperations) super.clone();
+			copy.options = Objects.requireNonNull(options);
+			return copy;
+		} catch (CloneNotSupportedException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+	
 	protected String genUserSig(String identifier) {
 		return timTemplate.genUserSig(identifier);
 	}
@@ -80,39 +93,53 @@ public abstract class TencentTimOperations {
 	}
 	
 	protected <T extends TimActionResponse> T request(TimApiAddress address, Object params, Class<T> cls) {
-		String url = CommonHelper.getRequestUrl(address, getDefaultParams());
-		T res =  getTimTemplate().requestInvoke(url, params, cls);
-		if (res.isSuccess()) {
-			log.info("Tim {} >> Success, url : {}, params : {}, ActionStatus : {}", address.getOpt(), url, params, res.getActionStatus());
-		} else {
-			log.error("Tim {} >> Failure, url : {}, params : {}, ActionStatus : {}, ErrorCode : {}, ErrorInfo : {}", address.getOpt(), url, params, res.getActionStatus(), res.getErrorCode(), res.getErrorInfo());
-		}
-		return res;
+		String url = getTimTemplate().getRequestUrl(address);
+		return getTimTemplate().requestInvoke(address, url, params, cls, options);
 	}
 	
-	protected <T extends TimActionResponse> void asyncRequest(TimApiAddress address, Object params, Class<T> cls, Consumer<T> consumer) {
-		String url = CommonHelper.getRequestUrl(address, getDefaultParams());
-		getTimTemplate().requestAsyncInvoke(url, params, (response) -> {
-			if (response.isSuccessful()) {
-				try {
-					String body = response.body().string();
-					T res = getTimTemplate().readValue(body, cls);
-					if (res.isSuccess()) {
-						log.info("Tim {} >> Success, url : {}, params : {}, ActionStatus : {}, Body : {}", address.getOpt(), url, params, res.getActionStatus(), body);
-					} else {
-						log.error("Tim {} >> Failure, url : {}, params : {}, ActionStatus : {}, ErrorCode : {}, ErrorInfo : {}", url, params, res.getActionStatus(), res.getErrorCode(), res.getErrorInfo());
-					}
-					consumer.accept(res);
-				} catch (IOException e) {
-					log.error("Response Parse Error : {}", e.getMessage());
-					T res = BeanUtils.instantiateClass(cls);
-					consumer.accept(res);
-				}
-            } else {
-            	T res = BeanUtils.instantiateClass(cls);
-				consumer.accept(res);
-            }
+	/**
+	 * 同步请求并流式读取响应中的列表字段，列表元素依次交给回调函数，返回的响应中该列表字段为空
+	 * @param <T> 响应类型
+	 * @param <E> 列表元素类型
+	 * @param address 接口地址
+	 * @param params 请求参数
+	 * @param cls 响应类型
+	 * @param listField 需要流式读取的数组字段名
+	 * @param elementType 列表元素类型
+	 * @param consumer 列表元素处理回调函数
+	 * @return 操作结果
+	 */
+	protected <T extends TimActionResponse, E> T requestStream(TimApiAddress address, Object params, Class<T> cls,
+			String listField, Class<E> elementType, Consumer<? super E> consumer) {
+		String url = getTimTemplate().getRequestUrl(address);
+		return getTimTemplate().requestStreamInvoke(address, url, params, cls, listField, elementType, consumer, options);
+	}
+	
+	/**
+	 * 异步请求：I/O 异常时返回的 Future 以异常结束，回调函数收到 ActionStatus=FAIL 的默认响应；
+	 * 取消返回的 Future 会取消正在进行的 HTTP 请求
+	 * @param <T> 响应类型
+	 * @param address 接口地址
+	 * @param params 请求参数
+	 * @param cls 响应类型
+	 * @param consumer 响应处理回调函数，可为 null
+	 * @return 异步响应结果
+	 */
+	protected <T extends TimActionResponse> CompletableFuture<T> asyncRequest(TimApiAddress address, Object params, Class<T> cls, Consumer<T> consumer) {
+		String url = getTimTemplate().getRequestUrl(address);
+		CompletableFuture<T> future = getTimTemplate().requestAsyncInvoke(address, url, params, cls, options);
+		CompletableFuture<T> result = future.whenComplete((res, ex) -> {
+			if (Objects.nonNull(consumer)) {
+				consumer.accept(Objects.nonNull(ex) ? BeanUtils.instantiateClass(cls) : res);
+			}
+		});
+		// whenComplete 返回的是新的 Future，取消时需要传递给原始请求
+		result.whenComplete((res, ex) -> {
+			if (result.isCancelled()) {
+				future.cancel(true);
+			}
 		});
+		return result;
 	}
 	
 	public TencentTimTemplate getTimTemplate() {
@@ -19,11 +19,13 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.google.common.collect.ImmutableMap;
+import com.tencentcloud.spring.boot.tim.req.profile.PortraitQuery;
 import com.tencentcloud.spring.boot.tim.resp.profile.UserProfilePortraitGetResponse;
 import com.tencentcloud.spring.boot.tim.resp.profile.UserProfilePortraitSetResponse;
 
@@ -33,6 +35,14 @@ public class TencentTimProfileAsyncOperations extends TencentTimProfileOperation
 		super(timTemplate);
 	}
 
+	/**
+	 * @param options 请求选项，如超时时间
+	 * @return 使用指定请求选项的操作对象，原对象不受影响
+	 */
+	public TencentTimProfileAsyncOperations withOptions(TimRequestOptions options) {
+		return (TencentTimProfileAsyncOperations) this.copyWithOptions(options);
+	}
+
 	/**
 	 * 1、设置资料
 	 * API：https://cloud.tencent.com/document/product/269/1640
@@ -40,12 +50,13 @@ public class TencentTimProfileAsyncOperations extends TencentTimProfileOperation
 	 * @param nickname 用户昵称
 	 * @param avatar 用户头像
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncPortraitSet(String userId, String nickname, String avatar, Consumer<UserProfilePortraitSetResponse> consumer) {
+	public CompletableFuture<UserProfilePortraitSetResponse> asyncPortraitSet(String userId, String nickname, String avatar, Consumer<UserProfilePortraitSetResponse> consumer) {
 		Map<String, Object> profile = new HashMap<>();
 		profile.put("Tag_Profile_IM_Nick", nickname);
 		profile.put("Tag_Profile_IM_Image", avatar);
-		this.asyncPortraitSet(userId, profile, consumer);
+		return this.asyncPortraitSet(userId, profile, consumer);
 	}
 	
 	/**
@@ -54,8 +65,9 @@ public class TencentTimProfileAsyncOperations extends TencentTimProfileOperation
 	 * @param userId 业务用户ID
 	 * @param profile 用户资料
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncPortraitSet(String userId, Map<String, Object> profile, Consumer<UserProfilePortraitSetResponse> consumer) {
+	public CompletableFuture<UserProfilePortraitSetResponse> asyncPortraitSet(String userId, Map<String, Object> profile, Consumer<UserProfilePortraitSetResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("From_Account", String.valueOf(userId))
 				.put("ProfileItem", profile.entrySet().stream().map(entry -> {
@@ -65,7 +77,7 @@ public class TencentTimProfileAsyncOperations extends TencentTimProfileOperation
 					return hashMap;
 				}).collect(Collectors.toList()))
 				.build();
-		this.asyncRequest(TimApiAddress.PORTRAIT_SET, requestBody, UserProfilePortraitSetResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.PORTRAIT_SET, requestBody, UserProfilePortraitSetResponse.class, consumer);
 	}
 	
 	/**
@@ -73,8 +85,9 @@ public class TencentTimProfileAsyncOperations extends TencentTimProfileOperation
 	 * API：https://cloud.tencent.com/document/product/269/1639
 	 * @param userIds 业务用户ID数组
 	 * @param consumer 结果处理回调
+	 * @return 异步响应结果
 	 */
-	public void asyncPortraitGet(String[] userIds, Consumer<UserProfilePortraitGetResponse> consumer ) {
+	public CompletableFuture<UserProfilePortraitGetResponse> asyncPortraitGet(String[] userIds, Consumer<UserProfilePortraitGetResponse> consumer) {
 		
 		List<String> tagList = new ArrayList<String>();
 		tagList.add("Tag_Profile_IM_Nick");
@@ -89,7 +102,7 @@ public class TencentTimProfileAsyncOperations extends TencentTimProfileOperation
 		tagList.add("Tag_Profile_IM_Level");
 		tagList.add("Tag_Profile_IM_Role");
 		
-		this.asyncPortraitGet(userIds, tagList, consumer);
+		return this.asyncPortraitGet(userIds, tagList, consumer);
 	}
 	
 	/**
@@ -98,13 +111,14 @@ public class TencentTimProfileAsyncOperations extends TencentTimProfileOperation
 	 * @param userIds 业务用户ID数组
 	 * @param tagList 指定要拉取的资料字段的 Tag，支持的字段有： 标配资料字段，自定义资料字段
 	 * @param consumer 结果处理回调
+	 * @return 异步响应结果
 	 */
-	public void asyncPortraitGet(String[] userIds, List<String> tagList, Consumer<UserProfilePortraitGetResponse> consumer ) {
-		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
-				.put("To_Account", Stream.of(userIds).map(uid -> this.getImUserByUserId(uid)).collect(Collectors.toList()))
-				.put("TagList", tagList)
+	public CompletableFuture<UserProfilePortraitGetResponse> asyncPortraitGet(String[] userIds, List<String> tagList, Consumer<UserProfilePortraitGetResponse> consumer) {
+		PortraitQuery requestBody = PortraitQuery.builder()
+				.toAccount(Stream.of(userIds).map(uid -> this.getImUserByUserId(uid)).collect(Collectors.toList()))
+				.tagList(tagList)
 				.build();
-		this.asyncRequest(TimApiAddress.PORTRAIT_GET, requestBody, UserProfilePortraitGetResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.PORTRAIT_GET, requestBody, UserProfilePortraitGetResponse.class, consumer);
 	}
 	
 }
@@ -26,6 +26,7 @@ import com.google.common.collect.ImmutableMap;
 import com.tencentcloud.spring.boot.tim.req.profile.AdminForbidType;
 import com.tencentcloud.spring.boot.tim.req.profile.AllowType;
 import com.tencentcloud.spring.boot.tim.req.profile.GenderType;
+import com.tencentcloud.spring.boot.tim.req.profile.PortraitQuery;
 import com.tencentcloud.spring.boot.tim.req.profile.TagProfile;
 import com.tencentcloud.spring.boot.tim.resp.profile.UserProfilePortraitGetResponse;
 import com.tencentcloud.spring.boot.tim.resp.profile.UserProfilePortraitSetResponse;
@@ -165,9 +166,10 @@ public class TencentTimProfileOperations extends TencentTimOperations {
 	 * @return 操作结果
 	 */
 	public UserProfilePortraitGetResponse portraitGet(List<String> tagList, String... userIds) {
-		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
-				.put("To_Account", Stream.of(userIds).map(uid -> this.getImUserByUserId(uid)).collect(Collectors.toList()))
-				.put("TagList", tagList).build();
+		PortraitQuery requestBody = PortraitQuery.builder()
+				.toAccount(Stream.of(userIds).map(uid -> this.getImUserByUserId(uid)).collect(Collectors.toList()))
+				.tagList(tagList)
+				.build();
 		return super.request(TimApiAddress.PORTRAIT_GET, requestBody, UserProfilePortraitGetResponse.class);
 	}
 	
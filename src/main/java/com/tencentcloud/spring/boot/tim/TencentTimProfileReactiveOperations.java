@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2018, hiwepy (https://github.com/hiwepy).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.tencentcloud.spring.boot.tim;
+
+import java.util.List;
+import java.util.Map;
+
+import com.tencentcloud.spring.boot.tim.resp.profile.UserProfilePortraitGetResponse;
+import com.tencentcloud.spring.boot.tim.resp.profile.UserProfilePortraitSetResponse;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 资料管理（响应式）
+ * 基于 {@link TencentTimProfileAsyncOperations} 的非阻塞实现，订阅时才发起请求
+ */
+public class TencentTimProfileReactiveOperations {
+	private final TencentTimProfileAsyncOperations asyncOps;
+
+	public TencentTimProfileReactiveOperations(TencentTimProfileAsyncOperations asyncOps) {
+		this.asyncOps = asyncOps;
+	}
+
+	/**
+	 * 1、设置资料
+	 * API：https://cloud.tencent.com/document/product/269/1640
+	 * @param userId 业务用户ID
+	 * @param nickname 用户昵称
+	 * @param avatar 用户头像
+	 * @return 响应结果
+	 */
+	public Mono<UserProfilePortraitSetResponse> portraitSet(String userId, String nickname, String avatar) {
+		return TencentTimReactiveTemplate.deferFuture(() -> asyncOps.asyncPortraitSet(userId, nickname, avatar, null));
+	}
+
+	/**
+	 * 2、设置资料
+	 * API：https://cloud.tencent.com/document/product/269/1640
+	 * @param userId 业务用户ID
+	 * @param profile 用户资料
+	 * @return 响应结果
+	 */
+	public Mono<UserProfilePortraitSetResponse> portraitSet(String userId, Map<String, Object> profile) {
+		return TencentTimReactiveTemplate.deferFuture(() -> asyncOps.asyncPortraitSet(userId, profile, null));
+	}
+
+	/**
+	 * 3、拉取标配资料
+	 * API：https://cloud.tencent.com/document/product/269/1639
+	 * @param userIds 业务用户ID数组
+	 * @return 响应结果
+	 */
+	public Mono<UserProfilePortraitGetResponse> portraitGet(String[] userIds) {
+		return TencentTimReactiveTemplate.deferFuture(() -> asyncOps.asyncPortraitGet(userIds, null));
+	}
+
+	/**
+	 * 3、拉取资料
+	 * API：https://cloud.tencent.com/document/product/269/1639
+	 * @param userIds 业务用户ID数组
+	 * @param tagList 指定要拉取的资料字段的 Tag，支持的字段有： 标配资料字段，自定义资料字段
+	 * @return 响应结果
+	 */
+	public Mono<UserProfilePortraitGetResponse> portraitGet(String[] userIds, List<String> tagList) {
+		return TencentTimReactiveTemplate.deferFuture(() -> asyncOps.asyncPortraitGet(userIds, tagList, null));
+	}
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2018, hiwepy (https://github.com/hiwepy).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.tencentcloud.spring.boot.tim;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Tim 接口集成（响应式）
+ * 与 {@link TencentTimTemplate} 共享同一个 OkHttp 客户端，请求通过异步调度执行，不阻塞调用线程
+ */
+public class TencentTimReactiveTemplate {
+
+	private final TencentTimAccountReactiveOperations accountOps;
+	private final TencentTimAllMemberPushReactiveOperations pushOps;
+	private final TencentTimGroupReactiveOperations groupOps;
+	private final TencentTimNospeakingReactiveOperations noSpeakingOps;
+	private final TencentTimOpenimReactiveOperations imOps;
+	private final TencentTimProfileReactiveOperations profileOps;
+	private final TencentTimSnsReactiveOperations snsOps;
+
+	public TencentTimReactiveTemplate(TencentTimTemplate timTemplate) {
+		this.accountOps = new TencentTimAccountReactiveOperations(timTemplate.opsForAccount());
+		this.pushOps = new TencentTimAllMemberPushReactiveOperations(timTemplate.opsForPush());
+		this.groupOps = new TencentTimGroupReactiveOperations(timTemplate.opsForGroup());
+		this.noSpeakingOps = new TencentTimNospeakingReactiveOperations(timTemplate.opsForNoSpeaking());
+		this.imOps = new TencentTimOpenimReactiveOperations(timTemplate.opsForOpenim());
+		this.profileOps = new TencentTimProfileReactiveOperations(timTemplate.opsForProfile());
+		this.snsOps = new TencentTimSnsReactiveOperations(timTemplate.opsForSns());
+	}
+
+	public TencentTimAccountReactiveOperations opsForAccount() {
+		return accountOps;
+	}
+
+	public TencentTimAllMemberPushReactiveOperations opsForPush() {
+		return pushOps;
+	}
+
+	public TencentTimGroupReactiveOperations opsForGroup() {
+		return groupOps;
+	}
+
+	public TencentTimNospeakingReactiveOperations opsForNoSpeaking() {
+		return noSpeakingOps;
+	}
+
+	public TencentTimOpenimReactiveOperations opsForOpenim() {
+		return imOps;
+	}
+
+	public TencentTimProfileReactiveOperations opsForProfile() {
+		return profileOps;
+	}
+
+	public TencentTimSnsReactiveOperations opsForSns() {
+		return snsOps;
+	}
+
+	/*
+	 * 订阅时才发起异步请求；订阅被取消时同时取消请求的 Future，以便释放并发许可并中断进行中的 HTTP 请求
+	 */
+	static <T> Mono<T> deferFuture(Supplier<CompletableFuture<T>> supplier) {
+		return Mono.defer(() -> {
+			CompletableFuture<T> future = supplier.get();
+			return Mono.fromFuture(future).doOnCancel(() -> future.cancel(true));
+		});
+	}
+
+}
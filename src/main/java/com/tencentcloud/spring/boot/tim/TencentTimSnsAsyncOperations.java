@@ -18,6 +18,7 @@ package com.tencentcloud.spring.boot.tim;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -48,6 +49,14 @@ public class TencentTimSnsAsyncOperations extends TencentTimSnsOperations {
 		super(timTemplate);
 	}
 
+	/**
+	 * @param options 请求选项，如超时时间
+	 * @return 使用指定请求选项的操作对象，原对象不受影响
+	 */
+	public TencentTimSnsAsyncOperations withOptions(TimRequestOptions options) {
+		return (TencentTimSnsAsyncOperations) this.copyWithOptions(options);
+	}
+
 	/**
 	 * 1、添加好友
 	 * API：https://cloud.tencent.com/document/product/269/1643
@@ -56,8 +65,9 @@ public class TencentTimSnsAsyncOperations extends TencentTimSnsOperations {
 	 * @param forceAdd 是否强制相互添加好友
 	 * @param friends 添加的好友数组
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncAddFriend(String userId, String addType, boolean forceAdd, FriendAddItem[] friends, Consumer<FriendAddResponse> consumer) {
+	public CompletableFuture<FriendAddResponse> asyncAddFriend(String userId, String addType, boolean forceAdd, FriendAddItem[] friends, Consumer<FriendAddResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("From_Account", this.getImUserByUserId(userId))
 				.put("AddFriendItem", Stream.of(friends).map(friend -> {
@@ -67,7 +77,7 @@ public class TencentTimSnsAsyncOperations extends TencentTimSnsOperations {
 				.put("AddType", addType)
 				.put("ForceAddFlags", forceAdd ? 1 : 0)
 				.build();
-		this.asyncRequest(TimApiAddress.FRIEND_ADD, requestBody, FriendAddResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.FRIEND_ADD, requestBody, FriendAddResponse.class, consumer);
 	}
 	
 	/**
@@ -76,8 +86,9 @@ public class TencentTimSnsAsyncOperations extends TencentTimSnsOperations {
 	 * @param userId 业务用户ID
 	 * @param friends 导入的好友数组
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncImportFriend(String userId, FriendImportItem[] friends, Consumer<FriendImportResponse> consumer) {
+	public CompletableFuture<FriendImportResponse> asyncImportFriend(String userId, FriendImportItem[] friends, Consumer<FriendImportResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("From_Account", this.getImUserByUserId(userId))
 				.put("AddFriendItem", Stream.of(friends).map(friend -> {
@@ -85,7 +96,7 @@ public class TencentTimSnsAsyncOperations extends TencentTimSnsOperations {
 					return friend;
 				}).collect(Collectors.toList()))
 				.build();
-		this.asyncRequest(TimApiAddress.FRIEND_IMPORT, requestBody, FriendImportResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.FRIEND_IMPORT, requestBody, FriendImportResponse.class, consumer);
 	}
 	
 
@@ -95,8 +106,9 @@ public class TencentTimSnsAsyncOperations extends TencentTimSnsOperations {
 	 * @param userId 业务用户ID
 	 * @param friends 需要更新的好友对象数组
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncUpdateFriend(String userId, FriendUpdateItem[] friends, Consumer<FriendUpdateResponse> consumer) {
+	public CompletableFuture<FriendUpdateResponse> asyncUpdateFriend(String userId, FriendUpdateItem[] friends, Consumer<FriendUpdateResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("From_Account", this.getImUserByUserId(userId))
 				.put("UpdateItem", Stream.of(friends).map(friend -> {
@@ -104,7 +116,7 @@ public class TencentTimSnsAsyncOperations extends TencentTimSnsOperations {
 					return friend;
 				}).collect(Collectors.toList()))
 				.build();
-		this.asyncRequest(TimApiAddress.FRIEND_UPDATE, requestBody, FriendUpdateResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.FRIEND_UPDATE, requestBody, FriendUpdateResponse.class, consumer);
 	}
 	
 	/**
@@ -116,8 +128,9 @@ public class TencentTimSnsAsyncOperations extends TencentTimSnsOperations {
 	 * 	双向删除好友 	Delete_Type_Both 	将 To_Account 从 From_Account 的好友表中删除，同时将 From_Account 从 To_Account 的好友表中删除
 	 * @param friends 待删除的好友的 UserID 列表，单次请求的 To_Account 数不得超过1000
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncDeleteFriend(String userId, String deleteType, String[] friends, Consumer<FriendDeleteResponse> consumer) {
+	public CompletableFuture<FriendDeleteResponse> asyncDeleteFriend(String userId, String deleteType, String[] friends, Consumer<FriendDeleteResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("From_Account", this.getImUserByUserId(userId))
 				.put("To_Account", Stream.of(friends).map(friend -> {
@@ -125,7 +138,7 @@ public class TencentTimSnsAsyncOperations extends TencentTimSnsOperations {
 				}).collect(Collectors.toList()))
 				.put("DeleteType", deleteType)
 				.build();
-		this.asyncRequest(TimApiAddress.FRIEND_DELETE, requestBody, FriendDeleteResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.FRIEND_DELETE, requestBody, FriendDeleteResponse.class, consumer);
 	}
 
 	/**
@@ -136,13 +149,14 @@ public class TencentTimSnsAsyncOperations extends TencentTimSnsOperations {
 	 * 	单向删除好友 	Delete_Type_Single 	只将 To_Account 从 From_Account 的好友表中删除，但不会将 From_Account 从 To_Account 的好友表中删除
 	 * 	双向删除好友 	Delete_Type_Both 	将 To_Account 从 From_Account 的好友表中删除，同时将 From_Account 从 To_Account 的好友表中删除
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncDeleteAllFriend(String userId, String deleteType, Consumer<FriendDeleteAllResponse> consumer) {
+	public CompletableFuture<FriendDeleteAllResponse> asyncDeleteAllFriend(String userId, String deleteType, Consumer<FriendDeleteAllResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("From_Account", this.getImUserByUserId(userId))
 				.put("DeleteType", deleteType)
 				.build();
-		this.asyncRequest(TimApiAddress.FRIEND_DELETE_ALL, requestBody, FriendDeleteAllResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.FRIEND_DELETE_ALL, requestBody, FriendDeleteAllResponse.class, consumer);
 	}
 	
 	/**
@@ -152,8 +166,9 @@ public class TencentTimSnsAsyncOperations extends TencentTimSnsOperations {
 	 * @param checkType 校验模式； https://cloud.tencent.com/document/product/269/1501#.E6.A0.A1.E9.AA.8C.E5.A5.BD.E5.8F.8B
 	 * @param friends 待删除的好友的 UserID 列表，单次请求的 To_Account 数不得超过1000
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncCheckFriend(String userId, String checkType ,String[] friends, Consumer<FriendCheckResponse> consumer) {
+	public CompletableFuture<FriendCheckResponse> asyncCheckFriend(String userId, String checkType ,String[] friends, Consumer<FriendCheckResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("From_Account", this.getImUserByUserId(userId))
 				.put("To_Account", Stream.of(friends).map(friend -> {
@@ -161,7 +176,7 @@ public class TencentTimSnsAsyncOperations extends TencentTimSnsOperations {
 				}).collect(Collectors.toList()))
 				.put("CheckType", checkType)
 				.build();
-		this.asyncRequest(TimApiAddress.FRIEND_CHECK, requestBody, FriendCheckResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.FRIEND_CHECK, requestBody, FriendCheckResponse.class, consumer);
 	}
 	
 	/**
@@ -172,15 +187,16 @@ public class TencentTimSnsAsyncOperations extends TencentTimSnsOperations {
 	 * @param standardSequence 上次拉好友数据时返回的 StandardSequence，如果 StandardSequence 字段的值与后台一致，后台不会返回标配好友数据
 	 * @param customSequence 上次拉好友数据时返回的 CustomSequence，如果 CustomSequence 字段的值与后台一致，后台不会返回自定义好友数据
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncGetFriends(String userId, Integer startIndex, Integer standardSequence, Integer customSequence, Consumer<FriendGetResponse> consumer) {
+	public CompletableFuture<FriendGetResponse> asyncGetFriends(String userId, Integer startIndex, Integer standardSequence, Integer customSequence, Consumer<FriendGetResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("From_Account", this.getImUserByUserId(userId))
 				.put("StartIndex", startIndex)
 				.put("StandardSequence", standardSequence)
 				.put("CustomSequence", customSequence)
 				.build();
-		this.asyncRequest(TimApiAddress.FRIEND_GET, requestBody, FriendGetResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.FRIEND_GET, requestBody, FriendGetResponse.class, consumer);
 	}
 	
 	/**
@@ -189,8 +205,9 @@ public class TencentTimSnsAsyncOperations extends TencentTimSnsOperations {
 	 * @param fromUserId 业务用户ID
 	 * @param userIds 业务用户ID数组
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncGetFriends(String fromUserId, String[] userIds, Consumer<FriendGetListResponse> consumer) {
+	public CompletableFuture<FriendGetListResponse> asyncGetFriends(String fromUserId, String[] userIds, Consumer<FriendGetListResponse> consumer) {
 		List<String> tagList = new ArrayList<String>();
 		tagList.add("Tag_Profile_IM_Nick");
 		tagList.add("Tag_Profile_IM_Gender");
@@ -203,7 +220,7 @@ public class TencentTimSnsAsyncOperations extends TencentTimSnsOperations {
 		tagList.add("Tag_Profile_IM_AdminForbidType");
 		tagList.add("Tag_Profile_IM_Level");
 		tagList.add("Tag_Profile_IM_Role");
-		this.asyncGetFriends(fromUserId, tagList, userIds, consumer);
+		return this.asyncGetFriends(fromUserId, tagList, userIds, consumer);
 	}
 	
 	/**
@@ -213,14 +230,15 @@ public class TencentTimSnsAsyncOperations extends TencentTimSnsOperations {
 	 * @param tagList 指定要拉取的资料字段的 Tag，支持的字段有： 标配资料字段，自定义资料字段
 	 * @param userIds 业务用户ID数组
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncGetFriends(String fromUserId, List<String> tagList, String[] userIds, Consumer<FriendGetListResponse> consumer) {
+	public CompletableFuture<FriendGetListResponse> asyncGetFriends(String fromUserId, List<String> tagList, String[] userIds, Consumer<FriendGetListResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("From_Account", this.getImUserByUserId(fromUserId))
 				.put("To_Account", Stream.of(userIds).map(uid -> this.getImUserByUserId(uid)).collect(Collectors.toList()))
 				.put("TagList", tagList)
 				.build();
-		this.asyncRequest(TimApiAddress.FRIEND_GET, requestBody, FriendGetListResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.FRIEND_GET, requestBody, FriendGetListResponse.class, consumer);
 	}
 
 	/**
@@ -230,13 +248,14 @@ public class TencentTimSnsAsyncOperations extends TencentTimSnsOperations {
 	 * @param fromUserId 需要添加该 UserID 的黑名单
 	 * @param userIds 待添加的黑名单的 UserID 列表，单次请求的 To_Account 数不得超过1000
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncAddBlackList(String fromUserId, String[] userIds, Consumer<BlacklistAddResponse> consumer) {
+	public CompletableFuture<BlacklistAddResponse> asyncAddBlackList(String fromUserId, String[] userIds, Consumer<BlacklistAddResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("From_Account", this.getImUserByUserId(fromUserId))
 				.put("To_Account", Stream.of(userIds).map(uid -> this.getImUserByUserId(uid)).collect(Collectors.toList()))
 				.build();
-		this.asyncRequest(TimApiAddress.BLACK_LIST_ADD, requestBody, BlacklistAddResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.BLACK_LIST_ADD, requestBody, BlacklistAddResponse.class, consumer);
 	}
 	
 	/**
@@ -246,13 +265,14 @@ public class TencentTimSnsAsyncOperations extends TencentTimSnsOperations {
 	 * @param fromUserId 需要删除该 UserID 的黑名单
 	 * @param userIds 待删除的黑名单的 UserID 列表，单次请求的 To_Account 数不得超过1000
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncDeleteBlackList(String fromUserId, String[] userIds, Consumer<BlacklistDeleteResponse> consumer) {
+	public CompletableFuture<BlacklistDeleteResponse> asyncDeleteBlackList(String fromUserId, String[] userIds, Consumer<BlacklistDeleteResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("From_Account", this.getImUserByUserId(fromUserId))
 				.put("To_Account", Stream.of(userIds).map(uid -> this.getImUserByUserId(uid)).collect(Collectors.toList()))
 				.build();
-		this.asyncRequest(TimApiAddress.BLACK_LIST_DELETE, requestBody, BlacklistDeleteResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.BLACK_LIST_DELETE, requestBody, BlacklistDeleteResponse.class, consumer);
 	}
 	
 	/**
@@ -264,15 +284,16 @@ public class TencentTimSnsAsyncOperations extends TencentTimSnsOperations {
 	 * @param maxLimited 每页最多拉取的黑名单数
 	 * @param lastSequence 上一次拉黑名单时后台返回给客户端的 Seq，初次拉取时为0
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncGetBlackList(String userId, Integer startIndex, Integer maxLimited, Integer lastSequence, Consumer<BlacklistGetResponse> consumer) {
+	public CompletableFuture<BlacklistGetResponse> asyncGetBlackList(String userId, Integer startIndex, Integer maxLimited, Integer lastSequence, Consumer<BlacklistGetResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("From_Account", this.getImUserByUserId(userId))
 				.put("StartIndex", startIndex)
 				.put("MaxLimited", maxLimited)
 				.put("LastSequence", lastSequence)
 				.build();
-		this.asyncRequest(TimApiAddress.BLACK_LIST_GET, requestBody, BlacklistGetResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.BLACK_LIST_GET, requestBody, BlacklistGetResponse.class, consumer);
 	}
 	
 	/**
@@ -283,14 +304,15 @@ public class TencentTimSnsAsyncOperations extends TencentTimSnsOperations {
 	 * @param fromUserId 需要校验该 UserID 的黑名单
 	 * @param userIds 待校验的黑名单的 UserID 列表，单次请求的 To_Account 数不得超过1000
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncCheckBlackList(String checkType, String fromUserId, String[] userIds, Consumer<BlacklistCheckResponse> consumer) {
+	public CompletableFuture<BlacklistCheckResponse> asyncCheckBlackList(String checkType, String fromUserId, String[] userIds, Consumer<BlacklistCheckResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("From_Account", this.getImUserByUserId(fromUserId))
 				.put("To_Account", Stream.of(userIds).map(uid -> this.getImUserByUserId(uid)).collect(Collectors.toList()))
 				.put("CheckType", checkType)
 				.build();
-		this.asyncRequest(TimApiAddress.BLACK_LIST_CHECK, requestBody, BlacklistCheckResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.BLACK_LIST_CHECK, requestBody, BlacklistCheckResponse.class, consumer);
 	}
 	
 	/**
@@ -300,13 +322,14 @@ public class TencentTimSnsAsyncOperations extends TencentTimSnsOperations {
 	 * @param fromUserId 需要为该 UserID 添加新分组
 	 * @param groupNames 新增分组列表
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncAddGroup(String fromUserId, String[] groupNames, Consumer<GroupAddResponse> consumer) {
+	public CompletableFuture<GroupAddResponse> asyncAddGroup(String fromUserId, String[] groupNames, Consumer<GroupAddResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("From_Account", this.getImUserByUserId(fromUserId))
 				.put("GroupName", groupNames)
 				.build();
-		this.asyncRequest(TimApiAddress.GROUP_ADD, requestBody, GroupAddResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.GROUP_ADD, requestBody, GroupAddResponse.class, consumer);
 	}
 	
 	/**
@@ -317,14 +340,15 @@ public class TencentTimSnsAsyncOperations extends TencentTimSnsOperations {
 	 * @param groupNames 新增分组列表
 	 * @param userIds 需要加入新增分组的好友的 UserID 列表
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncAddGroup(String fromUserId, String[] groupNames, String[] userIds, Consumer<GroupAddResponse> consumer) {
+	public CompletableFuture<GroupAddResponse> asyncAddGroup(String fromUserId, String[] groupNames, String[] userIds, Consumer<GroupAddResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("From_Account", this.getImUserByUserId(fromUserId))
 				.put("GroupName", groupNames)
 				.put("To_Account", Stream.of(userIds).map(uid -> this.getImUserByUserId(uid)).collect(Collectors.toList()))
 				.build();
-		this.asyncRequest(TimApiAddress.GROUP_ADD, requestBody, GroupAddResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.GROUP_ADD, requestBody, GroupAddResponse.class, consumer);
 	}
 	
 	/**
@@ -334,13 +358,14 @@ public class TencentTimSnsAsyncOperations extends TencentTimSnsOperations {
 	 * @param fromUserId 需要删除该 UserID 的黑名单
 	 * @param groupNames 要删除的分组列表
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncDeleteGroups(String fromUserId, String[] groupNames, Consumer<GroupDeleteResponse> consumer) {
+	public CompletableFuture<GroupDeleteResponse> asyncDeleteGroups(String fromUserId, String[] groupNames, Consumer<GroupDeleteResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("From_Account", this.getImUserByUserId(fromUserId))
 				.put("GroupName", groupNames)
 				.build();
-		this.asyncRequest(TimApiAddress.GROUP_DELETE, requestBody, GroupDeleteResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.GROUP_DELETE, requestBody, GroupDeleteResponse.class, consumer);
 	}
 	
 	/**
@@ -351,14 +376,15 @@ public class TencentTimSnsAsyncOperations extends TencentTimSnsOperations {
 	 * @param lastSequence 上一次拉取分组时后台返回给客户端的 Seq，初次拉取时为0，只有 GroupName 为空时有效
 	 * @param groupNames 要拉取的分组名称
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncGetGroups(String userId, Integer lastSequence, String[] groupNames, Consumer<GroupGetResponse> consumer) {
+	public CompletableFuture<GroupGetResponse> asyncGetGroups(String userId, Integer lastSequence, String[] groupNames, Consumer<GroupGetResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("From_Account", this.getImUserByUserId(userId))
 				.put("LastSequence", lastSequence)
 				.put("GroupName", groupNames)
 				.build();
-		this.asyncRequest(TimApiAddress.GROUP_GET, requestBody, GroupGetResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.GROUP_GET, requestBody, GroupGetResponse.class, consumer);
 	}
 	
 	/**
@@ -370,15 +396,16 @@ public class TencentTimSnsAsyncOperations extends TencentTimSnsOperations {
 	 * @param needFriend 是否需要拉取分组下的 User 列表, Need_Friend_Type_Yes: 需要拉取, 不填时默认不拉取, 只有 GroupName 为空时有效
 	 * @param groupNames 要拉取的分组名称
 	 * @param consumer 响应处理回调函数
+	 * @return 异步响应结果
 	 */
-	public void asyncGetGroups(String userId, Integer lastSequence, String needFriend, String[] groupNames, Consumer<GroupGetResponse> consumer) {
+	public CompletableFuture<GroupGetResponse> asyncGetGroups(String userId, Integer lastSequence, String needFriend, String[] groupNames, Consumer<GroupGetResponse> consumer) {
 		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
 				.put("From_Account", this.getImUserByUserId(userId))
 				.put("LastSequence", lastSequence)
 				.put("NeedFriend", needFriend)
 				.put("GroupName", groupNames)
 				.build();
-		this.asyncRequest(TimApiAddress.GROUP_GET, requestBody, GroupGetResponse.class, consumer);
+		return this.asyncRequest(TimApiAddress.GROUP_GET, requestBody, GroupGetResponse.class, consumer);
 	}
 	
 }
@@ -3,6 +3,7 @@ package com.tencentcloud.spring.boot.tim;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -13,6 +14,7 @@ import com.tencentcloud.spring.boot.tim.req.sns.FriendUpdateItem;
 import com.tencentcloud.spring.boot.tim.resp.sns.BlacklistAddResponse;
 import com.tencentcloud.spring.boot.tim.resp.sns.BlacklistCheckResponse;
 import com.tencentcloud.spring.boot.tim.resp.sns.BlacklistDeleteResponse;
+import com.tencentcloud.spring.boot.tim.resp.sns.BlackListItem;
 import com.tencentcloud.spring.boot.tim.resp.sns.BlacklistGetResponse;
 import com.tencentcloud.spring.boot.tim.resp.sns.FriendAddResponse;
 import com.tencentcloud.spring.boot.tim.resp.sns.FriendCheckResponse;
@@ -171,6 +173,28 @@ public class TencentTimSnsOperations extends TencentTimOperations {
 		return super.request(TimApiAddress.FRIEND_GET, requestBody, FriendGetResponse.class);
 	}
 	
+	/**
+	 * 7、拉取好友（流式读取）：好友数据在读取响应时依次回调，不在内存中保留整个列表
+	 * API：https://cloud.tencent.com/document/product/269/1647
+	 * @param userId 业务用户ID
+	 * @param startIndex 分页的起始位置
+	 * @param standardSequence 上次拉好友数据时返回的 StandardSequence，如果 StandardSequence 字段的值与后台一致，后台不会返回标配好友数据
+	 * @param customSequence 上次拉好友数据时返回的 CustomSequence，如果 CustomSequence 字段的值与后台一致，后台不会返回自定义好友数据
+	 * @param consumer 好友数据处理回调函数
+	 * @return 操作结果，不含 UserDataItem
+	 */
+	public FriendGetResponse forEachFriend(String userId, Integer startIndex, Integer standardSequence, Integer customSequence,
+			Consumer<FriendGetResponse.UserDataItem> consumer) {
+		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
+				.put("From_Account", this.getImUserByUserId(userId))
+				.put("StartIndex", startIndex)
+				.put("StandardSequence", standardSequence)
+				.put("CustomSequence", customSequence)
+				.build();
+		return super.requestStream(TimApiAddress.FRIEND_GET, requestBody, FriendGetResponse.class, "UserDataItem",
+				FriendGetResponse.UserDataItem.class, consumer);
+	}
+	
 	/**
 	 * 7、拉取好友
 	 * API：https://cloud.tencent.com/document/product/269/1647
@@ -263,6 +287,28 @@ public class TencentTimSnsOperations extends TencentTimOperations {
 		return super.request(TimApiAddress.BLACK_LIST_GET, requestBody, BlacklistGetResponse.class);
 	}
 	
+	/**
+	 * 11、拉取黑名单（流式读取）：黑名单在读取响应时依次回调，不在内存中保留整个列表
+	 * API：https://cloud.tencent.com/document/product/269/3722
+	 * @param userId 需要拉取该 UserID 的黑名单
+	 * @param startIndex 拉取的起始位置
+	 * @param maxLimited 每页最多拉取的黑名单数
+	 * @param lastSequence 上一次拉黑名单时后台返回给客户端的 Seq，初次拉取时为0
+	 * @param consumer 黑名单处理回调函数
+	 * @return 操作结果，不含 BlackListItem
+	 */
+	public BlacklistGetResponse forEachBlackListItem(String userId, Integer startIndex, Integer maxLimited, Integer lastSequence,
+			Consumer<BlackListItem> consumer) {
+		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
+				.put("From_Account", this.getImUserByUserId(userId))
+				.put("StartIndex", startIndex)
+				.put("MaxLimited", maxLimited)
+				.put("LastSequence", lastSequence)
+				.build();
+		return super.requestStream(TimApiAddress.BLACK_LIST_GET, requestBody, BlacklistGetResponse.class, "BlackListItem",
+				BlackListItem.class, consumer);
+	}
+	
 	/**
 	 * 12、校验黑名单
 	 * API：https://cloud.tencent.com/document/product/269/3725
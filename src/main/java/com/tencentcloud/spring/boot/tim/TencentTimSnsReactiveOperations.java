@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2018, hiwepy (https://github.com/hiwepy).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.tencentcloud.spring.boot.tim;
+
+import java.util.List;
+
+import com.tencentcloud.spring.boot.tim.req.sns.FriendAddItem;
+import com.tencentcloud.spring.boot.tim.req.sns.FriendImportItem;
+import com.tencentcloud.spring.boot.tim.req.sns.FriendUpdateItem;
+import com.tencentcloud.spring.boot.tim.resp.sns.BlacklistAddResponse;
+import com.tencentcloud.spring.boot.tim.resp.sns.BlacklistCheckResponse;
+import com.tencentcloud.spring.boot.tim.resp.sns.BlacklistDeleteResponse;
+import com.tencentcloud.spring.boot.tim.resp.sns.BlacklistGetResponse;
+import com.tencentcloud.spring.boot.tim.resp.sns.FriendAddResponse;
+import com.tencentcloud.spring.boot.tim.resp.sns.FriendCheckResponse;
+import com.tencentcloud.spring.boot.tim.resp.sns.FriendDeleteAllResponse;
+import com.tencentcloud.spring.boot.tim.resp.sns.FriendDeleteResponse;
+import com.tencentcloud.spring.boot.tim.resp.sns.FriendGetListResponse;
+import com.tencentcloud.spring.boot.tim.resp.sns.FriendGetResponse;
+import com.tencentcloud.spring.boot.tim.resp.sns.FriendImportResponse;
+import com.tencentcloud.spring.boot.tim.resp.sns.FriendUpdateResponse;
+import com.tencentcloud.spring.boot.tim.resp.sns.GroupAddResponse;
+import com.tencentcloud.spring.boot.tim.resp.sns.GroupDeleteResponse;
+import com.tencentcloud.spring.boot.tim.resp.sns.GroupGetResponse;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 关系链管理（响应式）
+ * 基于 {@link TencentTimSnsAsyncOperations} 的非阻塞实现，订阅时才发起请求
+ */
+public class TencentTimSnsReactiveOperations {
+	private final TencentTimSnsAsyncOperations asyncOps;
+
+	public TencentTimSnsReactiveOperations(TencentTimSnsAsyncOperations asyncOps) {
+		this.asyncOps = asyncOps;
+	}
+
+	/**
+	 * 1、添加好友
+	 * API：https://cloud.tencent.com/document/product/269/1643
+	 * @param userId 业务用户ID
+	 * @param addType  加好友方式（默认双向加好友方式）：Add_Type_Single 表示单向加好友, Add_Type_Both 表示双向加好友
+	 * @param forceAdd 是否强制相互添加好友
+	 * @param friends 添加的好友数组
+	 * @return 响应结果
+	 */
+	public Mono<FriendAddResponse> addFriend(String userId, String addType, boolean forceAdd, FriendAddItem[] friends) {
+		return TencentTimReactiveTemplate.deferFuture(() -> asyncOps.asyncAddFriend(userId, addType, forceAdd, friends, null));
+	}
+
+	/**
+	 * 2、导入好友
+	 * API：https://cloud.tencent.com/document/product/269/8301
+	 * @param userId 业务用户ID
+	 * @param friends 导入的好友数组
+	 * @return 响应结果
+	 */
+	public Mono<FriendImportResponse> importFriend(String userId, FriendImportItem[] friends) {
+		return TencentTimReactiveTemplate.deferFuture(() -> asyncOps.asyncImportFriend(userId, friends, null));
+	}
+
+	/**
+	 * 3、更新好友
+	 * API：https://cloud.tencent.com/document/product/269/12525
+	 * @param userId 业务用户ID
+	 * @param friends 需要更新的好友对象数组
+	 * @return 响应结果
+	 */
+	public Mono<FriendUpdateResponse> updateFriend(String userId, FriendUpdateItem[] friends) {
+		return TencentTimReactiveTemplate.deferFuture(() -> asyncOps.asyncUpdateFriend(userId, friends, null));
+	}
+
+	/**
+	 * 4、删除好友
+	 * API：https://cloud.tencent.com/document/product/269/1644
+	 * @param userId 业务用户ID
+	 * @param deleteType 删除模式；
+	 * 	单向删除好友 	Delete_Type_Single 	只将 To_Account 从 From_Account 的好友表中删除，但不会将 From_Account 从 To_Account 的好友表中删除
+	 * 	双向删除好友 	Delete_Type_Both 	将 To_Account 从 From_Account 的好友表中删除，同时将 From_Account 从 To_Account 的好友表中删除
+	 * @param friends 待删除的好友的 UserID 列表，单次请求的 To_Account 数不得超过1000
+	 * @return 响应结果
+	 */
+	public Mono<FriendDeleteResponse> deleteFriend(String userId, String deleteType, String[] friends) {
+		return TencentTimReactiveTemplate.deferFuture(() -> asyncOps.asyncDeleteFriend(userId, deleteType, friends, null));
+	}
+
+	/**
+	 * 5、删除所有好友
+	 * API：https://cloud.tencent.com/document/product/269/1645
+	 * @param userId 业务用户ID
+	 * @param deleteType 删除模式；
+	 * 	单向删除好友 	Delete_Type_Single 	只将 To_Account 从 From_Account 的好友表中删除，但不会将 From_Account 从 To_Account 的好友表中删除
+	 * 	双向删除好友 	Delete_Type_Both 	将 To_Account 从 From_Account 的好友表中删除，同时将 From_Account 从 To_Account 的好友表中删除
+	 * @return 响应结果
+	 */
+	public Mono<FriendDeleteAllResponse> deleteAllFriend(String userId, String deleteType) {
+		return TencentTimReactiveTemplate.deferFuture(() -> asyncOps.asyncDeleteAllFriend(userId, deleteType, null));
+	}
+
+	/**
+	 * 6、校验好友
+	 * API：https://cloud.tencent.com/document/product/269/1646
+	 * @param userId 业务用户ID
+	 * @param checkType 校验模式； https://cloud.tencent.com/document/product/269/1501#.E6.A0.A1.E9.AA.8C.E5.A5.BD.E5.8F.8B
+	 * @param friends 待删除的好友的 UserID 列表，单次请求的 To_Account 数不得超过1000
+	 * @return 响应结果
+	 */
+	public Mono<FriendCheckResponse> checkFriend(String userId, String checkType, String[] friends) {
+		return TencentTimReactiveTemplate.deferFuture(() -> asyncOps.asyncCheckFriend(userId, checkType, friends, null));
+	}
+
+	/**
+	 * 7、拉取好友
+	 * API：https://cloud.tencent.com/document/product/269/1647
+	 * @param userId 业务用户ID
+	 * @param startIndex 分页的起始位置
+	 * @param standardSequence 上次拉好友数据时返回的 StandardSequence，如果 StandardSequence 字段的值与后台一致，后台不会返回标配好友数据
+	 * @param customSequence 上次拉好友数据时返回的 CustomSequence，如果 CustomSequence 字段的值与后台一致，后台不会返回自定义好友数据
+	 * @return 响应结果
+	 */
+	public Mono<FriendGetResponse> getFriends(String userId, Integer startIndex, Integer standardSequence, Integer customSequence) {
+		return TencentTimReactiveTemplate.deferFuture(() -> asyncOps.asyncGetFriends(userId, startIndex, standardSequence, customSequence, null));
+	}
+
+	/**
+	 * 7、拉取好友
+	 * API：https://cloud.tencent.com/document/product/269/1647
+	 * @param fromUserId 业务用户ID
+	 * @param userIds 业务用户ID数组
+	 * @return 响应结果
+	 */
+	public Mono<FriendGetListResponse> getFriends(String fromUserId, String[] userIds) {
+		return TencentTimReactiveTemplate.deferFuture(() -> asyncOps.asyncGetFriends(fromUserId, userIds, null));
+	}
+
+	/**
+	 * 8、拉取好友
+	 * API：https://cloud.tencent.com/document/product/269/1647
+	 * @param fromUserId 业务用户ID
+	 * @param tagList 指定要拉取的资料字段的 Tag，支持的字段有： 标配资料字段，自定义资料字段
+	 * @param userIds 业务用户ID数组
+	 * @return 响应结果
+	 */
+	public Mono<FriendGetListResponse> getFriends(String fromUserId, List<String> tagList, String[] userIds) {
+		return TencentTimReactiveTemplate.deferFuture(() -> asyncOps.asyncGetFriends(fromUserId, tagList, userIds, null));
+	}
+
+	/**
+	 * 9、添加黑名单
+	 * API：https://cloud.tencent.com/document/product/269/3718
+	 * @author 		： <a href="https://github.com/hiwepy">hiwepy</a>
+	 * @param fromUserId 需要添加该 UserID 的黑名单
+	 * @param userIds 待添加的黑名单的 UserID 列表，单次请求的 To_Account 数不得超过1000
+	 * @return 响应结果
+	 */
+	public Mono<BlacklistAddResponse> addBlackList(String fromUserId, String[] userIds) {
+		return TencentTimReactiveTemplate.deferFuture(() -> asyncOps.asyncAddBlackList(fromUserId, userIds, null));
+	}
+
+	/**
+	 * 10、删除黑名单
+	 * API：https://cloud.tencent.com/document/product/269/3719
+	 * @author 		： <a href="https://github.com/hiwepy">hiwepy</a>
+	 * @param fromUserId 需要删除该 UserID 的黑名单
+	 * @param userIds 待删除的黑名单的 UserID 列表，单次请求的 To_Account 数不得超过1000
+	 * @return 响应结果
+	 */
+	public Mono<BlacklistDeleteResponse> deleteBlackList(String fromUserId, String[] userIds) {
+		return TencentTimReactiveTemplate.deferFuture(() -> asyncOps.asyncDeleteBlackList(fromUserId, userIds, null));
+	}
+
+	/**
+	 * 11、拉取黑名单
+	 * API：https://cloud.tencent.com/document/product/269/3722
+	 * @author 		： <a href="https://github.com/hiwepy">hiwepy</a>
+	 * @param userId 需要拉取该 UserID 的黑名单
+	 * @param startIndex 拉取的起始位置
+	 * @param maxLimited 每页最多拉取的黑名单数
+	 * @param lastSequence 上一次拉黑名单时后台返回给客户端的 Seq，初次拉取时为0
+	 * @return 响应结果
+	 */
+	public Mono<BlacklistGetResponse> getBlackList(String userId, Integer startIndex, Integer maxLimited, Integer lastSequence) {
+		return TencentTimReactiveTemplate.deferFuture(() -> asyncOps.asyncGetBlackList(userId, startIndex, maxLimited, lastSequence, null));
+	}
+
+	/**
+	 * 12、校验黑名单
+	 * API：https://cloud.tencent.com/document/product/269/3725
+	 * @author 		： <a href="https://github.com/hiwepy">hiwepy</a>
+	 * @param checkType 校验模式，详情可参见 校验黑名单
+	 * @param fromUserId 需要校验该 UserID 的黑名单
+	 * @param userIds 待校验的黑名单的 UserID 列表，单次请求的 To_Account 数不得超过1000
+	 * @return 响应结果
+	 */
+	public Mono<BlacklistCheckResponse> checkBlackList(String checkType, String fromUserId, String[] userIds) {
+		return TencentTimReactiveTemplate.deferFuture(() -> asyncOps.asyncCheckBlackList(checkType, fromUserId, userIds, null));
+	}
+
+	/**
+	 * 12、添加分组
+	 * API：https://cloud.tencent.com/document/product/269/10107
+	 * @author 		： <a href="https://github.com/hiwepy">hiwepy</a>
+	 * @param fromUserId 需要为该 UserID 添加新分组
+	 * @param groupNames 新增分组列表
+	 * @return 响应结果
+	 */
+	public Mono<GroupAddResponse> addGroup(String fromUserId, String[] groupNames) {
+		return TencentTimReactiveTemplate.deferFuture(() -> asyncOps.asyncAddGroup(fromUserId, groupNames, null));
+	}
+
+	/**
+	 * 12、添加分组
+	 * API：https://cloud.tencent.com/document/product/269/10107
+	 * @author 		： <a href="https://github.com/hiwepy">hiwepy</a>
+	 * @param fromUserId 需要为该 UserID 添加新分组
+	 * @param groupNames 新增分组列表
+	 * @param userIds 需要加入新增分组的好友的 UserID 列表
+	 * @return 响应结果
+	 */
+	public Mono<GroupAddResponse> addGroup(String fromUserId, String[] groupNames, String[] userIds) {
+		return TencentTimReactiveTemplate.deferFuture(() -> asyncOps.asyncAddGroup(fromUserId, groupNames, userIds, null));
+	}
+
+	/**
+	 * 13、删除分组
+	 * API：https://cloud.tencent.com/document/product/269/3719
+	 * @author 		： <a href="https://github.com/hiwepy">hiwepy</a>
+	 * @param fromUserId 需要删除该 UserID 的黑名单
+	 * @param groupNames 要删除的分组列表
+	 * @return 响应结果
+	 */
+	public Mono<GroupDeleteResponse> deleteGroups(String fromUserId, String[] groupNames) {
+		return TencentTimReactiveTemplate.deferFuture(() -> asyncOps.asyncDeleteGroups(fromUserId, groupNames, null));
+	}
+
+	/**
+	 * 14、拉取分组
+	 * API：https://cloud.tencent.com/document/product/269/3722
+	 * @author 		： <a href="https://github.com/hiwepy">hiwepy</a>
+	 * @param userId 指定要拉取分组的用户的 UserID
+	 * @param lastSequence 上一次拉取分组时后台返回给客户端的 Seq，初次拉取时为0，只有 GroupName 为空时有效
+	 * @param groupNames 要拉取的分组名称
+	 * @return 响应结果
+	 */
+	public Mono<GroupGetResponse> getGroups(String userId, Integer lastSequence, String[] groupNames) {
+		return TencentTimReactiveTemplate.deferFuture(() -> asyncOps.asyncGetGroups(userId, lastSequence, groupNames, null));
+	}
+
+	/**
+	 * 15、拉取分组
+	 * API：https://cloud.tencent.com/document/product/269/3722
+	 * @author 		： <a href="https://github.com/hiwepy">hiwepy</a>
+	 * @param userId 指定要拉取分组的用户的 UserID
+	 * @param lastSequence 上一次拉取分组时后台返回给客户端的 Seq，初次拉取时为0，只有 GroupName 为空时有效
+	 * @param needFriend 是否需要拉取分组下的 User 列表, Need_Friend_Type_Yes: 需要拉取, 不填时默认不拉取, 只有 GroupName 为空时有效
+	 * @param groupNames 要拉取的分组名称
+	 * @return 响应结果
+	 */
+	public Mono<GroupGetResponse> getGroups(String userId, Integer lastSequence, String needFriend, String[] groupNames) {
+		return TencentTimReactiveTemplate.deferFuture(() -> asyncOps.asyncGetGroups(userId, lastSequence, needFriend, groupNames, null));
+	}
+
+}
@@ -1,40 +1,69 @@
 package com.tencentcloud.spring.boot.tim;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.EnumMap;
 import java.util.Map;
-import java.util.UUID;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.util.ClassUtils;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.google.common.collect.Maps;
+import com.google.common.io.ByteStreams;
+import com.google.common.io.CountingInputStream;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.tencentcloud.spring.boot.TencentTimProperties;
 import com.tencentcloud.spring.boot.tim.resp.TimActionResponse;
 import com.tencentyun.TLSSigAPIv2;
 
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import okhttp3.Call;
 import okhttp3.Callback;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
-import okhttp3.RequestBody;
 import okhttp3.Response;
 
 /**
  * Tim 接口集成 https://cloud.tencent.com/document/product/269/42440
  */
 @Slf4j
-public class TencentTimTemplate implements InitializingBean {
+public class TencentTimTemplate implements InitializingBean, DisposableBean {
 
 	public final static String APPLICATION_JSON_VALUE = "application/json";
 	public final static String APPLICATION_JSON_UTF8_VALUE = "application/json;charset=UTF-8";
@@ -47,13 +76,24 @@ public class TencentTimTemplate implements InitializingBean {
 	private static final String RANDOM = "random";
 	private static final String CONTENTTYPE = "contenttype";
 	private static final String CONTENTTYPE_JSON = "json";
+	private static final String RANDOM_PARAM = "&" + RANDOM + "=";
+	private static final String CONTENT_ENCODING = "Content-Encoding";
+	private static final String GZIP = "gzip";
+	/**
+	 * 自定义异步响应处理线程池的 Bean 名称
+	 */
+	public static final String CALLBACK_EXECUTOR_BEAN_NAME = "timCallbackExecutor";
 
-	private final ObjectMapper objectMapper = new ObjectMapper();
+	private ObjectMapper objectMapper = new ObjectMapper();
+	private ObjectWriter objectWriter = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+	private final ConcurrentMap<Class<?>, ObjectReader> objectReaders = new ConcurrentHashMap<>();
+	private final ConcurrentMap<Class<?>, ObjectWriter> objectWriters = new ConcurrentHashMap<>();
 
 	private TencentTimProperties timProperties;
 	private TLSSigAPIv2 tlsSigAPIv2;
 	private OkHttpClient okhttp3Client;
 	private TimUserIdProvider timUserIdProvider;
+	private TimRequestLogger requestLogger;
 
 	private final TencentTimAccountAsyncOperations accountOps = new TencentTimAccountAsyncOperations(this);
 	private final TencentTimAllMemberPushAsyncOperations pushOps = new TencentTimAllMemberPushAsyncOperations(this);
@@ -62,13 +102,102 @@ public class TencentTimTemplate implements InitializingBean {
 	private final TencentTimOpenimAsyncOperations imOps = new TencentTimOpenimAsyncOperations(this);
 	private final TencentTimProfileAsyncOperations profileOps = new TencentTimProfileAsyncOperations(this);
 	private final TencentTimSnsAsyncOperations snsOps = new TencentTimSnsAsyncOperations(this);
-	private LoadingCache<String, String> tlsSigCache;
+	private final Map<TimApiAddress, String> requestUrlPrefixes = new EnumMap<>(TimApiAddress.class);
+	private volatile AdminUserSig adminUserSig;
+	private final TimRetryPolicy retryPolicy;
+	private final TimRateLimiter rateLimiter;
+	private final TimDomainRouter domainRouter;
+	private final TimCompositeRequestListener requestListener = new TimCompositeRequestListener();
+	private final Map<TimApiFamily, TimBulkhead> bulkheads = new EnumMap<>(TimApiFamily.class);
+	private final Map<TimApiFamily, TimCircuitBreaker> circuitBreakers = new EnumMap<>(TimApiFamily.class);
+	private final ScheduledExecutorService scheduler = newScheduler();
+	private final ExecutorService virtualThreadExecutor;
+	private final TimPriorityScheduler priorityScheduler;
+	private final TimAdaptiveLimiter adaptiveLimiter;
+	private final ExecutorService defaultCallbackExecutor;
+	private Executor callbackExecutor;
+	private final TimResponseLeakDetector leakDetector;
+	private final TimRequestCompressor compressor;
 
 	@Override
 	public void afterPropertiesSet() throws Exception {
 		// 指定要序列化的域，field,get和set,以及修饰符范围，ANY是都有包括private和public
 		objectMapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.ANY);
 		objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+		this.registerJsonModule(timProperties.getJson().getModule());
+		// 序列化配置变更后重新生成 ObjectWriter，并丢弃按旧配置缓存的 ObjectReader/ObjectWriter
+		objectWriter = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+		objectReaders.clear();
+		objectWriters.clear();
+	}
+
+	private void registerJsonModule(TimJsonModule module) {
+		if (module == null || module.getModuleClassName() == null) {
+			return;
+		}
+		ClassLoader classLoader = getClass().getClassLoader();
+		if (!ClassUtils.isPresent(module.getModuleClassName(), classLoader)) {
+			log.warn("Jackson module {} is not on the classpath, Tim JSON binding falls back to reflection", module.getModuleClassName());
+			return;
+		}
+		try {
+			Class<?> moduleClass = ClassUtils.resolveClassName(module.getModuleClassName(), classLoader);
+			objectMapper.registerModule((Module) BeanUtils.instantiateClass(moduleClass));
+		} catch (RuntimeException | LinkageError e) {
+			log.warn("Jackson module {} could not be registered : {}", module.getModuleClassName(), e.getMessage());
+		}
+	}
+
+	@Override
+	public void destroy() throws Exception {
+		scheduler.shutdownNow();
+		if (virtualThreadExecutor != null) {
+			virtualThreadExecutor.shutdown();
+		}
+		if (defaultCallbackExecutor != null) {
+			defaultCallbackExecutor.shutdown();
+		}
+	}
+
+	/*
+	 * 异步响应处理线程池：有界队列，队列满时由提交线程执行，对 HTTP 调度形成反压而不是丢弃响应
+	 */
+	private static ExecutorService newCallbackExecutor(TencentTimProperties.Callback callback) {
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(callback.getCorePoolSize(), callback.getMaxPoolSize(),
+				callback.getKeepAlive().toMillis(), TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(callback.getQueueCapacity()),
+				new ThreadFactoryBuilder().setNameFormat("tim-callback-%d").setDaemon(true).build(),
+				new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	private static ScheduledExecutorService newScheduler() {
+		ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1,
+				new ThreadFactoryBuilder().setNameFormat("tim-scheduler-%d").setDaemon(true).build());
+		// 截止时间定时任务大多在请求完成时被取消，及时移出队列
+		executor.setRemoveOnCancelPolicy(true);
+		return executor;
+	}
+
+	/*
+	 * 通过反射创建虚拟线程执行器，兼容 Java 21 以下的编译与运行环境
+	 */
+	private static ExecutorService newVirtualThreadExecutor() {
+		try {
+			Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			return (ExecutorService) method.invoke(null);
+		} catch (Exception e) {
+			log.warn("Virtual threads are not supported by the current runtime (Java {}), fallback to OkHttp async calls.",
+					System.getProperty("java.version"));
+			return null;
+		}
+	}
+
+	/**
+	 * @return 是否在虚拟线程上执行异步请求
+	 */
+	public boolean isVirtualThreadsEnabled() {
+		return virtualThreadExecutor != null;
 	}
 
 	public TencentTimTemplate(TencentTimProperties timProperties, OkHttpClient okhttp3Client, TimUserIdProvider timUserIdProvider) {
@@ -82,17 +211,42 @@ public class TencentTimTemplate implements InitializingBean {
 		this.tlsSigAPIv2 = tlsSigAPIv2;
 		this.okhttp3Client = okhttp3Client;
 		this.timUserIdProvider = timUserIdProvider;
-		this.tlsSigCache = CacheBuilder.newBuilder()
-						.expireAfterWrite(Duration.ofSeconds(Math.max(timProperties.getExpire() - 60, 60)))
-						.build(new CacheLoader<String, String>() {
-
-							@Override
-							public String load(String key) throws Exception {
-								return tlsSigAPIv2.genUserSig(timProperties.getIdentifier(), timProperties.getExpire());
-							}
-
-						});
-
+		this.requestLogger = new DefaultTimRequestLogger(timProperties.getLogging());
+		this.retryPolicy = new TimRetryPolicy(timProperties.getRetry());
+		this.rateLimiter = new TimRateLimiter(timProperties.getRateLimit());
+		TencentTimProperties.Bulkhead bulkhead = timProperties.getBulkhead();
+		for (TimApiFamily family : TimApiFamily.values()) {
+			if (bulkhead.isEnabled()) {
+				bulkheads.put(family, new TimBulkhead(family, okhttp3Client,
+						bulkhead.getFamilies().getOrDefault(family, bulkhead.getMaxConcurrentCalls()),
+						bulkhead.getMaxQueuedCalls(), bulkhead.getMaxWait().toNanos()));
+			}
+			if (timProperties.getCircuitBreaker().isEnabled()) {
+				circuitBreakers.put(family, new TimCircuitBreaker(family, timProperties.getCircuitBreaker()));
+			}
+		}
+		this.domainRouter = new TimDomainRouter(timProperties);
+		this.virtualThreadExecutor = timProperties.isVirtualThreads() ? newVirtualThreadExecutor() : null;
+		this.priorityScheduler = timProperties.getScheduler().isEnabled() ? new TimPriorityScheduler(timProperties.getScheduler()) : null;
+		this.adaptiveLimiter = timProperties.getAdaptiveLimit().isEnabled() ? new TimAdaptiveLimiter(timProperties.getAdaptiveLimit()) : null;
+		this.defaultCallbackExecutor = timProperties.getCallback().isEnabled() ? newCallbackExecutor(timProperties.getCallback()) : null;
+		this.callbackExecutor = defaultCallbackExecutor;
+		this.compressor = timProperties.getCompression().isEnabled() ? new TimRequestCompressor(timProperties.getCompression()) : null;
+		this.leakDetector = new TimResponseLeakDetector(timProperties.getHttp().getLeakDetectionThreshold());
+		if (leakDetector.isEnabled()) {
+			long period = Math.max(1000, timProperties.getHttp().getLeakDetectionThreshold().toMillis() / 2);
+			scheduler.scheduleAtFixedRate(leakDetector::detect, period, period, TimeUnit.MILLISECONDS);
+		}
+		// 除域名、usersig 与 random 外，其余公共参数在整个生命周期内不变，预先拼接到每个接口路径上
+		for (TimApiAddress address : TimApiAddress.values()) {
+			requestUrlPrefixes.put(address, new StringBuilder(address.getPath())
+					.append(address.getPath().indexOf("?") >= 0 ? "&" : "?")
+					.append(IDENTIFIER).append("=").append(timProperties.getIdentifier())
+					.append("&").append(SDKAPPID).append("=").append(timProperties.getSdkappid())
+					.append("&").append(CONTENTTYPE).append("=").append(CONTENTTYPE_JSON)
+					.append("&").append(USER_SIG).append("=")
+					.toString());
+		}
 	}
 
 	public TencentTimAccountAsyncOperations opsForAccount() {
@@ -135,91 +289,905 @@ public class TencentTimTemplate implements InitializingBean {
 		return tlsSigAPIv2;
 	}
 
+	public OkHttpClient getOkhttp3Client() {
+		return okhttp3Client;
+	}
+
+	/**
+	 * 获取 HTTP 客户端调度器与连接池的实时状态
+	 * @return 调度器与连接池状态
+	 */
+	public TimHttpStats getHttpStats() {
+		Dispatcher dispatcher = okhttp3Client.dispatcher();
+		ConnectionPool connectionPool = okhttp3Client.connectionPool();
+		return new TimHttpStats(dispatcher.runningCallsCount(), dispatcher.queuedCallsCount(),
+				dispatcher.getMaxRequests(), dispatcher.getMaxRequestsPerHost(),
+				connectionPool.connectionCount(), connectionPool.idleConnectionCount());
+	}
+
+	/**
+	 * @return 请求体压缩器，未启用压缩时为 null
+	 */
+	public TimRequestCompressor getCompressor() {
+		return compressor;
+	}
+
+	/**
+	 * @return HTTP 响应泄漏检测器
+	 */
+	public TimResponseLeakDetector getLeakDetector() {
+		return leakDetector;
+	}
+
 	public long getMsgLifeTime() {
 		return timProperties.getMsgLifeTime();
 	}
 
 	public Map<String, String> getDefaultParams() {
 		Map<String, String> pathParams = Maps.newHashMap();
-		pathParams.put(USER_SIG, tlsSigCache.getUnchecked(USER_SIG));
+		pathParams.put(USER_SIG, this.getAdminUserSig());
 		pathParams.put(IDENTIFIER, timProperties.getIdentifier());
 		pathParams.put(SDKAPPID, timProperties.getSdkappid().toString());
-		pathParams.put(RANDOM, UUID.randomUUID().toString().replace("-", "").toLowerCase());
+		pathParams.put(RANDOM, this.nextRandom());
 		pathParams.put(CONTENTTYPE, CONTENTTYPE_JSON);
 		return pathParams;
 	}
 
+	/**
+	 * 获取接口的完整请求地址：路由选择的域名 + 预先拼接好的路径前缀 + usersig + random
+	 * @param address 接口地址
+	 * @return 完整请求地址
+	 */
+	public String getRequestUrl(TimApiAddress address) {
+		String baseUrl = domainRouter.getBaseUrl();
+		String prefix = requestUrlPrefixes.get(address);
+		String userSig = this.getAdminUserSig();
+		return new StringBuilder(baseUrl.length() + prefix.length() + userSig.length() + RANDOM_PARAM.length() + 10)
+				.append(baseUrl).append(prefix).append(userSig)
+				.append(RANDOM_PARAM).append(this.nextRandom())
+				.toString();
+	}
+
+	/**
+	 * 获取管理员帐号的 UserSig，过期前 60 秒重新生成
+	 * @return 管理员帐号的 UserSig
+	 */
+	public String getAdminUserSig() {
+		AdminUserSig current = adminUserSig;
+		long now = System.currentTimeMillis();
+		if (Objects.isNull(current) || now >= current.getExpireAt()) {
+			synchronized (this) {
+				current = adminUserSig;
+				if (Objects.isNull(current) || now >= current.getExpireAt()) {
+					long ttl = Math.max(timProperties.getExpire() - 60, 60);
+					current = new AdminUserSig(tlsSigAPIv2.genUserSig(timProperties.getIdentifier(), timProperties.getExpire()), now + ttl * 1000L);
+					adminUserSig = current;
+				}
+			}
+		}
+		return current.getUserSig();
+	}
+
+	/**
+	 * 预先构建请求、响应类型的 Jackson 序列化器与反序列化器，避免首次请求时才构建
+	 * @param types 请求类型或响应类型（{@link TimActionResponse} 的子类）
+	 * @return 处理的类型数
+	 */
+	public int primeSerializers(Iterable<Class<?>> types) {
+		int count = 0;
+		for (Class<?> type : types) {
+			if (TimActionResponse.class.isAssignableFrom(type)) {
+				this.readerFor(type);
+			} else {
+				this.writerFor(type);
+			}
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * 并发向当前 Tim 域名发送 HEAD 请求，预先完成 DNS 解析与 TLS 握手并将连接放入连接池；
+	 * 启用 HTTP/2 时所有请求复用同一连接
+	 * @param connections 并发请求数
+	 * @param timeout 等待超时时间
+	 * @return 成功完成的请求数
+	 */
+	public int openConnections(int connections, Duration timeout) {
+		Request request = new Request.Builder().url(domainRouter.getBaseUrl() + "/").head().build();
+		CountDownLatch latch = new CountDownLatch(connections);
+		AtomicInteger opened = new AtomicInteger();
+		for (int i = 0; i < connections; i++) {
+			okhttp3Client.newCall(request).enqueue(new Callback() {
+
+				@Override
+				public void onFailure(Call call, IOException e) {
+					log.debug("Tim warm-up request to {} failed : {}", request.url(), e.getMessage());
+					latch.countDown();
+				}
+
+				@Override
+				public void onResponse(Call call, Response response) {
+					response.close();
+					opened.incrementAndGet();
+					latch.countDown();
+				}
+
+			});
+		}
+		try {
+			latch.await(timeout.toMillis(), TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return opened.get();
+	}
+
+	/*
+	 * 32 位无符号整数随机数，取值范围 0 - 4294967295
+	 */
+	private String nextRandom() {
+		return Integer.toUnsignedString(ThreadLocalRandom.current().nextInt());
+	}
+
+	/*
+	 * 按类型缓存 ObjectReader/ObjectWriter：根类型的序列化器、反序列化器只解析一次，后续调用直接复用
+	 */
+	private ObjectReader readerFor(Class<?> type) {
+		return objectReaders.computeIfAbsent(type, objectMapper::readerFor);
+	}
+
+	private ObjectWriter writerFor(Class<?> type) {
+		return objectWriters.computeIfAbsent(type, objectWriter::forType);
+	}
+
 	public <T> T readValue(String json, Class<T> cls) {
 		try {
-			return objectMapper.readValue(json, cls);
+			if (cls == TimLazyResponse.class) {
+				return cls.cast(TimLazyResponse.parse(objectMapper.getFactory(), this, json.getBytes(StandardCharsets.UTF_8)));
+			}
+			return this.readerFor(cls).readValue(json);
 		} catch (Exception e) {
 			log.error(e.getMessage());
 			return BeanUtils.instantiateClass(cls);
 		}
 	}
 
+	public <T> T readValue(InputStream input, Class<T> cls) {
+		try {
+			if (cls == TimLazyResponse.class) {
+				// 延迟绑定：保留完整响应体，仅解析公共字段
+				return cls.cast(TimLazyResponse.parse(objectMapper.getFactory(), this, ByteStreams.toByteArray(input)));
+			}
+			return this.readerFor(cls).readValue(input);
+		} catch (Exception e) {
+			log.error(e.getMessage());
+			return BeanUtils.instantiateClass(cls);
+		}
+	}
+
+	public <T> T readValue(byte[] body, Class<T> cls) {
+		try {
+			return this.readerFor(cls).readValue(body);
+		} catch (Exception e) {
+			log.error(e.getMessage());
+			return BeanUtils.instantiateClass(cls);
+		}
+	}
+
+	/**
+	 * 构建请求体：未启用压缩时请求参数在发送时直接序列化到连接的输出流，启用压缩时预先序列化并按阈值压缩
+	 * @param params 请求参数
+	 * @return 请求体
+	 * @throws IOException 序列化失败
+	 */
+	protected TimJsonRequestBody requestBody(Object params) throws IOException {
+		ObjectWriter writer = params != null ? this.writerFor(params.getClass()) : objectWriter;
+		return compressor != null ? compressor.requestBody(writer, params) : new TimJsonRequestBody(writer, params);
+	}
+
+	private Request newRequest(String url, TimJsonRequestBody requestBody) {
+		Request.Builder builder = new Request.Builder().url(url).post(requestBody);
+		if (requestBody.isGzipped()) {
+			builder.header(CONTENT_ENCODING, GZIP);
+		}
+		return builder.build();
+	}
+
 	public <T extends TimActionResponse> T requestInvoke(String url, Object params, Class<T> cls) {
-		long start = System.currentTimeMillis();
+		return this.requestInvoke(null, url, params, cls);
+	}
+
+	public <T extends TimActionResponse> T requestInvoke(TimApiAddress address, String url, Object params, Class<T> cls) {
+		return this.requestInvoke(address, url, params, cls, TimRequestOptions.DEFAULT);
+	}
+
+	public <T extends TimActionResponse> T requestInvoke(TimApiAddress address, String url, Object params, Class<T> cls,
+			TimRequestOptions options) {
+		long deadline = options.getDeadlineNanos(System.nanoTime());
+		TimRequestObservation observation = requestListener.onStart(address, params);
 		T res = null;
 		try {
+			res = this.doRequestInvoke(address, url, params, cls, observation, deadline, null, null);
+			return res;
+		} finally {
+			observation.onComplete(res, null);
+		}
+	}
 
-			String paramStr = objectMapper.writeValueAsString(params);
-			log.info("Tim Request Param :  {}", paramStr);
+	/**
+	 * 同步请求并流式读取响应中的列表字段：列表元素在读取响应时依次交给回调函数，不在内存中保留整个列表；
+	 * 已回调过元素的请求失败时不再重试，避免重复回调；回调函数抛出的异常原样抛出，不计入熔断失败率
+	 * @param <T> 响应类型
+	 * @param <E> 列表元素类型
+	 * @param address 接口地址
+	 * @param url 请求地址
+	 * @param params 请求参数
+	 * @param cls 响应类型
+	 * @param listField 需要流式读取的数组字段名
+	 * @param elementType 列表元素类型
+	 * @param consumer 列表元素处理回调函数
+	 * @param options 请求选项
+	 * @return 不含列表字段的响应
+	 */
+	public <T extends TimActionResponse, E> T requestStreamInvoke(TimApiAddress address, String url, Object params, Class<T> cls,
+			String listField, Class<E> elementType, Consumer<? super E> consumer, TimRequestOptions options) {
+		long deadline = options.getDeadlineNanos(System.nanoTime());
+		TimRequestObservation observation = requestListener.onStart(address, params);
+		T res = null;
+		RuntimeException error = null;
+		try {
+			res = this.doRequestInvoke(address, url, params, cls, observation, deadline,
+					this.newListStreamReader(cls, listField, elementType, consumer), null);
+			return res;
+		} catch (TimStreamConsumerException e) {
+			// 回调函数抛出的异常原样抛给调用方
+			error = e.getCause();
+			throw error;
+		} finally {
+			observation.onComplete(res, error);
+		}
+	}
 
-			RequestBody requestBody = RequestBody.create(APPLICATION_JSON_UTF8, paramStr);
-			Request request = new Request.Builder().url(url).post(requestBody).build();
+	/**
+	 * 创建列表响应的流式读取器
+	 * @param <T> 响应类型
+	 * @param <E> 列表元素类型
+	 * @param cls 响应类型
+	 * @param listField 需要流式读取的数组字段名
+	 * @param elementType 列表元素类型
+	 * @param consumer 列表元素处理回调函数
+	 * @return 流式读取器，每次请求单独创建
+	 */
+	public <T extends TimActionResponse, E> TimListStreamReader<T, E> newListStreamReader(Class<T> cls, String listField,
+			Class<E> elementType, Consumer<? super E> consumer) {
+		return new TimListStreamReader<>(objectMapper, this.readerFor(cls), this.readerFor(elementType), listField, consumer);
+	}
 
-			try(Response response = okhttp3Client.newCall(request).execute();) {
-				if (response.isSuccessful()) {
-					String body = response.body().string();
-					log.info("Tim Request Success : url : {}, params : {}, code : {}, body : {} , use time : {} ", url, params, response.code(), body , System.currentTimeMillis() - start);
-					res = this.readValue(body, cls);
-	            } else {
-	            	log.error("Tim Request Failure : url : {}, params : {}, code : {}, message : {}, use time : {} ", url, params, response.code(), response.message(), System.currentTimeMillis() - start);
-	            	res = BeanUtils.instantiateClass(cls);
+	/*
+	 * 同步执行请求，streamReader 不为空时流式读取响应中的列表字段，
+	 * asyncCall 不为空时表示在虚拟线程上执行的异步请求，其 HTTP 请求可被取消
+	 */
+	private <T extends TimActionResponse> T doRequestInvoke(TimApiAddress address, String url, Object params, Class<T> cls,
+			TimRequestObservation observation, long deadline, TimListStreamReader<T, ?> streamReader, AsyncCall<T> asyncCall) {
+		retryPolicy.onRequest();
+		TimBulkhead bulkhead = this.getBulkhead(address);
+		TimCircuitBreaker circuitBreaker = this.getCircuitBreaker(address);
+		OkHttpClient client = bulkhead != null ? bulkhead.getOkhttp3Client() : okhttp3Client;
+		for (int attempt = 1;; attempt++) {
+			long remainingNanos = remainingNanos(deadline);
+			long waitNanos = rateLimiter.reserve(address, remainingNanos);
+			if (waitNanos < 0) {
+				return this.onRejected(address, url, params, cls, new TimRateLimitedException(address), asyncCall);
+			}
+			if (waitNanos >= remainingNanos) {
+				return this.onRejected(address, url, params, cls, new TimDeadlineExceededException(address), asyncCall);
+			}
+			if (waitNanos > 0) {
+				try {
+					TimeUnit.NANOSECONDS.sleep(waitNanos);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return BeanUtils.instantiateClass(cls);
 				}
 			}
-		} catch (Exception e) {
-			log.error("Tim Request Error : url : {}, params : {}, use time : {} ,  {}", url, params, e.getMessage(), System.currentTimeMillis() - start);
-			res = BeanUtils.instantiateClass(cls);
+			if (adaptiveLimiter != null && !adaptiveLimiter.tryAcquire()) {
+				return this.onRejected(address, url, params, cls,
+						new TimCallNotPermittedException(this.getFamily(address), "concurrency limit reached"), asyncCall);
+			}
+			if (bulkhead != null && !bulkhead.tryAcquire()) {
+				this.ignoreLimiter();
+				return this.onRejected(address, url, params, cls,
+						new TimCallNotPermittedException(bulkhead.getFamily(), "bulkhead full"), asyncCall);
+			}
+			if (circuitBreaker != null && !circuitBreaker.tryAcquire()) {
+				this.ignoreLimiter();
+				if (bulkhead != null) {
+					bulkhead.release();
+				}
+				return this.onRejected(address, url, params, cls,
+						new TimCallNotPermittedException(circuitBreaker.getFamily(), "circuit breaker open"), asyncCall);
+			}
+			long start = System.currentTimeMillis();
+			T res = null;
+			int httpCode = 0;
+			Exception error = null;
+			try {
+
+				TimJsonRequestBody requestBody = this.requestBody(params);
+				Request request = this.newRequest(url, requestBody);
+				Call httpCall = client.newCall(request);
+				applyDeadline(httpCall, remainingNanos(deadline));
+				if (asyncCall != null) {
+					asyncCall.bind(httpCall);
+				}
+
+				TimRequestObservation.Scope scope = observation.makeCurrent();
+				TimResponseLeakDetector.Lease lease = null;
+				try(Response response = httpCall.execute()) {
+					lease = leakDetector.track(address, url);
+					httpCode = response.code();
+					if (response.isSuccessful()) {
+						CountingInputStream input = new CountingInputStream(response.body().byteStream());
+						res = streamReader != null ? streamReader.read(input) : this.readValue(input, cls);
+						observation.onExchange(requestBody.getBytesWritten(), input.getCount());
+						this.logResult(address, url, params, res, System.currentTimeMillis() - start);
+		            } else {
+		            	observation.onExchange(requestBody.getBytesWritten(), 0);
+		            	requestLogger.logHttpFailure(address, url, params, response.code(), response.message(), System.currentTimeMillis() - start);
+		            	res = BeanUtils.instantiateClass(cls);
+					}
+				} finally {
+					if (lease != null) {
+						lease.close();
+					}
+					scope.close();
+				}
+			} catch (TimStreamConsumerException e) {
+				// 回调函数异常不代表服务端状态，不计入熔断失败率，也不重试
+				this.onCallCanceled(circuitBreaker);
+				throw e;
+			} catch (Exception e) {
+				requestLogger.logError(address, url, params, e, System.currentTimeMillis() - start);
+				res = BeanUtils.instantiateClass(cls);
+				error = e;
+			} finally {
+				if (bulkhead != null) {
+					bulkhead.release();
+				}
+			}
+			if (remainingNanos(deadline) <= 0) {
+				// 请求发出后超过截止时间，说明服务端响应过慢，计为失败
+				this.onCallDeadlineExceeded(circuitBreaker, start);
+				return res;
+			}
+			if (asyncCall != null && asyncCall.future.isDone()) {
+				// 调用方取消，请求结果不代表服务端状态
+				this.onCallCanceled(circuitBreaker);
+				return res;
+			}
+			this.onCallResult(circuitBreaker, start, res, httpCode, error);
+			String failoverUrl = domainRouter.onCallResult(url, System.currentTimeMillis() - start, error);
+			if (failoverUrl != null) {
+				// 连接失败时请求尚未发出，切换域名后立即重新发送，不计入重试次数
+				url = failoverUrl;
+				attempt--;
+				continue;
+			}
+			if (streamReader != null && streamReader.getCount() > 0) {
+				// 已回调的列表元素无法撤回，重试会导致重复回调
+				return res;
+			}
+			if (!retryPolicy.shouldRetry(address, attempt, res, httpCode, error)) {
+				return res;
+			}
+			long backoff = retryPolicy.getBackoffMillis(attempt);
+			if (TimeUnit.MILLISECONDS.toNanos(backoff) >= remainingNanos(deadline)) {
+				return res;
+			}
+			try {
+				Thread.sleep(backoff);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return res;
+			}
+		}
+	}
+
+	/*
+	 * 请求未发出即被拒绝：同步请求返回默认的失败响应，
+	 * 在虚拟线程上执行的异步请求抛出异常，与 OkHttp 异步请求一样以异常结束
+	 */
+	private <T extends TimActionResponse> T onRejected(TimApiAddress address, String url, Object params, Class<T> cls,
+			RuntimeException error, AsyncCall<T> asyncCall) {
+		requestLogger.logError(address, url, params, error, 0);
+		if (asyncCall != null) {
+			throw error;
 		}
-		return res;
+		return BeanUtils.instantiateClass(cls);
 	}
 
+	/**
+	 * 异步请求：回调函数只在响应成功时执行，且响应仅在回调函数执行期间有效，
+	 * 回调函数返回后无论成功与否都会关闭响应并释放连接，不能在其他线程中继续读取响应体
+	 * @param url 请求地址
+	 * @param params 请求参数
+	 * @param consumer 响应处理回调函数
+	 */
 	public void requestAsyncInvoke(String url, Object params, Consumer<Response> consumer) {
 
 		long start = System.currentTimeMillis();
+		Executor executor = callbackExecutor;
 
 		try {
 
-			String paramStr = objectMapper.writeValueAsString(params);
-			log.info("Tim Request Param :  {}", paramStr);
-
-			RequestBody requestBody = RequestBody.create(APPLICATION_JSON_UTF8, paramStr);
-			Request request = new Request.Builder().url(url).post(requestBody).build();
+			TimJsonRequestBody requestBody = this.requestBody(params);
+			Request request = this.newRequest(url, requestBody);
 			okhttp3Client.newCall(request).enqueue(new Callback() {
 
 	            @Override
 	            public void onFailure(Call call, IOException e) {
-	            	log.error("Tim Async Request Failure : url : {}, params : {}, message : {}, use time : {} ", url, params, e.getMessage(), System.currentTimeMillis() - start);
+	            	requestLogger.logError(null, url, params, e, System.currentTimeMillis() - start);
 	            }
 
 	            @Override
 	            public void onResponse(Call call, Response response) {
-                	if (response.isSuccessful()) {
-    					log.info("Tim Async Request Success : url : {}, params : {}, code : {}, message : {} , use time : {} ", url, params, response.code(), response.message(), System.currentTimeMillis() - start);
-    					consumer.accept(response);
-                    } else {
-                    	log.error("Tim Async Request Failure : url : {}, params : {}, code : {}, message : {}, use time : {} ", url, params, response.code(), response.message(), System.currentTimeMillis() - start);
-        			}
+	            	TimResponseLeakDetector.Lease lease = leakDetector.track(null, url);
+	            	executeCallback(executor, () -> {
+	            		try (Response res = response) {
+	            			if (res.isSuccessful()) {
+	            				consumer.accept(res);
+	            			} else {
+	            				requestLogger.logHttpFailure(null, url, params, res.code(), res.message(), System.currentTimeMillis() - start);
+	            			}
+	            		} catch (Exception e) {
+	            			requestLogger.logError(null, url, params, e, System.currentTimeMillis() - start);
+	            		} finally {
+	            			lease.close();
+	            		}
+	            	});
 	            }
 
 	        });
 		} catch (Exception e) {
-			log.error("Tim Async Request Error : url : {}, params : {}, message : {} , use time : {} ", url, params, e.getMessage(), System.currentTimeMillis() - start);
+			requestLogger.logError(null, url, params, e, System.currentTimeMillis() - start);
 		}
 	}
 
+	public <T extends TimActionResponse> CompletableFuture<T> requestAsyncInvoke(String url, Object params, Class<T> cls) {
+		return this.requestAsyncInvoke(null, url, params, cls);
+	}
+
+	public <T extends TimActionResponse> CompletableFuture<T> requestAsyncInvoke(TimApiAddress address, String url, Object params, Class<T> cls) {
+		return this.requestAsyncInvoke(address, url, params, cls, TimRequestOptions.DEFAULT);
+	}
+
+	/**
+	 * 异步请求：取消返回的 Future 时会取消正在进行的 HTTP 请求并释放其连接，
+	 * 设置了超时时间时，到期后 Future 以 {@link TimDeadlineExceededException} 结束
+	 * @param <T> 响应类型
+	 * @param address 接口地址
+	 * @param url 请求地址
+	 * @param params 请求参数
+	 * @param cls 响应类型
+	 * @param options 请求选项
+	 * @return 异步响应结果
+	 */
+	public <T extends TimActionResponse> CompletableFuture<T> requestAsyncInvoke(TimApiAddress address, String url, Object params, Class<T> cls,
+			TimRequestOptions options) {
+		long deadline = options.getDeadlineNanos(System.nanoTime());
+		TimRequestObservation observation = requestListener.onStart(address, params);
+		AsyncCall<T> call = new AsyncCall<>(address, params, cls, observation, deadline, callbackExecutor);
+		call.future.whenComplete(observation::onComplete);
+		call.future.whenComplete((r, e) -> {
+			if (e != null) {
+				call.cancel();
+			}
+		});
+		if (deadline != 0) {
+			try {
+				ScheduledFuture<?> timer = scheduler.schedule(() -> {
+					TimDeadlineExceededException e = new TimDeadlineExceededException(address);
+					requestLogger.logError(address, url, params, e, options.getTimeout().toMillis());
+					call.completeExceptionally(e);
+				}, remainingNanos(deadline), TimeUnit.NANOSECONDS);
+				call.future.whenComplete((r, e) -> timer.cancel(false));
+			} catch (RejectedExecutionException e) {
+				call.completeExceptionally(e);
+				return call.future;
+			}
+		}
+		if (priorityScheduler == null) {
+			this.start(call, url);
+			return call.future;
+		}
+		try {
+			// 获得调度配额后才发起请求，请求结束（含取消）时归还配额
+			priorityScheduler.submit(priorityScheduler.getPriority(address), () -> {
+				call.future.whenComplete((r, e) -> priorityScheduler.release());
+				this.start(call, url);
+			});
+		} catch (RejectedExecutionException e) {
+			requestLogger.logError(address, url, params, e, 0);
+			call.completeExceptionally(e);
+		}
+		return call.future;
+	}
+
+	private <T extends TimActionResponse> void start(AsyncCall<T> call, String url) {
+		if (call.future.isDone()) {
+			return;
+		}
+		if (virtualThreadExecutor != null) {
+			try {
+				virtualThreadExecutor.execute(() -> {
+					try {
+						call.complete(this.doRequestInvoke(call.address, url, call.params, call.cls, call.observation, call.deadline, null, call));
+					} catch (Throwable e) {
+						call.completeExceptionally(e);
+					}
+				});
+			} catch (RejectedExecutionException e) {
+				call.completeExceptionally(e);
+			}
+			return;
+		}
+		retryPolicy.onRequest();
+		this.dispatch(call, url, 1);
+	}
+
+	/*
+	 * 获取限流令牌后发起请求，需要排队时由调度线程延迟发起，等待期间不占用任何线程
+	 */
+	private <T extends TimActionResponse> void dispatch(AsyncCall<T> call, String url, int attempt) {
+		if (call.future.isDone()) {
+			return;
+		}
+		long remainingNanos = remainingNanos(call.deadline);
+		long waitNanos = rateLimiter.reserve(call.address, remainingNanos);
+		if (waitNanos < 0) {
+			TimRateLimitedException e = new TimRateLimitedException(call.address);
+			requestLogger.logError(call.address, url, call.params, e, 0);
+			call.completeExceptionally(e);
+		} else if (waitNanos >= remainingNanos) {
+			TimDeadlineExceededException e = new TimDeadlineExceededException(call.address);
+			requestLogger.logError(call.address, url, call.params, e, 0);
+			call.completeExceptionally(e);
+		} else if (waitNanos == 0) {
+			this.enqueue(call, url, attempt);
+		} else {
+			try {
+				scheduler.schedule(() -> this.enqueue(call, url, attempt), waitNanos, TimeUnit.NANOSECONDS);
+			} catch (RejectedExecutionException e) {
+				call.completeExceptionally(e);
+			}
+		}
+	}
+
+	private <T extends TimActionResponse> void enqueue(AsyncCall<T> call, String url, int attempt) {
+
+		TimApiAddress address = call.address;
+		Object params = call.params;
+		long remainingNanos = remainingNanos(call.deadline);
+		// 已取消或已超时的请求不再发起
+		if (call.future.isDone() || remainingNanos <= 0) {
+			return;
+		}
+		if (adaptiveLimiter != null && !adaptiveLimiter.tryAcquire()) {
+			TimCallNotPermittedException e = new TimCallNotPermittedException(this.getFamily(address), "concurrency limit reached");
+			requestLogger.logError(address, url, params, e, 0);
+			call.completeExceptionally(e);
+			return;
+		}
+		TimBulkhead bulkhead = this.getBulkhead(address);
+		if (bulkhead != null && bulkhead.isQueueFull()) {
+			this.ignoreLimiter();
+			TimCallNotPermittedException e = new TimCallNotPermittedException(bulkhead.getFamily(), "bulkhead full");
+			requestLogger.logError(address, url, params, e, 0);
+			call.completeExceptionally(e);
+			return;
+		}
+		TimCircuitBreaker circuitBreaker = this.getCircuitBreaker(address);
+		if (circuitBreaker != null && !circuitBreaker.tryAcquire()) {
+			this.ignoreLimiter();
+			TimCallNotPermittedException e = new TimCallNotPermittedException(circuitBreaker.getFamily(), "circuit breaker open");
+			requestLogger.logError(address, url, params, e, 0);
+			call.completeExceptionally(e);
+			return;
+		}
+		OkHttpClient client = bulkhead != null ? bulkhead.getOkhttp3Client() : okhttp3Client;
+		long start = System.currentTimeMillis();
+
+		try {
+
+			TimJsonRequestBody requestBody = this.requestBody(params);
+			Request request = this.newRequest(url, requestBody);
+			Call newCall = client.newCall(request);
+			applyDeadline(newCall, remainingNanos);
+			call.bind(newCall);
+			TimRequestObservation.Scope scope = call.observation.makeCurrent();
+			try {
+				newCall.enqueue(new Callback() {
+
+		            @Override
+		            public void onFailure(Call httpCall, IOException e) {
+		            	if (remainingNanos(call.deadline) <= 0) {
+		            		// 请求发出后超过截止时间，说明服务端响应过慢，计为失败
+		            		onCallDeadlineExceeded(circuitBreaker, start);
+		            		call.completeExceptionally(new TimDeadlineExceededException(address));
+		            		return;
+		            	}
+		            	if (call.future.isDone()) {
+		            		// 调用方取消，请求结果不代表服务端状态
+		            		onCallCanceled(circuitBreaker);
+		            		return;
+		            	}
+		            	requestLogger.logError(address, url, params, e, System.currentTimeMillis() - start);
+		            	onCallResult(circuitBreaker, start, null, 0, e);
+		            	String failoverUrl = domainRouter.onCallResult(url, System.currentTimeMillis() - start, e);
+		            	if (failoverUrl != null) {
+		            		// 连接失败时请求尚未发出，切换域名后立即重新发送，不计入重试次数
+		            		dispatch(call, failoverUrl, attempt);
+		            		return;
+		            	}
+		            	if (!retryLater(call, url, attempt, null, 0, e)) {
+		            		call.completeExceptionally(e);
+		            	}
+		            }
+
+		            @Override
+		            public void onResponse(Call httpCall, Response response) {
+		            	domainRouter.onCallResult(url, System.currentTimeMillis() - start, null);
+		            	TimResponseLeakDetector.Lease lease = leakDetector.track(address, url);
+		            	// 响应体读取、反序列化及回调在独立线程池中执行，避免占用 OkHttp 调度线程
+		            	call.execute(() -> {
+			            	T result = null;
+			            	int httpCode = response.code();
+			            	try (Response res = response) {
+			                	if (res.isSuccessful()) {
+			                		CountingInputStream input = new CountingInputStream(res.body().byteStream());
+			                		result = readValue(input, call.cls);
+			                		call.observation.onExchange(requestBody.getBytesWritten(), input.getCount());
+			                		logResult(address, url, params, result, System.currentTimeMillis() - start);
+			                    } else {
+			                    	call.observation.onExchange(requestBody.getBytesWritten(), 0);
+			                    	requestLogger.logHttpFailure(address, url, params, res.code(), res.message(), System.currentTimeMillis() - start);
+			                    	result = BeanUtils.instantiateClass(call.cls);
+			        			}
+			            	} catch (Exception e) {
+			            		requestLogger.logError(address, url, params, e, System.currentTimeMillis() - start);
+			            		onCallResult(circuitBreaker, start, null, httpCode, e);
+			            		call.completeExceptionally(e);
+			            		return;
+							} finally {
+								lease.close();
+							}
+			            	onCallResult(circuitBreaker, start, result, httpCode, null);
+			            	if (!retryLater(call, url, attempt, result, httpCode, null)) {
+			            		call.complete(result);
+			            	}
+		            	});
+		            }
+
+		        });
+			} finally {
+				scope.close();
+			}
+		} catch (Exception e) {
+			requestLogger.logError(address, url, params, e, System.currentTimeMillis() - start);
+			onCallResult(circuitBreaker, start, null, 0, e);
+			call.completeExceptionally(e);
+		}
+	}
+
+	/*
+	 * 在回调线程池中执行，未配置线程池或线程池已关闭时在当前线程执行
+	 */
+	private static void executeCallback(Executor executor, Runnable task) {
+		if (executor == null) {
+			task.run();
+			return;
+		}
+		try {
+			executor.execute(task);
+		} catch (RejectedExecutionException e) {
+			task.run();
+		}
+	}
+
+	private TimBulkhead getBulkhead(TimApiAddress address) {
+		return address != null ? bulkheads.get(address.getFamily()) : null;
+	}
+
+	private TimCircuitBreaker getCircuitBreaker(TimApiAddress address) {
+		return address != null ? circuitBreakers.get(address.getFamily()) : null;
+	}
+
+	private TimApiFamily getFamily(TimApiAddress address) {
+		return address != null ? address.getFamily() : null;
+	}
+
+	/*
+	 * 仅网络异常、HTTP 429 与 5xx、服务端内部错误等可重试的错误计入熔断失败率和并发限制的过载信号，业务错误不计入
+	 */
+	private void onCallResult(TimCircuitBreaker circuitBreaker, long start, TimActionResponse res, int httpCode, Throwable error) {
+		boolean failure = retryPolicy.isRetryable(res, httpCode, error);
+		if (circuitBreaker != null) {
+			circuitBreaker.onResult(failure);
+		}
+		if (adaptiveLimiter != null) {
+			adaptiveLimiter.onSample(TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis() - start), failure);
+		}
+	}
+
+	private void ignoreLimiter() {
+		if (adaptiveLimiter != null) {
+			adaptiveLimiter.ignore();
+		}
+	}
+
+	/*
+	 * 调用方取消的请求只归还熔断器半开试探配额，不计入熔断失败率，也不作为并发限制的采样
+	 */
+	private void onCallCanceled(TimCircuitBreaker circuitBreaker) {
+		if (circuitBreaker != null) {
+			circuitBreaker.release();
+		}
+		this.ignoreLimiter();
+	}
+
+	/*
+	 * 请求发出后超过截止时间计为失败，同时作为并发限制的过载信号
+	 */
+	private void onCallDeadlineExceeded(TimCircuitBreaker circuitBreaker, long start) {
+		if (circuitBreaker != null) {
+			circuitBreaker.onResult(true);
+		}
+		if (adaptiveLimiter != null) {
+			adaptiveLimiter.onSample(TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis() - start), true);
+		}
+	}
+
+	/*
+	 * 距截止时间的剩余纳秒数，未设置截止时间时为 Long.MAX_VALUE
+	 */
+	private static long remainingNanos(long deadline) {
+		return deadline == 0 ? Long.MAX_VALUE : deadline - System.nanoTime();
+	}
+
+	/*
+	 * 按截止时间收紧单次 HTTP 交互的超时时间，不放宽客户端已配置的 callTimeout
+	 */
+	private static void applyDeadline(Call httpCall, long remainingNanos) {
+		if (remainingNanos == Long.MAX_VALUE) {
+			return;
+		}
+		long current = httpCall.timeout().timeoutNanos();
+		if (current == 0 || remainingNanos < current) {
+			httpCall.timeout().timeout(Math.max(1, remainingNanos), TimeUnit.NANOSECONDS);
+		}
+	}
+
+	/*
+	 * 需要重试时通过调度线程延迟发起下一次请求，退避期间不占用任何线程
+	 */
+	private <T extends TimActionResponse> boolean retryLater(AsyncCall<T> call, String url, int attempt,
+			TimActionResponse res, int httpCode, Throwable error) {
+		if (call.future.isDone() || !retryPolicy.shouldRetry(call.address, attempt, res, httpCode, error)) {
+			return false;
+		}
+		long backoff = retryPolicy.getBackoffMillis(attempt);
+		// 退避结束前已超过截止时间，不再重试
+		if (TimeUnit.MILLISECONDS.toNanos(backoff) >= remainingNanos(call.deadline)) {
+			return false;
+		}
+		try {
+			scheduler.schedule(() -> this.dispatch(call, url, attempt + 1), backoff, TimeUnit.MILLISECONDS);
+			return true;
+		} catch (RejectedExecutionException e) {
+			return false;
+		}
+	}
+
+	private void logResult(TimApiAddress address, String url, Object params, TimActionResponse res, long useTime) {
+		if (res.isSuccess()) {
+			requestLogger.logSuccess(address, url, params, res, useTime);
+		} else {
+			requestLogger.logFailure(address, url, params, res, useTime);
+		}
+	}
+
+	public TimRetryPolicy getRetryPolicy() {
+		return retryPolicy;
+	}
+
+	public TimRateLimiter getRateLimiter() {
+		return rateLimiter;
+	}
+
+	/**
+	 * 获取各接口的客户端限流统计
+	 * @return 接口限流统计
+	 */
+	public Map<TimApiAddress, TimRateLimitStats> getRateLimitStats() {
+		return rateLimiter.getStats();
+	}
+
+	public TimCircuitBreaker getCircuitBreaker(TimApiFamily family) {
+		return circuitBreakers.get(family);
+	}
+
+	public TimBulkhead getBulkhead(TimApiFamily family) {
+		return bulkheads.get(family);
+	}
+
+	/**
+	 * @return 异步请求优先级调度器，未启用时为 null
+	 */
+	public TimPriorityScheduler getPriorityScheduler() {
+		return priorityScheduler;
+	}
+
+	/**
+	 * @return 自适应并发限制器，未启用时为 null
+	 */
+	public TimAdaptiveLimiter getAdaptiveLimiter() {
+		return adaptiveLimiter;
+	}
+
+	public TimDomainRouter getDomainRouter() {
+		return domainRouter;
+	}
+
+	public TimRequestListener getRequestListener() {
+		return requestListener;
+	}
+
+	/**
+	 * 注册请求监听器，用于指标统计、链路追踪等
+	 * @param listener 请求监听器
+	 */
+	public void addRequestListener(TimRequestListener listener) {
+		requestListener.addListener(listener);
+	}
+
+	public TimRequestLogger getRequestLogger() {
+		return requestLogger;
+	}
+
+	public void setRequestLogger(TimRequestLogger requestLogger) {
+		this.requestLogger = requestLogger;
+	}
+
+	/**
+	 * @return 异步响应处理线程池，为 null 时在 OkHttp 调度线程中处理
+	 */
+	public Executor getCallbackExecutor() {
+		return callbackExecutor;
+	}
+
+	/**
+	 * 指定异步响应的反序列化、日志及回调函数的执行线程池，替代默认的 tim-callback 线程池
+	 * @param callbackExecutor 线程池
+	 */
+	public void setCallbackExecutor(Executor callbackExecutor) {
+		this.callbackExecutor = callbackExecutor;
+	}
+
+	public ObjectMapper getObjectMapper() {
+		return objectMapper;
+	}
+
+	/**
+	 * 复用应用已配置的 ObjectMapper，内部使用其副本，可见性等 Tim 专用配置不会影响应用自身的序列化；
+	 * 需在 {@link #afterPropertiesSet()} 之前调用
+	 * @param objectMapper 应用的 ObjectMapper
+	 */
+	public void setObjectMapper(ObjectMapper objectMapper) {
+		this.objectMapper = objectMapper.copy();
+		this.objectWriter = this.objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+	}
+
 	public String getUserIdByImUser(String account) {
 		return timUserIdProvider.getUserIdByImUser(timProperties.getSdkappid(), account);
 	}
@@ -227,4 +1195,69 @@ public class TencentTimTemplate implements InitializingBean {
 	public String getImUserByUserId(String userId) {
 		return timUserIdProvider.getImUserByUserId(timProperties.getSdkappid(), userId);
 	}
+
+	/*
+	 * 一次异步接口调用的状态，在限流排队、重试、切换域名之间传递
+	 */
+	private static class AsyncCall<T extends TimActionResponse> {
+
+		private final TimApiAddress address;
+		private final Object params;
+		private final Class<T> cls;
+		private final TimRequestObservation observation;
+		private final long deadline;
+		private final Executor executor;
+		private final CompletableFuture<T> future = new CompletableFuture<>();
+		private volatile Call httpCall;
+
+		AsyncCall(TimApiAddress address, Object params, Class<T> cls, TimRequestObservation observation, long deadline,
+				Executor executor) {
+			this.address = address;
+			this.params = params;
+			this.cls = cls;
+			this.observation = observation;
+			this.deadline = deadline;
+			this.executor = executor;
+		}
+
+		void execute(Runnable task) {
+			executeCallback(executor, task);
+		}
+
+		/*
+		 * 记录当前正在进行的 HTTP 请求，请求已结束（取消或超时）时立即取消
+		 */
+		void bind(Call httpCall) {
+			this.httpCall = httpCall;
+			if (future.isCompletedExceptionally()) {
+				httpCall.cancel();
+			}
+		}
+
+		void cancel() {
+			Call current = httpCall;
+			if (current != null) {
+				current.cancel();
+			}
+		}
+
+		void complete(T result) {
+			this.execute(() -> observation.runInContext(() -> future.complete(result)));
+		}
+
+		void completeExceptionally(Throwable error) {
+			this.execute(() -> observation.runInContext(() -> future.completeExceptionally(error)));
+		}
+
+	}
+
+	@Getter
+	@AllArgsConstructor
+	private static class AdminUserSig {
+
+		private final String userSig;
+		private final long expireAt;
+
+	}
+
 }
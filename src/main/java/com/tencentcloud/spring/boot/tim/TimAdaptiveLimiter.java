@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2018, hiwepy (https://github.com/hiwepy).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.tencentcloud.spring.boot.tim;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.tencentcloud.spring.boot.TencentTimProperties;
+
+/**
+ * Tim 自适应并发限制器：参考 Netflix concurrency-limits 的 Gradient 算法，
+ * 以长期 RTT 作为无排队时的基准、短期 RTT 反映当前排队情况，二者之比（梯度）小于 1 时收缩并发上限，
+ * 否则以 sqrt(limit) 的步长试探性扩大；请求因限流、超时、服务端繁忙等原因失败时按比例快速收缩
+ */
+public class TimAdaptiveLimiter {
+
+	private final TencentTimProperties.AdaptiveLimit config;
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final LongAdder rejected = new LongAdder();
+	private volatile double estimatedLimit;
+	private double shortRtt;
+	private double longRtt;
+
+	public TimAdaptiveLimiter(TencentTimProperties.AdaptiveLimit config) {
+		this.config = config;
+		this.estimatedLimit = Math.max(config.getMinLimit(), Math.min(config.getMaxLimit(), config.getInitialLimit()));
+	}
+
+	/**
+	 * 请求发出前获取并发配额
+	 * @return 是否获取成功，成功后必须调用 {@link #onSample(long, boolean)} 或 {@link #ignore()} 归还
+	 */
+	public boolean tryAcquire() {
+		for (;;) {
+			int current = inFlight.get();
+			if (current >= (int) estimatedLimit) {
+				rejected.increment();
+				return false;
+			}
+			if (inFlight.compareAndSet(current, current + 1)) {
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * 请求结束，归还配额并根据本次请求的 RTT 调整并发上限
+	 * @param rttNanos 请求耗时（纳秒）
+	 * @param didDrop 请求是否因限流、超时、服务端繁忙等过载原因失败
+	 */
+	public void onSample(long rttNanos, boolean didDrop) {
+		int inFlightAtEnd = inFlight.getAndDecrement();
+		this.update(rttNanos, inFlightAtEnd, didDrop);
+	}
+
+	/**
+	 * 请求未发出（被隔离舱或熔断器拒绝），仅归还配额，不参与并发上限的调整
+	 */
+	public void ignore() {
+		inFlight.decrementAndGet();
+	}
+
+	public int getLimit() {
+		return (int) estimatedLimit;
+	}
+
+	public int getInFlight() {
+		return inFlight.get();
+	}
+
+	public long getRejected() {
+		return rejected.sum();
+	}
+
+	private synchronized void update(long rttNanos, int inFlightAtEnd, boolean didDrop) {
+		double limit = estimatedLimit;
+		if (didDrop) {
+			estimatedLimit = Math.max(config.getMinLimit(), limit * config.getBackoffRatio());
+			return;
+		}
+		if (rttNanos <= 0) {
+			return;
+		}
+		shortRtt = shortRtt == 0 ? rttNanos : shortRtt + (rttNanos - shortRtt) / config.getShortWindow();
+		longRtt = longRtt == 0 ? rttNanos : longRtt + (rttNanos - longRtt) / config.getLongWindow();
+		// 长期 RTT 明显高于短期 RTT 时（负载尖峰之后），使其快速回落，避免基准被拉高后长期无法收缩
+		if (longRtt / shortRtt > 2) {
+			longRtt *= 0.95;
+		}
+		// 并发量远低于上限时 RTT 不能说明上限是否合适，不调整，避免空闲时上限无限增长
+		if (inFlightAtEnd < limit / 2) {
+			return;
+		}
+		double gradient = Math.max(0.5, Math.min(1.0, config.getRttTolerance() * longRtt / shortRtt));
+		double newLimit = limit * gradient + Math.sqrt(limit);
+		newLimit = limit * (1 - config.getSmoothing()) + newLimit * config.getSmoothing();
+		estimatedLimit = Math.max(config.getMinLimit(), Math.min(config.getMaxLimit(), newLimit));
+	}
+
+}
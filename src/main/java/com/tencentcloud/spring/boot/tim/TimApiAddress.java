@@ -304,10 +304,14 @@ public enum TimApiAddress {
 
 	private String opt;
 	private String url;
+	private String path;
+	private TimApiFamily family;
 	
 	TimApiAddress(String opt, String url) {
 		this.opt = opt;
 		this.url = url;
+		this.path = url.substring(url.indexOf("/v4/"));
+		this.family = TimApiFamily.ofUrl(url);
 	}
 
 	public String getOpt() {
@@ -317,5 +321,16 @@ public enum TimApiAddress {
 	public String getUrl() {
 		return url;
 	}
+	
+	/**
+	 * 不含域名的接口路径，如 /v4/openim/sendmsg
+	 */
+	public String getPath() {
+		return path;
+	}
+	
+	public TimApiFamily getFamily() {
+		return family;
+	}
  
 }
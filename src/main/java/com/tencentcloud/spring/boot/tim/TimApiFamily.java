@@ -0,0 +1,62 @@
+package com.tencentcloud.spring.boot.tim;
+
+/**
+ * Tim 接口分组：按接口所属的后台服务划分，同一分组的接口共享隔离舱与熔断器
+ * @author 		： <a href="https://github.com/hiwepy">hiwepy</a>
+ */
+public enum TimApiFamily {
+
+	/**
+	 * 帐号管理
+	 */
+	ACCOUNT("im_open_login_svc"),
+	/**
+	 * 单聊消息
+	 */
+	OPENIM("openim"),
+	/**
+	 * 全员推送
+	 */
+	ALL_MEMBER_PUSH("all_member_push"),
+	/**
+	 * 资料管理
+	 */
+	PROFILE("profile"),
+	/**
+	 * 关系链管理
+	 */
+	SNS("sns"),
+	/**
+	 * 群组管理
+	 */
+	GROUP("group_open_http_svc"),
+	/**
+	 * 全局禁言、运营管理等其他接口
+	 */
+	OPERATION("");
+
+	private String service;
+
+	TimApiFamily(String service) {
+		this.service = service;
+	}
+
+	public String getService() {
+		return service;
+	}
+
+	/**
+	 * 根据接口地址中的服务名确定接口分组
+	 * @param url 接口地址，如 https://console.tim.qq.com/v4/openim/sendmsg
+	 * @return 接口分组
+	 */
+	public static TimApiFamily ofUrl(String url) {
+		for (TimApiFamily family : values()) {
+			if (!family.getService().isEmpty() && url.contains("/" + family.getService() + "/")) {
+				return family;
+			}
+		}
+		return OPERATION;
+	}
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2018, hiwepy (https://github.com/hiwepy).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.tencentcloud.spring.boot.tim;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+
+/**
+ * Tim 接口分组隔离舱：每个分组使用独立的调度器执行异步请求，并通过信号量限制同步请求的并发数，
+ * 避免单个后台服务变慢时占满共享的并发配额
+ */
+public class TimBulkhead {
+
+	private final TimApiFamily family;
+	private final OkHttpClient okhttp3Client;
+	private final Semaphore semaphore;
+	private final int maxQueuedCalls;
+	private final long maxWaitNanos;
+
+	public TimBulkhead(TimApiFamily family, OkHttpClient sharedClient, int maxConcurrentCalls, int maxQueuedCalls, long maxWaitNanos) {
+		Dispatcher dispatcher = new Dispatcher();
+		dispatcher.setMaxRequests(maxConcurrentCalls);
+		dispatcher.setMaxRequestsPerHost(maxConcurrentCalls);
+		this.family = family;
+		// 共享连接池与其他配置，仅替换调度器
+		this.okhttp3Client = sharedClient.newBuilder().dispatcher(dispatcher).build();
+		this.semaphore = new Semaphore(maxConcurrentCalls);
+		this.maxQueuedCalls = maxQueuedCalls;
+		this.maxWaitNanos = maxWaitNanos;
+	}
+
+	public TimApiFamily getFamily() {
+		return family;
+	}
+
+	public OkHttpClient getOkhttp3Client() {
+		return okhttp3Client;
+	}
+
+	/**
+	 * 同步请求获取并发配额，最多等待 maxWait
+	 * @return 是否获取成功
+	 */
+	public boolean tryAcquire() {
+		try {
+			return maxWaitNanos > 0 ? semaphore.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS) : semaphore.tryAcquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	/**
+	 * 同步请求释放并发配额
+	 */
+	public void release() {
+		semaphore.release();
+	}
+
+	/**
+	 * 异步请求的排队数是否已达上限
+	 * @return 是否已满
+	 */
+	public boolean isQueueFull() {
+		return okhttp3Client.dispatcher().queuedCallsCount() >= maxQueuedCalls;
+	}
+
+	public int getRunningCalls() {
+		return okhttp3Client.dispatcher().runningCallsCount();
+	}
+
+	public int getQueuedCalls() {
+		return okhttp3Client.dispatcher().queuedCallsCount();
+	}
+
+}
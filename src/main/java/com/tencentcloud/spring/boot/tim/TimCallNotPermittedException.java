@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2018, hiwepy (https://github.com/hiwepy).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.tencentcloud.spring.boot.tim;
+
+/**
+ * 接口分组隔离舱已满、熔断器处于打开状态或超出自适应并发上限时，请求被拒绝抛出的异常
+ */
+@SuppressWarnings("serial")
+public class TimCallNotPermittedException extends RuntimeException {
+
+	private final TimApiFamily family;
+
+	public TimCallNotPermittedException(TimApiFamily family, String reason) {
+		super((family != null ? "Tim api family " + family : "Tim") + " call not permitted: " + reason);
+		this.family = family;
+	}
+
+	public TimApiFamily getFamily() {
+		return family;
+	}
+
+}
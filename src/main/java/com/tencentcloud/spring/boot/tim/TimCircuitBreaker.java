@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2018, hiwepy (https://github.com/hiwepy).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.tencentcloud.spring.boot.tim;
+
+import com.tencentcloud.spring.boot.TencentTimProperties;
+
+/**
+ * Tim 接口分组熔断器：基于最近 N 次请求的失败率在关闭、打开、半开三种状态间切换，
+ * 打开期间直接拒绝请求，避免持续向不健康的后台服务发送请求
+ */
+public class TimCircuitBreaker {
+
+	public enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	private final TimApiFamily family;
+	private final TencentTimProperties.CircuitBreaker config;
+	/*
+	 * 环形滑动窗口，记录最近请求是否失败
+	 */
+	private final boolean[] window;
+	private int windowIndex;
+	private int windowCalls;
+	private int windowFailures;
+	private State state = State.CLOSED;
+	private long openUntil;
+	private int halfOpenCalls;
+	private int halfOpenSuccesses;
+
+	public TimCircuitBreaker(TimApiFamily family, TencentTimProperties.CircuitBreaker config) {
+		this.family = family;
+		this.config = config;
+		this.window = new boolean[Math.max(1, config.getSlidingWindowSize())];
+	}
+
+	public TimApiFamily getFamily() {
+		return family;
+	}
+
+	/**
+	 * 请求发出前检查是否允许通过
+	 * @return 是否允许
+	 */
+	public synchronized boolean tryAcquire() {
+		if (State.CLOSED.equals(state)) {
+			return true;
+		}
+		if (State.OPEN.equals(state)) {
+			if (System.currentTimeMillis() < openUntil) {
+				return false;
+			}
+			// 熔断到期，进入半开状态
+			state = State.HALF_OPEN;
+			halfOpenCalls = 0;
+			halfOpenSuccesses = 0;
+		}
+		if (halfOpenCalls >= config.getPermittedCallsInHalfOpenState()) {
+			return false;
+		}
+		halfOpenCalls++;
+		return true;
+	}
+
+	/**
+	 * 记录请求结果
+	 * @param failure 是否失败
+	 */
+	public synchronized void onResult(boolean failure) {
+		if (State.HALF_OPEN.equals(state)) {
+			if (failure) {
+				this.open();
+			} else if (++halfOpenSuccesses >= config.getPermittedCallsInHalfOpenState()) {
+				this.close();
+			}
+			return;
+		}
+		if (State.OPEN.equals(state)) {
+			return;
+		}
+		if (windowCalls == window.length) {
+			if (window[windowIndex]) {
+				windowFailures--;
+			}
+		} else {
+			windowCalls++;
+		}
+		window[windowIndex] = failure;
+		if (failure) {
+			windowFailures++;
+		}
+		windowIndex = (windowIndex + 1) % window.length;
+		if (windowCalls >= config.getMinimumCalls()
+				&& windowFailures >= config.getFailureRateThreshold() * windowCalls) {
+			this.open();
+		}
+	}
+
+	/**
+	 * 归还半开状态下已获取的试探配额，不记录请求结果，用于调用方主动取消的请求
+	 */
+	public synchronized void release() {
+		if (State.HALF_OPEN.equals(state) && halfOpenCalls > 0) {
+			halfOpenCalls--;
+		}
+	}
+
+	public synchronized State getState() {
+		return state;
+	}
+
+	/**
+	 * 获取当前滑动窗口内的失败率
+	 * @return 失败率，取值 0 ~ 1
+	 */
+	public synchronized double getFailureRate() {
+		return windowCalls == 0 ? 0d : (double) windowFailures / windowCalls;
+	}
+
+	private void open() {
+		state = State.OPEN;
+		openUntil = System.currentTimeMillis() + config.getWaitDurationInOpenState().toMillis();
+	}
+
+	private void close() {
+		state = State.CLOSED;
+		windowIndex = 0;
+		windowCalls = 0;
+		windowFailures = 0;
+	}
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2018, hiwepy (https://github.com/hiwepy).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.tencentcloud.spring.boot.tim;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.tencentcloud.spring.boot.tim.resp.TimActionResponse;
+
+/**
+ * 组合多个 {@link TimRequestListener}，未注册监听器时不产生任何开销
+ */
+public class TimCompositeRequestListener implements TimRequestListener {
+
+	private final List<TimRequestListener> listeners = new CopyOnWriteArrayList<>();
+
+	public void addListener(TimRequestListener listener) {
+		listeners.add(listener);
+	}
+
+	public List<TimRequestListener> getListeners() {
+		return listeners;
+	}
+
+	@Override
+	public TimRequestObservation onStart(TimApiAddress address, Object params) {
+		if (address == null || listeners.isEmpty()) {
+			return TimRequestObservation.NOOP;
+		}
+		if (listeners.size() == 1) {
+			return listeners.get(0).onStart(address, params);
+		}
+		TimRequestObservation[] observations = new TimRequestObservation[listeners.size()];
+		for (int i = 0; i < observations.length; i++) {
+			observations[i] = listeners.get(i).onStart(address, params);
+		}
+		return new TimRequestObservation() {
+
+			@Override
+			public void onExchange(long requestBytes, long responseBytes) {
+				for (TimRequestObservation observation : observations) {
+					observation.onExchange(requestBytes, responseBytes);
+				}
+			}
+
+			@Override
+			public void onComplete(TimActionResponse res, Throwable error) {
+				for (TimRequestObservation observation : observations) {
+					observation.onComplete(res, error);
+				}
+			}
+
+			@Override
+			public Scope makeCurrent() {
+				Scope[] scopes = new Scope[observations.length];
+				for (int i = 0; i < observations.length; i++) {
+					scopes[i] = observations[i].makeCurrent();
+				}
+				return () -> {
+					// 按打开的相反顺序关闭
+					for (int i = scopes.length - 1; i >= 0; i--) {
+						scopes[i].close();
+					}
+				};
+			}
+
+			@Override
+			public void runInContext(Runnable task) {
+				Runnable wrapped = task;
+				for (TimRequestObservation observation : observations) {
+					Runnable inner = wrapped;
+					wrapped = () -> observation.runInContext(inner);
+				}
+				wrapped.run();
+			}
+
+		};
+	}
+
+}
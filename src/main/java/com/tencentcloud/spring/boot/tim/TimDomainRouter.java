@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2018, hiwepy (https://github.com/hiwepy).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.tencentcloud.spring.boot.tim;
+
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.util.StringUtils;
+
+import com.tencentcloud.spring.boot.TencentTimProperties;
+
+/**
+ * Tim 多域名路由：按指数加权移动平均（EWMA）统计各域名的请求耗时，优先选择最快的健康域名；
+ * 域名连接失败时将其标记为不健康一段时间，并自动切换到其他域名；
+ * 长时间未被选中的域名会定期分出单个请求探测耗时，过期的耗时统计以探测结果重新计算
+ */
+public class TimDomainRouter {
+
+	public static final String DEFAULT_DOMAIN = "https://console.tim.qq.com";
+
+	private final List<Domain> domains = new ArrayList<>();
+	private final double ewmaAlpha;
+	private final long unhealthyMillis;
+	private final long probeMillis;
+
+	public TimDomainRouter(TencentTimProperties timProperties) {
+		TencentTimProperties.Routing routing = timProperties.getRouting();
+		List<String> candidates = new ArrayList<>(routing.getDomains());
+		if (candidates.isEmpty()) {
+			candidates.add(StringUtils.hasText(timProperties.getDomain()) ? timProperties.getDomain() : DEFAULT_DOMAIN);
+		}
+		for (String candidate : candidates) {
+			String baseUrl = this.toBaseUrl(candidate);
+			if (domains.stream().noneMatch(domain -> domain.getBaseUrl().equals(baseUrl))) {
+				domains.add(new Domain(baseUrl));
+			}
+		}
+		this.ewmaAlpha = Math.min(Math.max(routing.getEwmaAlpha(), 0.01d), 1d);
+		this.unhealthyMillis = routing.getUnhealthyDuration().toMillis();
+		this.probeMillis = routing.getProbeInterval().toMillis();
+	}
+
+	/**
+	 * 选择当前请求使用的域名：优先选择健康域名中 EWMA 耗时最短的，全部不健康时选择最早恢复的；
+	 * 其他健康域名的耗时统计过期时，本次请求用于探测该域名
+	 * @return 域名地址，如 https://console.tim.qq.com
+	 */
+	public String getBaseUrl() {
+		Domain selected = this.select(null);
+		long now = System.currentTimeMillis();
+		if (probeMillis > 0 && selected.isHealthy(now)) {
+			for (Domain domain : domains) {
+				if (domain != selected && domain.isHealthy(now) && domain.tryProbe(now, probeMillis)) {
+					return domain.getBaseUrl();
+				}
+			}
+		}
+		return selected.getBaseUrl();
+	}
+
+	/**
+	 * 记录请求结果；连接失败时标记该域名不健康，并返回切换到其他健康域名后的请求地址
+	 * @param url 请求地址
+	 * @param useTime 请求耗时，单位毫秒
+	 * @param error 请求异常，未发生异常时为 null
+	 * @return 切换域名后的请求地址，无需切换或没有其他健康域名时返回 null
+	 */
+	public String onCallResult(String url, long useTime, Throwable error) {
+		Domain current = this.find(url);
+		if (current == null) {
+			return null;
+		}
+		if (!this.isConnectFailure(error)) {
+			current.onLatency(useTime, ewmaAlpha, System.currentTimeMillis(), probeMillis);
+			return null;
+		}
+		current.markUnhealthy(System.currentTimeMillis() + unhealthyMillis);
+		Domain next = this.select(current);
+		if (next == current || !next.isHealthy(System.currentTimeMillis())) {
+			return null;
+		}
+		return next.getBaseUrl() + url.substring(current.getBaseUrl().length());
+	}
+
+	public List<Domain> getDomains() {
+		return Collections.unmodifiableList(domains);
+	}
+
+	/*
+	 * 连接阶段的异常说明请求尚未发出，可以安全地切换域名重新发送
+	 */
+	protected boolean isConnectFailure(Throwable error) {
+		if (error == null) {
+			return false;
+		}
+		if (error instanceof ConnectException || error instanceof NoRouteToHostException || error instanceof UnknownHostException) {
+			return true;
+		}
+		return error instanceof SocketTimeoutException && Objects.toString(error.getMessage(), "").contains("connect");
+	}
+
+	private Domain select(Domain exclude) {
+		long now = System.currentTimeMillis();
+		Domain selected = null;
+		for (Domain domain : domains) {
+			if (domain == exclude || !domain.isHealthy(now)) {
+				continue;
+			}
+			if (selected == null || domain.getEwma() < selected.getEwma()) {
+				selected = domain;
+			}
+		}
+		if (selected != null) {
+			return selected;
+		}
+		for (Domain domain : domains) {
+			if (selected == null || domain.getUnhealthyUntil() < selected.getUnhealthyUntil()) {
+				selected = domain;
+			}
+		}
+		return selected;
+	}
+
+	private Domain find(String url) {
+		for (Domain domain : domains) {
+			if (url.startsWith(domain.getBaseUrl())) {
+				return domain;
+			}
+		}
+		return null;
+	}
+
+	private String toBaseUrl(String domain) {
+		String baseUrl = domain.trim();
+		if (!baseUrl.startsWith("http://") && !baseUrl.startsWith("https://")) {
+			baseUrl = "https://" + baseUrl;
+		}
+		return baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+	}
+
+	public static class Domain {
+
+		private final String baseUrl;
+		/*
+		 * 未产生耗时统计的域名 EWMA 为 0，会被优先选中以获取耗时样本
+		 */
+		private volatile double ewma;
+		private volatile long unhealthyUntil;
+		private volatile long lastSampleTime;
+		private long lastProbeTime;
+
+		Domain(String baseUrl) {
+			this.baseUrl = baseUrl;
+		}
+
+		public String getBaseUrl() {
+			return baseUrl;
+		}
+
+		/**
+		 * @return EWMA 耗时，单位毫秒
+		 */
+		public double getEwma() {
+			return ewma;
+		}
+
+		public long getUnhealthyUntil() {
+			return unhealthyUntil;
+		}
+
+		public boolean isHealthy(long now) {
+			return now >= unhealthyUntil;
+		}
+
+		/*
+		 * 距上次样本超过 staleMillis 时原有统计已不能反映域名现状，直接以本次耗时作为 EWMA
+		 */
+		synchronized void onLatency(long useTime, double alpha, long now, long staleMillis) {
+			boolean stale = ewma == 0 || (staleMillis > 0 && now - lastSampleTime >= staleMillis);
+			ewma = stale ? useTime : alpha * useTime + (1 - alpha) * ewma;
+			lastSampleTime = now;
+		}
+
+		/*
+		 * 距上次样本及上次探测均超过 probeMillis 时占用本次探测，同一时间只分出一个探测请求
+		 */
+		synchronized boolean tryProbe(long now, long probeMillis) {
+			if (now - lastSampleTime < probeMillis || now - lastProbeTime < probeMillis) {
+				return false;
+			}
+			lastProbeTime = now;
+			return true;
+		}
+
+		void markUnhealthy(long until) {
+			unhealthyUntil = until;
+		}
+
+	}
+
+}
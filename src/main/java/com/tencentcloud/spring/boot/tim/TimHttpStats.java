@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2018, hiwepy (https://github.com/hiwepy).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.tencentcloud.spring.boot.tim;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Tim HTTP 客户端调度器与连接池的实时状态，用于评估 tencent.cloud.tim.http.* 配置是否合理
+ */
+@Data
+@AllArgsConstructor
+public class TimHttpStats {
+
+	/**
+	 * 正在执行的请求数
+	 */
+	private int runningCalls;
+
+	/**
+	 * 在调度队列中等待执行的异步请求数
+	 */
+	private int queuedCalls;
+
+	/**
+	 * 调度器最大并发请求数
+	 */
+	private int maxRequests;
+
+	/**
+	 * 调度器单个主机最大并发请求数
+	 */
+	private int maxRequestsPerHost;
+
+	/**
+	 * 连接池中的连接总数
+	 */
+	private int connections;
+
+	/**
+	 * 连接池中的空闲连接数
+	 */
+	private int idleConnections;
+
+}
@@ -0,0 +1,32 @@
+package com.tencentcloud.spring.boot.tim;
+
+/**
+ * Tim 请求、响应绑定可选的 Jackson 字节码加速模块，对应依赖需自行引入
+ * @author 		： <a href="https://github.com/hiwepy">hiwepy</a>
+ */
+public enum TimJsonModule {
+
+	/**
+	 * 不注册加速模块，使用反射访问字段
+	 */
+	NONE(null),
+	/**
+	 * jackson-module-afterburner：生成字节码访问字段，适用于 Java 8
+	 */
+	AFTERBURNER("com.fasterxml.jackson.module.afterburner.AfterburnerModule"),
+	/**
+	 * jackson-module-blackbird：基于 LambdaMetafactory 访问字段，适用于 Java 11 及以上版本
+	 */
+	BLACKBIRD("com.fasterxml.jackson.module.blackbird.BlackbirdModule");
+
+	private final String moduleClassName;
+
+	TimJsonModule(String moduleClassName) {
+		this.moduleClassName = moduleClassName;
+	}
+
+	public String getModuleClassName() {
+		return moduleClassName;
+	}
+
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2018, hiwepy (https://github.com/hiwepy).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.tencentcloud.spring.boot.tim;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.google.common.io.CountingOutputStream;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.ByteString;
+import okio.GzipSink;
+import okio.Okio;
+
+/**
+ * 直接将请求参数以 JSON 形式写入 OkHttp 输出流的请求体，避免先序列化为 String 再编码为字节的中间拷贝；
+ * 启用压缩时先序列化到内存缓冲区，超过阈值的请求体以 gzip 压缩后发送
+ */
+public class TimJsonRequestBody extends RequestBody {
+
+	private final ObjectWriter objectWriter;
+	private final Object params;
+	private final ByteString content;
+	private final boolean gzipped;
+	private final long originalBytes;
+	private volatile long bytesWritten;
+
+	/**
+	 * @param objectWriter 需禁用 JsonGenerator.Feature.AUTO_CLOSE_TARGET，底层 sink 由 OkHttp 负责关闭
+	 * @param params 请求参数
+	 */
+	public TimJsonRequestBody(ObjectWriter objectWriter, Object params) {
+		this(objectWriter, params, null, false, -1);
+	}
+
+	private TimJsonRequestBody(ObjectWriter objectWriter, Object params, ByteString content, boolean gzipped, long originalBytes) {
+		this.objectWriter = objectWriter;
+		this.params = params;
+		this.content = content;
+		this.gzipped = gzipped;
+		this.originalBytes = originalBytes;
+	}
+
+	/**
+	 * 预先序列化请求参数，序列化后的字节数不小于阈值时以 gzip 压缩
+	 * @param objectWriter 需禁用 JsonGenerator.Feature.AUTO_CLOSE_TARGET
+	 * @param params 请求参数
+	 * @param gzipThreshold 压缩阈值（字节）
+	 * @return 请求体
+	 * @throws IOException 序列化失败
+	 */
+	public static TimJsonRequestBody buffered(ObjectWriter objectWriter, Object params, long gzipThreshold) throws IOException {
+		Buffer json = new Buffer();
+		objectWriter.writeValue(json.outputStream(), params);
+		long originalBytes = json.size();
+		if (originalBytes < gzipThreshold) {
+			return new TimJsonRequestBody(objectWriter, params, json.readByteString(), false, originalBytes);
+		}
+		Buffer gzip = new Buffer();
+		try (BufferedSink sink = Okio.buffer(new GzipSink(gzip))) {
+			sink.writeAll(json);
+		}
+		return new TimJsonRequestBody(objectWriter, params, gzip.readByteString(), true, originalBytes);
+	}
+
+	@Override
+	public MediaType contentType() {
+		return TencentTimTemplate.APPLICATION_JSON_UTF8;
+	}
+
+	@Override
+	public long contentLength() {
+		return content != null ? content.size() : -1;
+	}
+
+	@Override
+	public void writeTo(BufferedSink sink) throws IOException {
+		if (content != null) {
+			sink.write(content);
+			bytesWritten = content.size();
+			return;
+		}
+		CountingOutputStream output = new CountingOutputStream(sink.outputStream());
+		objectWriter.writeValue(output, params);
+		output.flush();
+		bytesWritten = output.getCount();
+	}
+
+	/**
+	 * @return 最近一次写出的字节数，尚未写出时为 0
+	 */
+	public long getBytesWritten() {
+		return bytesWritten;
+	}
+
+	/**
+	 * @return 是否以 gzip 压缩，压缩时请求需携带 Content-Encoding: gzip
+	 */
+	public boolean isGzipped() {
+		return gzipped;
+	}
+
+	/**
+	 * @return 压缩前的字节数，未预先序列化时为 -1
+	 */
+	public long getOriginalBytes() {
+		return originalBytes;
+	}
+
+	public Object getParams() {
+		return params;
+	}
+
+}
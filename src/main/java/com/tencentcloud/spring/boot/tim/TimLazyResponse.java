@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2018, hiwepy (https://github.com/hiwepy).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.tencentcloud.spring.boot.tim;
+
+import java.io.IOException;
+
+import org.springframework.beans.BeanUtils;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.tencentcloud.spring.boot.tim.resp.TimActionResponse;
+
+/**
+ * 延迟绑定的 Tim 响应：仅解析 ActionStatus、ErrorCode、ErrorInfo 等公共字段，响应体以字节数组保留，
+ * 调用 {@link #bind(Class)} 时才绑定到具体的 {@link TimActionResponse} 子类；
+ * 适用于只关心 {@link #isSuccess()} 的调用，将 {@code TimLazyResponse.class} 作为响应类型传入即可
+ */
+public class TimLazyResponse extends TimActionResponse {
+
+	private static final String ACTION_STATUS = "ActionStatus";
+	private static final String ERROR_CODE = "ErrorCode";
+	private static final String ERROR_INFO = "ErrorInfo";
+	private static final String ERROR_DISPLAY = "ErrorDisplay";
+	private static final byte[] EMPTY_BODY = new byte[0];
+
+	@JsonIgnore
+	private final transient TencentTimTemplate timTemplate;
+	@JsonIgnore
+	private final transient byte[] body;
+	@JsonIgnore
+	private transient volatile TimActionResponse bound;
+
+	/**
+	 * 请求失败时使用的默认响应，ActionStatus 为 FAIL，绑定时返回对应类型的默认实例
+	 */
+	public TimLazyResponse() {
+		this(null, EMPTY_BODY);
+	}
+
+	TimLazyResponse(TencentTimTemplate timTemplate, byte[] body) {
+		this.timTemplate = timTemplate;
+		this.body = body;
+	}
+
+	/**
+	 * 解析响应体中的公共字段；公共字段全部读取后即停止解析，其余内容留待绑定时处理
+	 * @param jsonFactory JSON 工厂
+	 * @param timTemplate 绑定时使用的 Tim 模板
+	 * @param body 完整的响应体
+	 * @return 延迟绑定的响应
+	 * @throws IOException 响应体不是合法的 JSON
+	 */
+	static TimLazyResponse parse(JsonFactory jsonFactory, TencentTimTemplate timTemplate, byte[] body) throws IOException {
+		TimLazyResponse response = new TimLazyResponse(timTemplate, body);
+		try (JsonParser parser = jsonFactory.createParser(body)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				return response;
+			}
+			int remaining = 3;
+			while (remaining > 0 && parser.nextToken() == JsonToken.FIELD_NAME) {
+				String name = parser.getCurrentName();
+				parser.nextToken();
+				if (ACTION_STATUS.equals(name)) {
+					response.setActionStatus(parser.getValueAsString());
+					remaining--;
+				} else if (ERROR_CODE.equals(name)) {
+					response.setErrorCode(parser.getValueAsInt());
+					remaining--;
+				} else if (ERROR_INFO.equals(name)) {
+					response.setErrorInfo(parser.getValueAsString());
+					remaining--;
+				} else if (ERROR_DISPLAY.equals(name)) {
+					response.setErrorDisplay(parser.getValueAsString());
+				} else {
+					parser.skipChildren();
+				}
+			}
+		}
+		return response;
+	}
+
+	/**
+	 * 将保留的响应体绑定到具体的响应类型，同一类型只绑定一次
+	 * @param <T> 响应类型
+	 * @param cls 响应类型
+	 * @return 绑定结果，响应体为空或绑定失败时返回默认实例
+	 */
+	public <T extends TimActionResponse> T bind(Class<T> cls) {
+		TimActionResponse current = bound;
+		if (cls.isInstance(current)) {
+			return cls.cast(current);
+		}
+		T result = timTemplate != null ? timTemplate.readValue(body, cls) : BeanUtils.instantiateClass(cls);
+		bound = result;
+		return result;
+	}
+
+	/**
+	 * @return 保留的响应体字节数
+	 */
+	public int getBodyLength() {
+		return body.length;
+	}
+
+}
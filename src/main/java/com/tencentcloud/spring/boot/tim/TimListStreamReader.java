@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2018, hiwepy (https://github.com/hiwepy).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.tencentcloud.spring.boot.tim;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.tencentcloud.spring.boot.tim.resp.TimActionResponse;
+
+/**
+ * 流式读取列表响应：逐个解析指定数组字段中的元素并交给回调函数，不在内存中保留整个列表；
+ * 其余字段（ActionStatus、ErrorCode、分页标记等）照常绑定到响应类型，返回的响应中该列表字段为空
+ * @param <T> 响应类型
+ * @param <E> 列表元素类型
+ */
+public class TimListStreamReader<T extends TimActionResponse, E> {
+
+	private final ObjectMapper objectMapper;
+	private final ObjectReader responseReader;
+	private final ObjectReader elementReader;
+	private final String listField;
+	private final Consumer<? super E> consumer;
+	private volatile long count;
+
+	/**
+	 * @param objectMapper 用于创建解析器及读取其余字段
+	 * @param responseReader 响应类型的 ObjectReader
+	 * @param elementReader 列表元素类型的 ObjectReader
+	 * @param listField 需要流式读取的数组字段名，如 MemberList
+	 * @param consumer 列表元素处理回调函数，在读取响应的线程中执行
+	 */
+	public TimListStreamReader(ObjectMapper objectMapper, ObjectReader responseReader, ObjectReader elementReader,
+			String listField, Consumer<? super E> consumer) {
+		this.objectMapper = objectMapper;
+		this.responseReader = responseReader;
+		this.elementReader = elementReader;
+		this.listField = listField;
+		this.consumer = consumer;
+	}
+
+	/**
+	 * 读取响应体，列表元素在解析过程中依次回调
+	 * @param input 响应体输入流
+	 * @return 不含列表字段的响应
+	 * @throws IOException 读取或解析失败，此前已解析的元素已经回调
+	 * @throws TimStreamConsumerException 回调函数抛出异常
+	 */
+	public T read(InputStream input) throws IOException {
+		try (JsonParser parser = objectMapper.getFactory().createParser(input)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw JsonMappingException.from(parser, "Tim response is not a JSON object");
+			}
+			ObjectNode fields = objectMapper.createObjectNode();
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String name = parser.getCurrentName();
+				JsonToken token = parser.nextToken();
+				if (listField.equals(name) && token == JsonToken.START_ARRAY) {
+					while (parser.nextToken() != JsonToken.END_ARRAY) {
+						E element = elementReader.readValue(parser);
+						count++;
+						try {
+							consumer.accept(element);
+						} catch (RuntimeException e) {
+							throw new TimStreamConsumerException(e);
+						}
+					}
+				} else {
+					fields.set(name, objectMapper.readTree(parser));
+				}
+			}
+			return responseReader.readValue(fields);
+		}
+	}
+
+	/**
+	 * @return 已回调的列表元素数
+	 */
+	public long getCount() {
+		return count;
+	}
+
+}
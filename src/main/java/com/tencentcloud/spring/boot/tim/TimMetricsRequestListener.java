@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2018, hiwepy (https://github.com/hiwepy).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.tencentcloud.spring.boot.tim;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.tencentcloud.spring.boot.tim.resp.TimActionResponse;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 基于 Micrometer 的 Tim 接口调用指标：
+ * tim.requests 调用耗时（含重试），按 api、family、status 区分，并发布百分位直方图；
+ * tim.responses 调用结果计数，按 api、status、error.code 区分；
+ * tim.requests.active 正在进行的调用数；
+ * tim.request.size / tim.response.size 每次 HTTP 交互的请求体、响应体字节数
+ */
+public class TimMetricsRequestListener implements TimRequestListener {
+
+	public static final String STATUS_ERROR = "ERROR";
+
+	private final MeterRegistry registry;
+	private final Map<TimApiAddress, AtomicInteger> activeRequests = new ConcurrentHashMap<>();
+	private final Map<TimApiAddress, DistributionSummary> requestSizes = new ConcurrentHashMap<>();
+	private final Map<TimApiAddress, DistributionSummary> responseSizes = new ConcurrentHashMap<>();
+
+	public TimMetricsRequestListener(MeterRegistry registry) {
+		this.registry = registry;
+	}
+
+	@Override
+	public TimRequestObservation onStart(TimApiAddress address, Object params) {
+		AtomicInteger active = activeRequests.computeIfAbsent(address, key -> registry.gauge("tim.requests.active",
+				this.tags(key), new AtomicInteger()));
+		active.incrementAndGet();
+		long start = System.nanoTime();
+		return new TimRequestObservation() {
+
+			@Override
+			public void onExchange(long requestBytes, long responseBytes) {
+				requestSizes.computeIfAbsent(address, key -> summary("tim.request.size", key)).record(requestBytes);
+				if (responseBytes > 0) {
+					responseSizes.computeIfAbsent(address, key -> summary("tim.response.size", key)).record(responseBytes);
+				}
+			}
+
+			@Override
+			public void onComplete(TimActionResponse res, Throwable error) {
+				active.decrementAndGet();
+				String status = res != null ? res.getActionStatus() : STATUS_ERROR;
+				String errorCode = res != null ? String.valueOf(res.getErrorCode()) : error != null ? error.getClass().getSimpleName() : "none";
+				Timer.builder("tim.requests")
+						.description("Tim api request latency, including retries")
+						.tags(tags(address)).tag("status", status)
+						.publishPercentileHistogram()
+						.register(registry)
+						.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+				registry.counter("tim.responses", tags(address).and("status", status, "error.code", errorCode)).increment();
+			}
+
+		};
+	}
+
+	private DistributionSummary summary(String name, TimApiAddress address) {
+		return DistributionSummary.builder(name)
+				.baseUnit("bytes")
+				.tags(this.tags(address))
+				.publishPercentileHistogram()
+				.register(registry);
+	}
+
+	private Tags tags(TimApiAddress address) {
+		return Tags.of("api", address.name(), "family", address.getFamily().name());
+	}
+
+}
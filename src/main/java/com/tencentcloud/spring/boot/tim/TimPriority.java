@@ -0,0 +1,22 @@
+package com.tencentcloud.spring.boot.tim;
+
+/**
+ * Tim 请求优先级，优先级调度器按权重从各优先级队列中取出请求执行
+ * @author 		： <a href="https://github.com/hiwepy">hiwepy</a>
+ */
+public enum TimPriority {
+
+	/**
+	 * 交互请求：发送消息、撤回消息等对延迟敏感的请求
+	 */
+	INTERACTIVE,
+	/**
+	 * 普通请求
+	 */
+	NORMAL,
+	/**
+	 * 批量请求：导入帐号、导入消息、批量设置标签等后台任务
+	 */
+	BULK;
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2018, hiwepy (https://github.com/hiwepy).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.tencentcloud.spring.boot.tim;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.tencentcloud.spring.boot.TencentTimProperties;
+
+/**
+ * Tim 请求优先级调度器：限制同时进行的异步请求数，超出部分按优先级排队，
+ * 出队时按权重轮询（平滑加权轮询），保证批量任务运行期间交互请求仍能及时发出，同时批量请求不会被完全饿死
+ */
+public class TimPriorityScheduler {
+
+	private final TencentTimProperties.Scheduler config;
+	private final Map<TimPriority, Queue<Runnable>> queues = new EnumMap<>(TimPriority.class);
+	private final Map<TimPriority, AtomicInteger> queueDepths = new EnumMap<>(TimPriority.class);
+	private final Map<TimPriority, Integer> weights = new EnumMap<>(TimPriority.class);
+	private final Map<TimPriority, Integer> currentWeights = new EnumMap<>(TimPriority.class);
+	private final AtomicInteger wip = new AtomicInteger();
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	public TimPriorityScheduler(TencentTimProperties.Scheduler config) {
+		this.config = config;
+		for (TimPriority priority : TimPriority.values()) {
+			queues.put(priority, new ConcurrentLinkedQueue<>());
+			queueDepths.put(priority, new AtomicInteger());
+			weights.put(priority, Math.max(1, config.getWeights().getOrDefault(priority, 1)));
+			currentWeights.put(priority, 0);
+		}
+	}
+
+	/**
+	 * 获取接口的优先级
+	 * @param address 接口地址
+	 * @return 优先级，未配置时为 NORMAL
+	 */
+	public TimPriority getPriority(TimApiAddress address) {
+		return address == null ? TimPriority.NORMAL : config.getPriorities().getOrDefault(address, TimPriority.NORMAL);
+	}
+
+	/**
+	 * 提交请求，获得执行配额后执行；请求结束后必须调用 {@link #release()} 归还配额
+	 * @param priority 优先级
+	 * @param task 发起请求的任务
+	 * @throws RejectedExecutionException 该优先级的排队请求数已达上限
+	 */
+	public void submit(TimPriority priority, Runnable task) {
+		AtomicInteger depth = queueDepths.get(priority);
+		if (depth.incrementAndGet() > config.getMaxQueuedCalls()) {
+			depth.decrementAndGet();
+			throw new RejectedExecutionException("Tim " + priority + " request queue is full");
+		}
+		queues.get(priority).offer(task);
+		this.drain();
+	}
+
+	/**
+	 * 请求结束，归还执行配额
+	 */
+	public void release() {
+		inFlight.decrementAndGet();
+		this.drain();
+	}
+
+	public int getQueueDepth(TimPriority priority) {
+		return queueDepths.get(priority).get();
+	}
+
+	public int getInFlight() {
+		return inFlight.get();
+	}
+
+	/*
+	 * 只允许一个线程出队，其他线程的出队请求合并到正在出队的线程中处理，避免请求同步完成时的递归调用
+	 */
+	private void drain() {
+		if (wip.getAndIncrement() != 0) {
+			return;
+		}
+		int missed = 1;
+		for (;;) {
+			while (inFlight.get() < config.getMaxConcurrentCalls()) {
+				Runnable task = this.poll();
+				if (task == null) {
+					break;
+				}
+				inFlight.incrementAndGet();
+				task.run();
+			}
+			missed = wip.addAndGet(-missed);
+			if (missed == 0) {
+				break;
+			}
+		}
+	}
+
+	/*
+	 * 平滑加权轮询：非空队列的当前权重累加各自权重，选出当前权重最大的队列后减去总权重
+	 */
+	private synchronized Runnable poll() {
+		TimPriority selected = null;
+		int total = 0;
+		for (TimPriority priority : TimPriority.values()) {
+			if (queueDepths.get(priority).get() <= 0) {
+				continue;
+			}
+			int weight = weights.get(priority);
+			int current = currentWeights.get(priority) + weight;
+			currentWeights.put(priority, current);
+			total += weight;
+			if (selected == null || current > currentWeights.get(selected)) {
+				selected = priority;
+			}
+		}
+		if (selected == null) {
+			return null;
+		}
+		currentWeights.put(selected, currentWeights.get(selected) - total);
+		Runnable task = queues.get(selected).poll();
+		if (task != null) {
+			queueDepths.get(selected).decrementAndGet();
+		}
+		return task;
+	}
+
+}
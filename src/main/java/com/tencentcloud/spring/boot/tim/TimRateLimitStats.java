@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2018, hiwepy (https://github.com/hiwepy).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.tencentcloud.spring.boot.tim;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Tim 单个接口的客户端限流统计
+ */
+@Data
+@AllArgsConstructor
+public class TimRateLimitStats {
+
+	/**
+	 * 每秒请求数限制
+	 */
+	private double permitsPerSecond;
+
+	/**
+	 * 当前可用令牌数，为负数时表示排队中的请求已预支的令牌
+	 */
+	private double availablePermits;
+
+	/**
+	 * 获得令牌的请求总数
+	 */
+	private long acquired;
+
+	/**
+	 * 需要排队等待令牌的请求总数
+	 */
+	private long queued;
+
+	/**
+	 * 被拒绝的请求总数
+	 */
+	private long throttled;
+
+	/**
+	 * 排队等待的累计时长，单位毫秒
+	 */
+	private long queuedMillis;
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2018, hiwepy (https://github.com/hiwepy).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.tencentcloud.spring.boot.tim;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.tencentcloud.spring.boot.TencentTimProperties;
+
+/**
+ * Tim 客户端限流器：按接口维护令牌桶，在请求发出前消耗令牌，避免触发 Tim 服务端的频率限制
+ */
+public class TimRateLimiter {
+
+	private final TencentTimProperties.RateLimit rateLimit;
+	private final Map<TimApiAddress, TokenBucket> buckets = new EnumMap<>(TimApiAddress.class);
+
+	public TimRateLimiter(TencentTimProperties.RateLimit rateLimit) {
+		this.rateLimit = rateLimit;
+		if (rateLimit.isEnabled()) {
+			rateLimit.getLimits().forEach((address, permitsPerSecond) -> {
+				if (permitsPerSecond != null && permitsPerSecond > 0) {
+					buckets.put(address, new TokenBucket(permitsPerSecond, Math.max(1d, permitsPerSecond * rateLimit.getBurstSeconds())));
+				}
+			});
+		}
+	}
+
+	/**
+	 * 为一次请求预留令牌
+	 * @param address 接口地址
+	 * @return 获取令牌前需要等待的时长，单位纳秒；0 表示无需等待，-1 表示请求被拒绝
+	 */
+	public long reserve(TimApiAddress address) {
+		return this.reserve(address, Long.MAX_VALUE);
+	}
+
+	/**
+	 * 在截止时间前为一次请求预留令牌
+	 * @param address 接口地址
+	 * @param remainingNanos 距离截止时间的剩余时长，单位纳秒
+	 * @return 获取令牌前需要等待的时长，单位纳秒；0 表示无需等待，-1 表示请求被拒绝；
+	 * 返回值不小于 remainingNanos 时表示截止前无法获得令牌，此时不预留令牌
+	 */
+	public long reserve(TimApiAddress address, long remainingNanos) {
+		TokenBucket bucket = address != null ? buckets.get(address) : null;
+		if (bucket == null) {
+			return 0;
+		}
+		long maxWaitNanos = TencentTimProperties.RateLimitMode.REJECT.equals(rateLimit.getMode()) ? 0
+				: rateLimit.getMaxWait().toNanos();
+		return bucket.reserve(maxWaitNanos, remainingNanos);
+	}
+
+	/**
+	 * 获取各接口的限流统计
+	 * @return 接口限流统计
+	 */
+	public Map<TimApiAddress, TimRateLimitStats> getStats() {
+		if (buckets.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		Map<TimApiAddress, TimRateLimitStats> stats = new EnumMap<>(TimApiAddress.class);
+		buckets.forEach((address, bucket) -> stats.put(address, bucket.stats()));
+		return stats;
+	}
+
+	/**
+	 * 获取单个接口的限流统计
+	 * @param address 接口地址
+	 * @return 接口限流统计，未配置限流的接口返回 null
+	 */
+	public TimRateLimitStats getStats(TimApiAddress address) {
+		TokenBucket bucket = address != null ? buckets.get(address) : null;
+		return bucket != null ? bucket.stats() : null;
+	}
+
+	private static class TokenBucket {
+
+		private final double permitsPerSecond;
+		private final double capacity;
+		private final double nanosPerPermit;
+		private final LongAdder acquired = new LongAdder();
+		private final LongAdder queued = new LongAdder();
+		private final LongAdder throttled = new LongAdder();
+		private final LongAdder queuedNanos = new LongAdder();
+		/*
+		 * 当前令牌数，为负数时表示已被排队请求预支的令牌
+		 */
+		private double permits;
+		private long lastRefillNanos = System.nanoTime();
+
+		TokenBucket(double permitsPerSecond, double capacity) {
+			this.permitsPerSecond = permitsPerSecond;
+			this.capacity = capacity;
+			this.nanosPerPermit = TimeUnit.SECONDS.toNanos(1) / permitsPerSecond;
+			this.permits = capacity;
+		}
+
+		long reserve(long maxWaitNanos, long remainingNanos) {
+			long waitNanos;
+			synchronized (this) {
+				long now = System.nanoTime();
+				permits = Math.min(capacity, permits + (now - lastRefillNanos) / nanosPerPermit);
+				lastRefillNanos = now;
+				waitNanos = permits >= 1 ? 0 : (long) ((1 - permits) * nanosPerPermit);
+				if (waitNanos > maxWaitNanos) {
+					throttled.increment();
+					return -1;
+				}
+				if (waitNanos >= remainingNanos) {
+					// 截止前无法获得令牌，不预支令牌，避免影响后续请求
+					return waitNanos;
+				}
+				permits -= 1;
+			}
+			acquired.increment();
+			if (waitNanos > 0) {
+				queued.increment();
+				queuedNanos.add(waitNanos);
+			}
+			return waitNanos;
+		}
+
+		TimRateLimitStats stats() {
+			double available;
+			synchronized (this) {
+				available = permits;
+			}
+			return new TimRateLimitStats(permitsPerSecond, available, acquired.sum(), queued.sum(),
+					throttled.sum(), TimeUnit.NANOSECONDS.toMillis(queuedNanos.sum()));
+		}
+
+	}
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2018, hiwepy (https://github.com/hiwepy).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.tencentcloud.spring.boot.tim;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.tencentcloud.spring.boot.TencentTimProperties;
+
+/**
+ * Tim 请求体压缩：序列化后超过阈值的请求体以 gzip 压缩，并统计压缩前后的字节数
+ */
+public class TimRequestCompressor {
+
+	private final long threshold;
+	private final LongAdder compressedRequests = new LongAdder();
+	private final LongAdder originalBytes = new LongAdder();
+	private final LongAdder compressedBytes = new LongAdder();
+
+	public TimRequestCompressor(TencentTimProperties.Compression config) {
+		this.threshold = config.getThreshold().toBytes();
+	}
+
+	/**
+	 * 构建请求体，超过阈值时压缩
+	 * @param objectWriter 需禁用 JsonGenerator.Feature.AUTO_CLOSE_TARGET
+	 * @param params 请求参数
+	 * @return 请求体
+	 * @throws IOException 序列化失败
+	 */
+	public TimJsonRequestBody requestBody(ObjectWriter objectWriter, Object params) throws IOException {
+		TimJsonRequestBody requestBody = TimJsonRequestBody.buffered(objectWriter, params, threshold);
+		if (requestBody.isGzipped()) {
+			compressedRequests.increment();
+			originalBytes.add(requestBody.getOriginalBytes());
+			compressedBytes.add(requestBody.contentLength());
+		}
+		return requestBody;
+	}
+
+	/**
+	 * @return 压缩的请求数
+	 */
+	public long getCompressedRequests() {
+		return compressedRequests.sum();
+	}
+
+	/**
+	 * @return 压缩请求压缩前的总字节数
+	 */
+	public long getOriginalBytes() {
+		return originalBytes.sum();
+	}
+
+	/**
+	 * @return 压缩请求压缩后的总字节数
+	 */
+	public long getCompressedBytes() {
+		return compressedBytes.sum();
+	}
+
+	/**
+	 * @return 压缩节省的总字节数
+	 */
+	public long getSavedBytes() {
+		return this.getOriginalBytes() - this.getCompressedBytes();
+	}
+
+	/**
+	 * @return 压缩后与压缩前的字节数之比，尚未压缩任何请求时为 1
+	 */
+	public double getCompressionRatio() {
+		long original = this.getOriginalBytes();
+		return original == 0 ? 1d : (double) this.getCompressedBytes() / original;
+	}
+
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2018, hiwepy (https://github.com/hiwepy).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.tencentcloud.spring.boot.tim;
+
+/**
+ * Tim 请求监听器，由 {@link TencentTimTemplate} 在每次接口调用开始时调用，可用于指标统计、链路追踪等
+ * 一次接口调用可能包含多次 HTTP 交互（重试、切换域名），均归属于同一个 {@link TimRequestObservation}
+ */
+public interface TimRequestListener {
+
+	/**
+	 * 接口调用开始
+	 * @param address 接口地址
+	 * @param params 请求参数
+	 * @return 本次调用的观测对象，不能为 null
+	 */
+	TimRequestObservation onStart(TimApiAddress address, Object params);
+
+}
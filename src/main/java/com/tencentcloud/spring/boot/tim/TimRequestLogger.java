@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2018, hiwepy (https://github.com/hiwepy).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.tencentcloud.spring.boot.tim;
+
+import com.tencentcloud.spring.boot.tim.resp.TimActionResponse;
+
+/**
+ * Tim 请求日志记录器，由 {@link TencentTimTemplate} 在每次请求结束时调用一次
+ * 实现类应保证在日志级别未开启时不做任何格式化工作
+ */
+public interface TimRequestLogger {
+
+	/**
+	 * 请求成功且 ActionStatus=OK
+	 * @param address 接口地址，直接通过 URL 调用时为 null
+	 * @param url 请求地址
+	 * @param params 请求参数
+	 * @param res 响应结果
+	 * @param useTime 耗时（毫秒）
+	 */
+	void logSuccess(TimApiAddress address, String url, Object params, TimActionResponse res, long useTime);
+
+	/**
+	 * 请求成功但 ActionStatus=FAIL
+	 * @param address 接口地址，直接通过 URL 调用时为 null
+	 * @param url 请求地址
+	 * @param params 请求参数
+	 * @param res 响应结果
+	 * @param useTime 耗时（毫秒）
+	 */
+	void logFailure(TimApiAddress address, String url, Object params, TimActionResponse res, long useTime);
+
+	/**
+	 * HTTP 状态码非 2xx
+	 * @param address 接口地址，直接通过 URL 调用时为 null
+	 * @param url 请求地址
+	 * @param params 请求参数
+	 * @param code HTTP 状态码
+	 * @param message HTTP 状态信息
+	 * @param useTime 耗时（毫秒）
+	 */
+	void logHttpFailure(TimApiAddress address, String url, Object params, int code, String message, long useTime);
+
+	/**
+	 * 网络或解析异常
+	 * @param address 接口地址，直接通过 URL 调用时为 null
+	 * @param url 请求地址
+	 * @param params 请求参数
+	 * @param ex 异常
+	 * @param useTime 耗时（毫秒）
+	 */
+	void logError(TimApiAddress address, String url, Object params, Throwable ex, long useTime);
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2018, hiwepy (https://github.com/hiwepy).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.tencentcloud.spring.boot.tim;
+
+import com.tencentcloud.spring.boot.tim.resp.TimActionResponse;
+
+/**
+ * 单次 Tim 接口调用的观测对象，由 {@link TimRequestListener#onStart(TimApiAddress, Object)} 创建
+ */
+public interface TimRequestObservation {
+
+	TimRequestObservation NOOP = new TimRequestObservation() {};
+
+	/**
+	 * 一次 HTTP 交互结束
+	 * @param requestBytes 请求体字节数
+	 * @param responseBytes 响应体字节数，未读取响应体时为 0
+	 */
+	default void onExchange(long requestBytes, long responseBytes) {
+	}
+
+	/**
+	 * 接口调用结束，同步调用在返回前、异步调用在 Future 完成时调用
+	 * @param res 响应结果，异步调用异常结束时为 null
+	 * @param error 异步调用的异常，正常结束时为 null
+	 */
+	default void onComplete(TimActionResponse res, Throwable error) {
+	}
+
+	/**
+	 * 将本次调用设为当前上下文，在发送 HTTP 请求期间使用，以便 HTTP 客户端的拦截器、链路追踪插件将请求关联到本次调用
+	 * @return 上下文作用域，HTTP 请求发送完成后关闭
+	 */
+	default Scope makeCurrent() {
+		return Scope.NOOP;
+	}
+
+	/**
+	 * 在发起调用的上下文中执行任务，异步调用在 OkHttp 线程完成 Future 时使用，以便后续回调能获取链路追踪等上下文
+	 * @param task 任务
+	 */
+	default void runInContext(Runnable task) {
+		task.run();
+	}
+
+	/**
+	 * 上下文作用域，关闭时恢复之前的上下文
+	 */
+	interface Scope extends AutoCloseable {
+
+		Scope NOOP = () -> {};
+
+		@Override
+		void close();
+
+	}
+
+}
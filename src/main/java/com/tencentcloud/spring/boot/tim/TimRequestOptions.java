@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2018, hiwepy (https://github.com/hiwepy).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.tencentcloud.spring.boot.tim;
+
+import java.time.Duration;
+
+/**
+ * Tim 单次请求的选项
+ */
+public final class TimRequestOptions {
+
+	/**
+	 * 默认选项：不设置截止时间，仅受 OkHttp 客户端全局超时限制
+	 */
+	public static final TimRequestOptions DEFAULT = new TimRequestOptions(null);
+
+	private final Duration timeout;
+
+	private TimRequestOptions(Duration timeout) {
+		this.timeout = timeout;
+	}
+
+	/**
+	 * 指定请求的总超时时间：从发起调用开始计算，包含排队、限流等待、重试退避及每次 HTTP 交互的耗时，
+	 * 对应到每次 HTTP 交互的 {@link okhttp3.Call#timeout()}，到期后请求以 {@link TimDeadlineExceededException} 结束
+	 * @param timeout 总超时时间
+	 * @return 请求选项
+	 */
+	public static TimRequestOptions timeout(Duration timeout) {
+		if (timeout == null || timeout.isZero() || timeout.isNegative()) {
+			throw new IllegalArgumentException("timeout must be positive");
+		}
+		return new TimRequestOptions(timeout);
+	}
+
+	public Duration getTimeout() {
+		return timeout;
+	}
+
+	/**
+	 * 计算请求的截止时间
+	 * @param startNanos 请求开始时间，{@link System#nanoTime()}
+	 * @return 截止时间，未设置超时时间时为 0
+	 */
+	long getDeadlineNanos(long startNanos) {
+		if (timeout == null) {
+			return 0;
+		}
+		long deadline = startNanos + timeout.toNanos();
+		// System.nanoTime() 可能为 0 或负数，保证有超时时间时截止时间不为 0
+		return deadline == 0 ? 1 : deadline;
+	}
+
+}
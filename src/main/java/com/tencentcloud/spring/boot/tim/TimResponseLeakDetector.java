@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2018, hiwepy (https://github.com/hiwepy).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.tencentcloud.spring.boot.tim;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Tim HTTP 响应泄漏检测：记录每个尚未关闭的响应（即仍占用连接的响应）及其打开时长，
+ * 超过阈值仍未关闭时输出告警日志，用于在连接池耗尽前发现未关闭响应或处理过慢的回调
+ */
+@Slf4j
+public class TimResponseLeakDetector {
+
+	private static final Lease NOOP = () -> {};
+
+	private final long thresholdMillis;
+	private final Set<TrackedLease> leases = ConcurrentHashMap.newKeySet();
+	private final LongAdder leaked = new LongAdder();
+
+	/**
+	 * @param threshold 响应打开超过该时长视为泄漏，0 表示关闭检测
+	 */
+	public TimResponseLeakDetector(Duration threshold) {
+		this.thresholdMillis = threshold.toMillis();
+	}
+
+	public boolean isEnabled() {
+		return thresholdMillis > 0;
+	}
+
+	/**
+	 * 开始跟踪一个响应，响应关闭时必须关闭返回的租约
+	 * @param address 接口地址
+	 * @param url 请求地址
+	 * @return 响应租约
+	 */
+	public Lease track(TimApiAddress address, String url) {
+		if (!this.isEnabled()) {
+			return NOOP;
+		}
+		TrackedLease lease = new TrackedLease(address, url);
+		leases.add(lease);
+		return lease;
+	}
+
+	/**
+	 * 检查打开时间超过阈值的响应，每个响应只告警一次
+	 */
+	public void detect() {
+		long now = System.currentTimeMillis();
+		for (TrackedLease lease : leases) {
+			long age = now - lease.openedAt;
+			if (age >= thresholdMillis && !lease.reported) {
+				lease.reported = true;
+				leaked.increment();
+				log.warn("Tim {} >> Response has been open for {} ms without being closed, possible connection leak, url : {}, opened by thread : {}",
+						lease.address, age, lease.path, lease.thread);
+			}
+		}
+	}
+
+	/**
+	 * @return 尚未关闭的响应数
+	 */
+	public int getOpenResponses() {
+		return leases.size();
+	}
+
+	/**
+	 * @return 尚未关闭的响应中打开时间最长的时长，单位毫秒
+	 */
+	public long getOldestAgeMillis() {
+		long now = System.currentTimeMillis();
+		long oldest = 0;
+		for (TrackedLease lease : leases) {
+			oldest = Math.max(oldest, now - lease.openedAt);
+		}
+		return oldest;
+	}
+
+	/**
+	 * @return 检测到的疑似泄漏的响应数
+	 */
+	public long getLeakedResponses() {
+		return leaked.sum();
+	}
+
+	/**
+	 * 响应租约，关闭响应时一并关闭
+	 */
+	public interface Lease extends Closeable {
+
+		@Override
+		void close();
+
+	}
+
+	private class TrackedLease implements Lease {
+
+		private final TimApiAddress address;
+		private final String path;
+		private final String thread = Thread.currentThread().getName();
+		private final long openedAt = System.currentTimeMillis();
+		private volatile boolean reported;
+
+		TrackedLease(TimApiAddress address, String url) {
+			this.address = address;
+			// 不记录查询参数，避免 usersig 出现在日志中
+			int index = url.indexOf('?');
+			this.path = index < 0 ? url : url.substring(0, index);
+		}
+
+		@Override
+		public void close() {
+			if (leases.remove(this) && reported) {
+				log.warn("Tim {} >> Response reported as leaked was closed after {} ms, url : {}",
+						address, System.currentTimeMillis() - openedAt, path);
+			}
+		}
+
+	}
+
+}
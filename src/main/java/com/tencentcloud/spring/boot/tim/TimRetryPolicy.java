@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2018, hiwepy (https://github.com/hiwepy).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.tencentcloud.spring.boot.tim;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.tencentcloud.spring.boot.TencentTimProperties;
+import com.tencentcloud.spring.boot.tim.resp.TimActionResponse;
+
+/**
+ * Tim 请求重试策略：按错误类型判断是否可重试，计算带抖动的指数退避时长，并通过重试预算限制整体重试量
+ */
+public class TimRetryPolicy {
+
+	/*
+	 * 预算以千分之一次重试为单位计数，避免浮点数的并发累加
+	 */
+	private static final long UNIT = 1000L;
+
+	private final TencentTimProperties.Retry retry;
+	private final long budgetDeposit;
+	private final long budgetMax;
+	private final AtomicLong budget;
+
+	public TimRetryPolicy(TencentTimProperties.Retry retry) {
+		this.retry = retry;
+		this.budgetDeposit = (long) (retry.getBudgetRatio() * UNIT);
+		this.budgetMax = retry.getBudgetMax() * UNIT;
+		this.budget = new AtomicLong(budgetMax);
+	}
+
+	/**
+	 * 记录一次首次请求，为重试预算积累额度
+	 */
+	public void onRequest() {
+		if (!retry.isEnabled() || budgetDeposit <= 0) {
+			return;
+		}
+		budget.accumulateAndGet(budgetDeposit, (current, deposit) -> Math.min(current + deposit, budgetMax));
+	}
+
+	/**
+	 * 判断本次请求结果是否需要重试，需要重试时扣减一次重试预算
+	 * @param address 接口地址
+	 * @param attempt 已尝试次数
+	 * @param res 响应结果，请求异常时为 null
+	 * @param httpCode HTTP 状态码，请求异常时为 0
+	 * @param error 请求异常，未发生异常时为 null
+	 * @return 是否需要重试
+	 */
+	public boolean shouldRetry(TimApiAddress address, int attempt, TimActionResponse res, int httpCode, Throwable error) {
+		if (!retry.isEnabled() || attempt >= retry.getMaxAttempts()) {
+			return false;
+		}
+		if (address != null && retry.getExcludes().contains(address)) {
+			return false;
+		}
+		if (!this.isRetryable(res, httpCode, error)) {
+			return false;
+		}
+		if (address != null && retry.getNonIdempotent().contains(address) && !this.isRejected(res, httpCode, error)) {
+			return false;
+		}
+		return this.tryAcquireBudget();
+	}
+
+	/**
+	 * 判断请求结果是否属于可重试的错误：网络异常、HTTP 429 与 5xx、指定的 Tim 错误码
+	 * @param res 响应结果
+	 * @param httpCode HTTP 状态码
+	 * @param error 请求异常
+	 * @return 是否可重试
+	 */
+	public boolean isRetryable(TimActionResponse res, int httpCode, Throwable error) {
+		if (error != null) {
+			return error instanceof IOException && !(error instanceof JsonProcessingException);
+		}
+		if (httpCode < 200 || httpCode >= 300) {
+			return httpCode == 429 || httpCode >= 500;
+		}
+		return res != null && !res.isSuccess() && retry.getRetryableErrorCodes().contains(res.getErrorCode());
+	}
+
+	/**
+	 * 判断请求是否确定未被服务端处理：连接阶段失败、HTTP 429 或指定的 Tim 错误码，
+	 * 读超时、HTTP 5xx 等情况下请求可能已被处理，非幂等接口不能重试
+	 * @param res 响应结果
+	 * @param httpCode HTTP 状态码
+	 * @param error 请求异常
+	 * @return 是否确定未被处理
+	 */
+	public boolean isRejected(TimActionResponse res, int httpCode, Throwable error) {
+		if (error != null) {
+			return error instanceof ConnectException || error instanceof NoRouteToHostException
+					|| error instanceof UnknownHostException;
+		}
+		if (httpCode < 200 || httpCode >= 300) {
+			return httpCode == 429;
+		}
+		return res != null && !res.isSuccess() && retry.getRetryableErrorCodes().contains(res.getErrorCode());
+	}
+
+	/**
+	 * 计算第 attempt 次尝试失败后的退避时长
+	 * @param attempt 已尝试次数
+	 * @return 退避时长，单位毫秒
+	 */
+	public long getBackoffMillis(int attempt) {
+		double backoff = retry.getInitialBackoff().toMillis() * Math.pow(retry.getMultiplier(), attempt - 1);
+		backoff = Math.min(backoff, retry.getMaxBackoff().toMillis());
+		double jitter = Math.min(Math.max(retry.getJitter(), 0d), 1d);
+		return (long) (backoff * (1 - jitter * ThreadLocalRandom.current().nextDouble()));
+	}
+
+	/**
+	 * 获取剩余的重试预算
+	 * @return 剩余可重试次数
+	 */
+	public long getRemainingBudget() {
+		return budget.get() / UNIT;
+	}
+
+	private boolean tryAcquireBudget() {
+		long current;
+		do {
+			current = budget.get();
+			if (current < UNIT) {
+				return false;
+			}
+		} while (!budget.compareAndSet(current, current - UNIT));
+		return true;
+	}
+
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2018, hiwepy (https://github.com/hiwepy).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.tencentcloud.spring.boot.tim;
+
+/**
+ * 流式读取列表响应时回调函数抛出的异常，用于与网络、解析异常区分：
+ * 不计入熔断失败率、不触发重试，由 {@link TencentTimTemplate} 解包后将原异常抛给调用方
+ */
+@SuppressWarnings("serial")
+public class TimStreamConsumerException extends RuntimeException {
+
+	public TimStreamConsumerException(RuntimeException cause) {
+		super(cause);
+	}
+
+	@Override
+	public synchronized RuntimeException getCause() {
+		return (RuntimeException) super.getCause();
+	}
+
+}
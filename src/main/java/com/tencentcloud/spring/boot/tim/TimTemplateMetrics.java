@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2018, hiwepy (https://github.com/hiwepy).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.tencentcloud.spring.boot.tim;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+/**
+ * 基于 Micrometer 的 Tim 客户端状态指标：
+ * tim.scheduler.queue.depth 各优先级排队的异步请求数，按 priority 区分；
+ * tim.scheduler.in.flight 已获得调度配额、正在进行的异步请求数；
+ * tim.limiter.limit 自适应并发限制当前的并发上限；
+ * tim.limiter.in.flight 占用并发配额的请求数；
+ * tim.limiter.rejected 超出并发上限被拒绝的请求数；
+ * tim.ratelimit.throttled 被客户端限流拒绝的请求数，按 api 区分；
+ * tim.ratelimit.queued 排队等待限流令牌的请求数，按 api 区分；
+ * tim.ratelimit.queued.time 排队等待限流令牌的累计时长，按 api 区分；
+ * executor.* 异步响应处理线程池的线程数、队列长度、任务数等，name 为 tim-callback；
+ * tim.http.connections 连接池中的连接数，按 state（active、idle）区分；
+ * tim.http.calls 调度器中的请求数，按 state（running、queued）区分；
+ * tim.http.responses.open 尚未关闭（仍占用连接）的响应数；
+ * tim.http.responses.oldest.age 尚未关闭的响应中打开时间最长的时长；
+ * tim.http.responses.leaked 超过泄漏检测阈值仍未关闭的响应数；
+ * tim.request.compressed gzip 压缩的请求数；
+ * tim.request.compression.saved 压缩节省的请求体字节数；
+ * tim.request.compression.ratio 压缩后与压缩前的请求体字节数之比
+ */
+public class TimTemplateMetrics {
+
+	private final TencentTimTemplate template;
+
+	public TimTemplateMetrics(TencentTimTemplate template) {
+		this.template = template;
+	}
+
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("tim.http.connections", template, t -> {
+					TimHttpStats stats = t.getHttpStats();
+					return stats.getConnections() - stats.getIdleConnections();
+				})
+				.tag("state", "active")
+				.description("Tim pooled connections in use")
+				.register(registry);
+		Gauge.builder("tim.http.connections", template, t -> t.getHttpStats().getIdleConnections())
+				.tag("state", "idle")
+				.description("Tim pooled connections idle")
+				.register(registry);
+		Gauge.builder("tim.http.calls", template, t -> t.getHttpStats().getRunningCalls())
+				.tag("state", "running")
+				.description("Tim calls executing in the OkHttp dispatcher")
+				.register(registry);
+		Gauge.builder("tim.http.calls", template, t -> t.getHttpStats().getQueuedCalls())
+				.tag("state", "queued")
+				.description("Tim calls waiting in the OkHttp dispatcher")
+				.register(registry);
+		TimResponseLeakDetector leakDetector = template.getLeakDetector();
+		if (leakDetector.isEnabled()) {
+			Gauge.builder("tim.http.responses.open", leakDetector, TimResponseLeakDetector::getOpenResponses)
+					.description("Tim responses not yet closed")
+					.register(registry);
+			TimeGauge.builder("tim.http.responses.oldest.age", leakDetector, TimeUnit.MILLISECONDS, TimResponseLeakDetector::getOldestAgeMillis)
+					.description("Age of the oldest Tim response not yet closed")
+					.register(registry);
+			FunctionCounter.builder("tim.http.responses.leaked", leakDetector, TimResponseLeakDetector::getLeakedResponses)
+					.description("Tim responses open longer than the leak detection threshold")
+					.register(registry);
+		}
+		TimPriorityScheduler scheduler = template.getPriorityScheduler();
+		if (scheduler != null) {
+			for (TimPriority priority : TimPriority.values()) {
+				Gauge.builder("tim.scheduler.queue.depth", scheduler, s -> s.getQueueDepth(priority))
+						.tag("priority", priority.name())
+						.description("Tim async requests waiting for a scheduler permit")
+						.register(registry);
+			}
+			Gauge.builder("tim.scheduler.in.flight", scheduler, TimPriorityScheduler::getInFlight)
+					.description("Tim async requests holding a scheduler permit")
+					.register(registry);
+		}
+		TimAdaptiveLimiter limiter = template.getAdaptiveLimiter();
+		if (limiter != null) {
+			Gauge.builder("tim.limiter.limit", limiter, TimAdaptiveLimiter::getLimit)
+					.description("Current adaptive concurrency limit of Tim requests")
+					.register(registry);
+			Gauge.builder("tim.limiter.in.flight", limiter, TimAdaptiveLimiter::getInFlight)
+					.description("Tim requests holding an adaptive concurrency permit")
+					.register(registry);
+			FunctionCounter.builder("tim.limiter.rejected", limiter, TimAdaptiveLimiter::getRejected)
+					.description("Tim requests rejected by the adaptive concurrency limit")
+					.register(registry);
+		}
+		TimRateLimiter rateLimiter = template.getRateLimiter();
+		for (TimApiAddress address : rateLimiter.getStats().keySet()) {
+			Tags tags = Tags.of("api", address.name(), "family", address.getFamily().name());
+			FunctionCounter.builder("tim.ratelimit.throttled", rateLimiter, r -> r.getStats(address).getThrottled())
+					.tags(tags)
+					.description("Tim requests rejected by the client rate limit")
+					.register(registry);
+			FunctionCounter.builder("tim.ratelimit.queued", rateLimiter, r -> r.getStats(address).getQueued())
+					.tags(tags)
+					.description("Tim requests queued for a client rate limit permit")
+					.register(registry);
+			FunctionCounter.builder("tim.ratelimit.queued.time", rateLimiter, r -> r.getStats(address).getQueuedMillis())
+					.tags(tags)
+					.baseUnit("milliseconds")
+					.description("Time Tim requests spent queued for a client rate limit permit")
+					.register(registry);
+		}
+		TimRequestCompressor compressor = template.getCompressor();
+		if (compressor != null) {
+			FunctionCounter.builder("tim.request.compressed", compressor, TimRequestCompressor::getCompressedRequests)
+					.description("Tim requests sent with a gzip body")
+					.register(registry);
+			FunctionCounter.builder("tim.request.compression.saved", compressor, TimRequestCompressor::getSavedBytes)
+					.baseUnit("bytes")
+					.description("Tim request body bytes saved by gzip")
+					.register(registry);
+			Gauge.builder("tim.request.compression.ratio", compressor, TimRequestCompressor::getCompressionRatio)
+					.description("Compressed to original size ratio of gzip Tim request bodies")
+					.register(registry);
+		}
+		Executor callbackExecutor = template.getCallbackExecutor();
+		if (callbackExecutor instanceof ExecutorService) {
+			new ExecutorServiceMetrics((ExecutorService) callbackExecutor, "tim-callback", Tags.empty()).bindTo(registry);
+		}
+	}
+
+}
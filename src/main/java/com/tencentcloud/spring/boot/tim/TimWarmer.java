@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2018, hiwepy (https://github.com/hiwepy).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.tencentcloud.spring.boot.tim;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.core.type.filter.RegexPatternTypeFilter;
+import org.springframework.util.ClassUtils;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.tencentcloud.spring.boot.TencentTimProperties;
+import com.tencentcloud.spring.boot.tim.resp.TimActionResponse;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Tim 预热：应用就绪时生成管理员 UserSig、构建所有请求与响应类型的序列化器并预先建立连接，
+ * 之后定时发送保活请求，避免低峰期连接池中的连接全部过期
+ */
+@Slf4j
+public class TimWarmer implements ApplicationListener<ApplicationReadyEvent>, DisposableBean {
+
+	private static final String REQUEST_PACKAGE = TencentTimTemplate.class.getPackage().getName() + ".req";
+	private static final String RESPONSE_PACKAGE = TimActionResponse.class.getPackage().getName();
+
+	private final TencentTimTemplate template;
+	private final TencentTimProperties.Warmup config;
+	private final AtomicBoolean started = new AtomicBoolean();
+	private ScheduledExecutorService keepAliveExecutor;
+
+	public TimWarmer(TencentTimTemplate template, TencentTimProperties.Warmup config) {
+		this.template = template;
+		this.config = config;
+	}
+
+	@Override
+	public void onApplicationEvent(ApplicationReadyEvent event) {
+		if (!started.compareAndSet(false, true)) {
+			return;
+		}
+		this.warmUp();
+		long interval = config.getKeepAliveInterval().toMillis();
+		if (interval > 0) {
+			keepAliveExecutor = Executors.newSingleThreadScheduledExecutor(
+					new ThreadFactoryBuilder().setNameFormat("tim-keep-alive-%d").setDaemon(true).build());
+			keepAliveExecutor.scheduleWithFixedDelay(this::keepAlive, interval, interval, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * 执行预热，在应用就绪事件中同步执行，预热完成前应用不会进入接收流量状态
+	 */
+	public void warmUp() {
+		long start = System.currentTimeMillis();
+		try {
+			template.getAdminUserSig();
+			int types = template.primeSerializers(this.scanTypes());
+			int opened = template.openConnections(config.getConnections(), config.getTimeout());
+			log.info("Tim warm-up finished in {} ms, {} serializers primed, {}/{} warm-up requests completed",
+					System.currentTimeMillis() - start, types, opened, config.getConnections());
+		} catch (Exception e) {
+			log.warn("Tim warm-up failed : {}", e.getMessage());
+		}
+	}
+
+	@Override
+	public void destroy() throws Exception {
+		if (keepAliveExecutor != null) {
+			keepAliveExecutor.shutdownNow();
+		}
+	}
+
+	private void keepAlive() {
+		try {
+			template.getAdminUserSig();
+			template.openConnections(config.getConnections(), config.getTimeout());
+		} catch (Exception e) {
+			log.debug("Tim keep-alive failed : {}", e.getMessage());
+		}
+	}
+
+	/*
+	 * 扫描请求类型与响应类型
+	 */
+	private List<Class<?>> scanTypes() {
+		List<Class<?>> types = new ArrayList<>();
+		ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+		scanner.addIncludeFilter(new RegexPatternTypeFilter(Pattern.compile(".*")));
+		this.addTypes(types, scanner.findCandidateComponents(REQUEST_PACKAGE));
+		scanner.resetFilters(false);
+		scanner.addIncludeFilter(new AssignableTypeFilter(TimActionResponse.class));
+		this.addTypes(types, scanner.findCandidateComponents(RESPONSE_PACKAGE));
+		return types;
+	}
+
+	private void addTypes(List<Class<?>> types, Iterable<BeanDefinition> candidates) {
+		ClassLoader classLoader = TimWarmer.class.getClassLoader();
+		for (BeanDefinition candidate : candidates) {
+			try {
+				types.add(ClassUtils.forName(candidate.getBeanClassName(), classLoader));
+			} catch (ClassNotFoundException | LinkageError e) {
+				log.debug("Tim warm-up skips type {} : {}", candidate.getBeanClassName(), e.getMessage());
+			}
+		}
+	}
+
+}
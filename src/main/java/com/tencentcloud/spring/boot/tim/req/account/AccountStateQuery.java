@@ -0,0 +1,35 @@
+package com.tencentcloud.spring.boot.tim.req.account;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 查询帐号在线状态请求实体
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountStateQuery {
+
+	/**
+	 * 需要查询这些 UserID 的登录状态，一次最多查询500个 UserID 的状态
+	 */
+	@JsonProperty("To_Account")
+	private List<String> toAccount;
+
+	/**
+	 * 是否需要查询详细的登录平台信息。0表示不需要，1表示需要
+	 */
+	@JsonProperty("IsNeedDetail")
+	private Integer isNeedDetail;
+
+}
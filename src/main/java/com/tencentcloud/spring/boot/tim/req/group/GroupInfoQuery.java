@@ -0,0 +1,33 @@
+package com.tencentcloud.spring.boot.tim.req.group;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 获取群详细资料请求实体
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GroupInfoQuery {
+
+	/**
+	 * 需要拉取的群组列表
+	 */
+	@JsonProperty("GroupIdList")
+	private String[] groupIdList;
+
+	/**
+	 * 包含三个过滤器：GroupBaseInfoFilter，MemberInfoFilter，AppDefinedDataFilter_Group，分别是基础信息字段过滤器，成员信息字段过滤器，群组维度的自定义字段过滤器
+	 */
+	@JsonProperty("ResponseFilter")
+	private GroupResponseFilter responseFilter;
+
+}
@@ -0,0 +1,65 @@
+package com.tencentcloud.spring.boot.tim.req.group;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.tencentcloud.spring.boot.tim.req.message.MsgBody;
+import com.tencentcloud.spring.boot.tim.req.message.OfflinePushInfo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 在群组中发送普通消息请求实体（与 {@link GroupMessage} 不同，随机数与在线标记沿用字符串形式）
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GroupMessageSend {
+
+	/**
+	 * 群组ID
+	 */
+	@JsonProperty("GroupId")
+	private String groupId;
+
+	/**
+	 * 消息来源帐号，选填。如果不填写该字段，则默认消息的发送者为调用该接口时使用的 App 管理员帐号
+	 */
+	@JsonProperty("From_Account")
+	private String account;
+
+	/**
+	 * 随机数字，五分钟数字相同认为是重复消息
+	 */
+	@JsonProperty("Random")
+	private String random;
+
+	/**
+	 * 如果消息体中指定 OnlineOnlyFlag，只要值大于0，则消息表示只在线下发，不存离线和漫游（AVChatRoom 和 BChatRoom 不允许使用）。
+	 */
+	@JsonProperty("OnlineOnlyFlag")
+	private String onlineOnlyFlag;
+
+	/**
+	 * 消息回调禁止开关，只对单条消息有效，ForbidBeforeSendMsgCallback 表示禁止发消息前回调，ForbidAfterSendMsgCallback 表示禁止发消息后回调
+	 */
+	@JsonProperty("ForbidCallbackControl")
+	private String[] forbidCallbackControl;
+
+	/**
+	 * 离线信息设置
+	 */
+	@JsonProperty("OfflinePushInfo")
+	private OfflinePushInfo offlinePushInfo;
+
+	/**
+	 * 消息信息
+	 */
+	@JsonProperty("MsgBody")
+	private MsgBody[] msgBody;
+
+}
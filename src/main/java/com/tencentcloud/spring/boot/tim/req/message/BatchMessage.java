@@ -65,6 +65,12 @@ public class BatchMessage {
 	@JsonProperty("MsgBody")
 	private List<MsgBody> msgBody;
 
+	/**
+	 * 消息回调禁止开关，只对本条消息有效，ForbidBeforeSendMsgCallback 表示禁止发消息前回调，ForbidAfterSendMsgCallback 表示禁止发消息后回调
+	 */
+	@JsonProperty("ForbidCallbackControl")
+	private List<String> forbidCallbackControl;
+
 	/**
 	 * 离线信息设置
 	 */
@@ -0,0 +1,35 @@
+package com.tencentcloud.spring.boot.tim.req.profile;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 拉取资料请求实体
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PortraitQuery {
+
+	/**
+	 * 需要拉取这些 UserID 的资料
+	 */
+	@JsonProperty("To_Account")
+	private List<String> toAccount;
+
+	/**
+	 * 指定要拉取的资料字段的 Tag，支持的字段有：标配资料字段，自定义资料字段
+	 */
+	@JsonProperty("TagList")
+	private List<String> tagList;
+
+}
@@ -64,7 +64,7 @@ public class FriendGetResponse extends TimActionResponse {
 	
 	@JsonInclude(JsonInclude.Include.NON_NULL)
 	@Data
-	public class UserDataItem {
+	public static class UserDataItem {
 		
 		/**
 		 * 好友的 UserID
@@ -79,7 +79,7 @@ public class FriendGetResponse extends TimActionResponse {
 	
 		@JsonInclude(JsonInclude.Include.NON_NULL)
 		@Data
-		public class ValueItem {
+		public static class ValueItem {
 			
 			/**
 			 * 好友字段的名称
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2018, hiwepy (https://github.com/hiwepy).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.tencentcloud.spring.boot.tracing;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+
+import com.tencentcloudapi.common.AbstractModel;
+import com.tencentcloudapi.common.exception.TencentCloudSDKException;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+
+/**
+ * 基于 OpenTelemetry 的腾讯云 SDK 调用追踪，Span 名称为 服务/接口，如 sms/SendSms
+ */
+public class OpenTelemetryTencentCloudTracer implements TencentCloudTracer {
+
+	public static final String INSTRUMENTATION_NAME = "com.tencentcloud.spring.boot";
+
+	private final Supplier<OpenTelemetry> openTelemetry;
+
+	public OpenTelemetryTencentCloudTracer(OpenTelemetry openTelemetry) {
+		this(() -> openTelemetry);
+	}
+
+	/**
+	 * @param openTelemetry OpenTelemetry 实例的获取方式，每次调用时获取，如 GlobalOpenTelemetry::get
+	 */
+	public OpenTelemetryTencentCloudTracer(Supplier<OpenTelemetry> openTelemetry) {
+		this.openTelemetry = openTelemetry;
+	}
+
+	private Tracer tracer() {
+		return openTelemetry.get().getTracer(INSTRUMENTATION_NAME);
+	}
+
+	@Override
+	public <R extends AbstractModel> R trace(String service, String action, AbstractModel request, SdkCall<R> call)
+			throws TencentCloudSDKException {
+		Span span = this.tracer().spanBuilder(service + "/" + action)
+				.setSpanKind(SpanKind.CLIENT)
+				.setAttribute("rpc.system", "tencentcloud")
+				.setAttribute("rpc.service", service)
+				.setAttribute("rpc.method", action)
+				.startSpan();
+		Scope scope = span.makeCurrent();
+		try {
+			// 报文大小需要序列化计算，仅在 Span 被采样时计算
+			if (span.isRecording()) {
+				span.setAttribute("tencentcloud.request.size", payloadSize(request));
+			}
+			R response = call.call();
+			if (span.isRecording()) {
+				span.setAttribute("tencentcloud.response.size", payloadSize(response));
+			}
+			return response;
+		} catch (TencentCloudSDKException e) {
+			span.setAttribute("tencentcloud.error_code", String.valueOf(e.getErrorCode()));
+			span.setAttribute("tencentcloud.request_id", String.valueOf(e.getRequestId()));
+			span.recordException(e);
+			span.setStatus(StatusCode.ERROR, e.getMessage());
+			throw e;
+		} catch (RuntimeException e) {
+			span.recordException(e);
+			span.setStatus(StatusCode.ERROR, e.getMessage());
+			throw e;
+		} finally {
+			scope.close();
+			span.end();
+		}
+	}
+
+	private long payloadSize(AbstractModel model) {
+		return model == null ? 0 : AbstractModel.toJsonString(model).getBytes(StandardCharsets.UTF_8).length;
+	}
+
+}
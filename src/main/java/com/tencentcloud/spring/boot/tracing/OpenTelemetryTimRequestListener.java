@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2018, hiwepy (https://github.com/hiwepy).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.tencentcloud.spring.boot.tracing;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import com.tencentcloud.spring.boot.tim.TimApiAddress;
+import com.tencentcloud.spring.boot.tim.TimRequestListener;
+import com.tencentcloud.spring.boot.tim.TimRequestObservation;
+import com.tencentcloud.spring.boot.tim.resp.TimActionResponse;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+
+/**
+ * 基于 OpenTelemetry 的 Tim 接口调用追踪：每次接口调用（含重试、切换域名）对应一个 Span，
+ * 异步调用完成时在发起调用的上下文中执行后续回调
+ */
+public class OpenTelemetryTimRequestListener implements TimRequestListener {
+
+	private final Supplier<OpenTelemetry> openTelemetry;
+
+	public OpenTelemetryTimRequestListener(OpenTelemetry openTelemetry) {
+		this(() -> openTelemetry);
+	}
+
+	/**
+	 * @param openTelemetry OpenTelemetry 实例的获取方式，每次调用时获取，如 GlobalOpenTelemetry::get
+	 */
+	public OpenTelemetryTimRequestListener(Supplier<OpenTelemetry> openTelemetry) {
+		this.openTelemetry = openTelemetry;
+	}
+
+	private Tracer tracer() {
+		return openTelemetry.get().getTracer(OpenTelemetryTencentCloudTracer.INSTRUMENTATION_NAME);
+	}
+
+	@Override
+	public TimRequestObservation onStart(TimApiAddress address, Object params) {
+		Context parent = Context.current();
+		Span span = this.tracer().spanBuilder("tim/" + address.name())
+				.setParent(parent)
+				.setSpanKind(SpanKind.CLIENT)
+				.setAttribute("rpc.system", "tim")
+				.setAttribute("rpc.service", address.getFamily().getService())
+				.setAttribute("rpc.method", address.name())
+				.setAttribute("tim.api.name", address.getOpt())
+				.startSpan();
+		AtomicInteger attempts = new AtomicInteger();
+		AtomicLong requestBytes = new AtomicLong();
+		AtomicLong responseBytes = new AtomicLong();
+		return new TimRequestObservation() {
+
+			@Override
+			public void onExchange(long requestSize, long responseSize) {
+				attempts.incrementAndGet();
+				requestBytes.addAndGet(requestSize);
+				responseBytes.addAndGet(responseSize);
+			}
+
+			@Override
+			public void onComplete(TimActionResponse res, Throwable error) {
+				span.setAttribute("tim.attempts", attempts.get());
+				span.setAttribute("tim.request.size", requestBytes.get());
+				span.setAttribute("tim.response.size", responseBytes.get());
+				if (error != null) {
+					span.recordException(error);
+					span.setStatus(StatusCode.ERROR, error.getMessage());
+				} else if (res != null) {
+					span.setAttribute("tim.action_status", String.valueOf(res.getActionStatus()));
+					span.setAttribute("tim.error_code", res.getErrorCode());
+					if (!res.isSuccess()) {
+						span.setStatus(StatusCode.ERROR, String.valueOf(res.getErrorInfo()));
+					}
+				}
+				span.end();
+			}
+
+			@Override
+			public Scope makeCurrent() {
+				return span.makeCurrent()::close;
+			}
+
+			@Override
+			public void runInContext(Runnable task) {
+				parent.wrap(task).run();
+			}
+
+		};
+	}
+
+}
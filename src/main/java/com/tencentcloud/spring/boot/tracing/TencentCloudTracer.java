@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2018, hiwepy (https://github.com/hiwepy).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.tencentcloud.spring.boot.tracing;
+
+import com.tencentcloudapi.common.AbstractModel;
+import com.tencentcloudapi.common.exception.TencentCloudSDKException;
+
+/**
+ * 腾讯云 SDK 调用追踪器，Live、Trtc、Sms 模板通过它发起 SDK 调用，默认不做任何处理
+ */
+public interface TencentCloudTracer {
+
+	TencentCloudTracer NOOP = new TencentCloudTracer() {
+
+		@Override
+		public <R extends AbstractModel> R trace(String service, String action, AbstractModel request, SdkCall<R> call)
+				throws TencentCloudSDKException {
+			return call.call();
+		}
+
+	};
+
+	/**
+	 * 追踪一次 SDK 调用
+	 * @param <R> 响应类型
+	 * @param service 服务名称，如 live、trtc、sms
+	 * @param action 接口名称，如 SendSms
+	 * @param request 请求对象
+	 * @param call SDK 调用
+	 * @return 响应对象
+	 * @throws TencentCloudSDKException SDK 异常
+	 */
+	<R extends AbstractModel> R trace(String service, String action, AbstractModel request, SdkCall<R> call)
+			throws TencentCloudSDKException;
+
+	@FunctionalInterface
+	interface SdkCall<R> {
+
+		R call() throws TencentCloudSDKException;
+
+	}
+
+}
@@ -22,6 +22,7 @@ import java.util.stream.Stream;
 import org.springframework.util.StringUtils;
 
 import com.tencentcloud.spring.boot.TencentTrtcProperties;
+import com.tencentcloud.spring.boot.tracing.TencentCloudTracer;
 import com.tencentcloud.spring.boot.utils.CommonHelper;
 import com.tencentcloudapi.common.exception.TencentCloudSDKException;
 import com.tencentcloudapi.trtc.v20190722.TrtcClient;
@@ -54,6 +55,7 @@ public class TencentTrtcTemplate {
 
 	private TrtcUserIdProvider trtcUserIdProvider;
 	private TrtcClient trtcClient;
+	private TencentCloudTracer tracer = TencentCloudTracer.NOOP;
 	private TencentTrtcProperties trtcProperties;
 
 	public TencentTrtcTemplate(TrtcClient trtcClient, TencentTrtcProperties trtcProperties,
@@ -80,7 +82,7 @@ public class TencentTrtcTemplate {
 		req.setUserIds(Stream.of(userIds).map(userId -> this.getTrtcUserByUserId(userId)).collect(Collectors.toList())
 				.toArray(new String[userIds.length]));
 
-		RemoveUserResponse resp = trtcClient.RemoveUser(req);
+		RemoveUserResponse resp = tracer.trace("trtc", "RemoveUser", req, () -> trtcClient.RemoveUser(req));
 
 		String respString = RemoveUserResponse.toJsonString(resp);
 
@@ -108,7 +110,7 @@ public class TencentTrtcTemplate {
 		req.setUserIds(Stream.of(userIds).map(userId -> this.getTrtcUserByUserId(userId)).collect(Collectors.toList())
 				.toArray(new String[userIds.length]));
 
-		RemoveUserByStrRoomIdResponse resp = trtcClient.RemoveUserByStrRoomId(req);
+		RemoveUserByStrRoomIdResponse resp = tracer.trace("trtc", "RemoveUserByStrRoomId", req, () -> trtcClient.RemoveUserByStrRoomId(req));
 
 		String respString = RemoveUserByStrRoomIdResponse.toJsonString(resp);
 
@@ -132,7 +134,7 @@ public class TencentTrtcTemplate {
 		req.setSdkAppId(trtcProperties.getSdkappid());
 		req.setRoomId(roomId);
 
-		DismissRoomResponse resp = trtcClient.DismissRoom(req);
+		DismissRoomResponse resp = tracer.trace("trtc", "DismissRoom", req, () -> trtcClient.DismissRoom(req));
 
 		String respString = DismissRoomResponse.toJsonString(resp);
 
@@ -157,7 +159,7 @@ public class TencentTrtcTemplate {
 		req.setSdkAppId(trtcProperties.getSdkappid());
 		req.setRoomId(roomId);
 
-		DismissRoomByStrRoomIdResponse resp = trtcClient.DismissRoomByStrRoomId(req);
+		DismissRoomByStrRoomIdResponse resp = tracer.trace("trtc", "DismissRoomByStrRoomId", req, () -> trtcClient.DismissRoomByStrRoomId(req));
 		String respString = DismissRoomByStrRoomIdResponse.toJsonString(resp);
 
 		if (log.isDebugEnabled()) {
@@ -218,7 +220,7 @@ public class TencentTrtcTemplate {
 		req.setLayoutParams(layoutParams);
 		req.setPublishCdnParams(publishCdnParams);
 
-		StartMCUMixTranscodeResponse resp = trtcClient.StartMCUMixTranscode(req);
+		StartMCUMixTranscodeResponse resp = tracer.trace("trtc", "StartMCUMixTranscode", req, () -> trtcClient.StartMCUMixTranscode(req));
 
 		String respString = StartMCUMixTranscodeResponse.toJsonString(resp);
 
@@ -255,7 +257,7 @@ public class TencentTrtcTemplate {
 		req.setLayoutParams(layoutParams);
 		req.setPublishCdnParams(publishCdnParams);
 
-		StartMCUMixTranscodeByStrRoomIdResponse resp = trtcClient.StartMCUMixTranscodeByStrRoomId(req);
+		StartMCUMixTranscodeByStrRoomIdResponse resp = tracer.trace("trtc", "StartMCUMixTranscodeByStrRoomId", req, () -> trtcClient.StartMCUMixTranscodeByStrRoomId(req));
 
 		String respString = StartMCUMixTranscodeByStrRoomIdResponse.toJsonString(resp);
 
@@ -298,7 +300,7 @@ public class TencentTrtcTemplate {
 				StopMCUMixTranscodeRequest req = new StopMCUMixTranscodeRequest();
 				req.setSdkAppId(trtcProperties.getSdkappid());
 				req.setRoomId(roomId);
-				StopMCUMixTranscodeResponse resp = trtcClient.StopMCUMixTranscode(req);
+				StopMCUMixTranscodeResponse resp = tracer.trace("trtc", "StopMCUMixTranscode", req, () -> trtcClient.StopMCUMixTranscode(req));
 
 				String respString = StopMCUMixTranscodeResponse.toJsonString(resp);
 
@@ -344,7 +346,7 @@ public class TencentTrtcTemplate {
 				StopMCUMixTranscodeByStrRoomIdRequest req = new StopMCUMixTranscodeByStrRoomIdRequest();
 				req.setSdkAppId(trtcProperties.getSdkappid());
 				req.setStrRoomId(roomId);
-				StopMCUMixTranscodeByStrRoomIdResponse resp = trtcClient.StopMCUMixTranscodeByStrRoomId(req);
+				StopMCUMixTranscodeByStrRoomIdResponse resp = tracer.trace("trtc", "StopMCUMixTranscodeByStrRoomId", req, () -> trtcClient.StopMCUMixTranscodeByStrRoomId(req));
 
 				String respString = StopMCUMixTranscodeByStrRoomIdResponse.toJsonString(resp);
 
@@ -406,4 +408,12 @@ public class TencentTrtcTemplate {
 		return trtcUserIdProvider;
 	}
 	
+	public TencentCloudTracer getTracer() {
+		return tracer;
+	}
+	
+	public void setTracer(TencentCloudTracer tracer) {
+		this.tracer = tracer;
+	}
+
 }
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2018, hiwepy (https://github.com/hiwepy).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.tencentcloud.spring.boot;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tencentcloud.spring.boot.tim.TencentTimTemplate;
+import com.tencentcloud.spring.boot.tim.TimJsonModule;
+import com.tencentcloud.spring.boot.tim.TimUserIdProvider;
+import com.tencentcloud.spring.boot.tim.resp.account.AccountStateResponse;
+import com.tencentcloud.spring.boot.tim.resp.group.GroupMemberGetResponse;
+import com.tencentcloud.spring.boot.tim.resp.message.MessageSendResponse;
+
+import okhttp3.OkHttpClient;
+
+/**
+ * 响应绑定基准测试：原有的 objectMapper.readValue(json, cls) 与 按类型缓存的 ObjectReader（可选字节码加速模块）
+ * 使用 tim/resp 中的真实响应类型，运行 main 方法即可，附带 GC 分析器输出每次调用的内存分配量（gc.alloc.rate.norm）
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TencentTimJsonBinding_Benchmark {
+
+	private static final String MESSAGE_SEND_JSON = "{\"ActionStatus\":\"OK\",\"ErrorInfo\":\"\",\"ErrorCode\":0,"
+			+ "\"MsgTime\":1630000000,\"MsgKey\":\"89541_2574206_1630000000\"}";
+	private static final String ACCOUNT_STATE_JSON = "{\"ActionStatus\":\"OK\",\"ErrorInfo\":\"\",\"ErrorCode\":0,"
+			+ "\"QueryResult\":[{\"To_Account\":\"449\",\"State\":\"Offline\",\"Status\":\"Offline\"},"
+			+ "{\"To_Account\":\"450\",\"State\":\"Online\",\"Status\":\"Online\",\"Detail\":[{\"Platform\":\"iPhone\",\"Status\":\"Online\"}]}]}";
+
+	@Param({ "NONE", "AFTERBURNER", "BLACKBIRD" })
+	private TimJsonModule module;
+
+	private ObjectMapper legacyObjectMapper;
+	private TencentTimTemplate template;
+	private String groupMemberJson;
+
+	@Setup
+	public void setup() throws Exception {
+		// 原有配置：每次调用通过 ObjectMapper 按类型查找反序列化器
+		legacyObjectMapper = new ObjectMapper();
+		legacyObjectMapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.ANY);
+		legacyObjectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+		TencentTimProperties properties = new TencentTimProperties();
+		properties.setSdkappid(1400000000L);
+		properties.setPrivateKey("benchmark-private-key");
+		properties.getJson().setModule(module);
+		template = new TencentTimTemplate(properties, new OkHttpClient(), new TimUserIdProvider() {});
+		template.afterPropertiesSet();
+
+		StringBuilder json = new StringBuilder("{\"ActionStatus\":\"OK\",\"ErrorInfo\":\"\",\"ErrorCode\":0,\"MemberNum\":500,\"MemberList\":[");
+		for (int i = 0; i < 500; i++) {
+			if (i > 0) {
+				json.append(',');
+			}
+			json.append("{\"Member_Account\":\"user").append(i).append("\",\"Role\":\"Member\",\"JoinTime\":1630000000,")
+				.append("\"MsgSeq\":").append(i).append(",\"MsgFlag\":\"AcceptAndNotify\",\"LastSendMsgTime\":1630000000,\"ShutUpUntil\":0}");
+		}
+		groupMemberJson = json.append("]}").toString();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws Exception {
+		template.destroy();
+	}
+
+	@Benchmark
+	public MessageSendResponse legacyMessageSend() throws Exception {
+		return legacyObjectMapper.readValue(MESSAGE_SEND_JSON, MessageSendResponse.class);
+	}
+
+	@Benchmark
+	public MessageSendResponse cachedMessageSend() {
+		return template.readValue(MESSAGE_SEND_JSON, MessageSendResponse.class);
+	}
+
+	@Benchmark
+	public AccountStateResponse legacyAccountState() throws Exception {
+		return legacyObjectMapper.readValue(ACCOUNT_STATE_JSON, AccountStateResponse.class);
+	}
+
+	@Benchmark
+	public AccountStateResponse cachedAccountState() {
+		return template.readValue(ACCOUNT_STATE_JSON, AccountStateResponse.class);
+	}
+
+	@Benchmark
+	public GroupMemberGetResponse legacyGroupMembers() throws Exception {
+		return legacyObjectMapper.readValue(groupMemberJson, GroupMemberGetResponse.class);
+	}
+
+	@Benchmark
+	public GroupMemberGetResponse cachedGroupMembers() {
+		return template.readValue(groupMemberJson, GroupMemberGetResponse.class);
+	}
+
+	public static void main(String[] args) throws Exception {
+		Options options = new OptionsBuilder()
+				.include(TencentTimJsonBinding_Benchmark.class.getSimpleName())
+				.addProfiler("gc")
+				.build();
+		new Runner(options).run();
+	}
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2018, hiwepy (https://github.com/hiwepy).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.tencentcloud.spring.boot;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.tencentcloud.spring.boot.tim.TencentTimTemplate;
+import com.tencentcloud.spring.boot.tim.TimLazyResponse;
+import com.tencentcloud.spring.boot.tim.TimUserIdProvider;
+import com.tencentcloud.spring.boot.tim.resp.group.GroupMemberGetResponse;
+
+import okhttp3.OkHttpClient;
+
+/**
+ * 响应解析基准测试：完整绑定响应类型 与 仅解析公共字段的延迟绑定（只检查 isSuccess 的调用）
+ * 运行 main 方法即可，附带 GC 分析器输出每次调用的内存分配量（gc.alloc.rate.norm）
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TencentTimLazyResponse_Benchmark {
+
+	@Param({ "0", "100", "2000" })
+	private int members;
+
+	private TencentTimTemplate template;
+	private byte[] body;
+
+	@Setup
+	public void setup() throws Exception {
+		TencentTimProperties properties = new TencentTimProperties();
+		properties.setSdkappid(1400000000L);
+		properties.setPrivateKey("benchmark-private-key");
+		template = new TencentTimTemplate(properties, new OkHttpClient(), new TimUserIdProvider() {});
+		template.afterPropertiesSet();
+
+		StringBuilder json = new StringBuilder("{\"ActionStatus\":\"OK\",\"ErrorInfo\":\"\",\"ErrorCode\":0,\"MemberNum\":")
+				.append(members).append(",\"MemberList\":[");
+		for (int i = 0; i < members; i++) {
+			if (i > 0) {
+				json.append(',');
+			}
+			json.append("{\"Member_Account\":\"user").append(i).append("\",\"Role\":\"Member\",\"JoinTime\":1630000000,")
+				.append("\"MsgSeq\":").append(i).append(",\"MsgFlag\":\"AcceptAndNotify\",\"LastSendMsgTime\":1630000000,\"ShutUpUntil\":0}");
+		}
+		body = json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws Exception {
+		template.destroy();
+	}
+
+	@Benchmark
+	public boolean fullBinding() {
+		return template.readValue(new ByteArrayInputStream(body), GroupMemberGetResponse.class).isSuccess();
+	}
+
+	@Benchmark
+	public boolean lazyEnvelope() {
+		return template.readValue(new ByteArrayInputStream(body), TimLazyResponse.class).isSuccess();
+	}
+
+	public static void main(String[] args) throws Exception {
+		Options options = new OptionsBuilder()
+				.include(TencentTimLazyResponse_Benchmark.class.getSimpleName())
+				.addProfiler("gc")
+				.build();
+		new Runner(options).run();
+	}
+
+}
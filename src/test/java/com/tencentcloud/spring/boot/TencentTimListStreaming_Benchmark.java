@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2018, hiwepy (https://github.com/hiwepy).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.tencentcloud.spring.boot;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.tencentcloud.spring.boot.tim.TencentTimTemplate;
+import com.tencentcloud.spring.boot.tim.TimListStreamReader;
+import com.tencentcloud.spring.boot.tim.TimUserIdProvider;
+import com.tencentcloud.spring.boot.tim.req.group.GroupMember;
+import com.tencentcloud.spring.boot.tim.resp.group.GroupMemberGetResponse;
+
+import okhttp3.OkHttpClient;
+
+/**
+ * 列表响应基准测试：完整绑定群成员列表 与 流式逐个回调群成员（TimListStreamReader）
+ * 运行 main 方法即可，附带 GC 分析器输出每次调用的内存分配量（gc.alloc.rate.norm）
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TencentTimListStreaming_Benchmark {
+
+	@Param({ "100", "6000" })
+	private int members;
+
+	private TencentTimTemplate template;
+	private byte[] body;
+
+	@Setup
+	public void setup() throws Exception {
+		TencentTimProperties properties = new TencentTimProperties();
+		properties.setSdkappid(1400000000L);
+		properties.setPrivateKey("benchmark-private-key");
+		template = new TencentTimTemplate(properties, new OkHttpClient(), new TimUserIdProvider() {});
+		template.afterPropertiesSet();
+
+		StringBuilder json = new StringBuilder("{\"ActionStatus\":\"OK\",\"ErrorInfo\":\"\",\"ErrorCode\":0,\"MemberNum\":")
+				.append(members).append(",\"MemberList\":[");
+		for (int i = 0; i < members; i++) {
+			if (i > 0) {
+				json.append(',');
+			}
+			json.append("{\"Member_Account\":\"user").append(i).append("\",\"Role\":\"Member\",\"JoinTime\":1630000000,")
+				.append("\"MsgSeq\":").append(i).append(",\"MsgFlag\":\"AcceptAndNotify\",\"LastSendMsgTime\":1630000000,\"ShutUpUntil\":0}");
+		}
+		body = json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws Exception {
+		template.destroy();
+	}
+
+	@Benchmark
+	public void fullBinding(Blackhole blackhole) {
+		GroupMemberGetResponse response = template.readValue(new ByteArrayInputStream(body), GroupMemberGetResponse.class);
+		response.getMemberList().forEach(blackhole::consume);
+	}
+
+	@Benchmark
+	public long streaming(Blackhole blackhole) throws Exception {
+		TimListStreamReader<GroupMemberGetResponse, GroupMember> reader = template.newListStreamReader(GroupMemberGetResponse.class,
+				"MemberList", GroupMember.class, blackhole::consume);
+		reader.read(new ByteArrayInputStream(body));
+		return reader.getCount();
+	}
+
+	public static void main(String[] args) throws Exception {
+		Options options = new OptionsBuilder()
+				.include(TencentTimListStreaming_Benchmark.class.getSimpleName())
+				.addProfiler("gc")
+				.build();
+		new Runner(options).run();
+	}
+
+}
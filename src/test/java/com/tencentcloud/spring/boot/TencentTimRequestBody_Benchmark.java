@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2018, hiwepy (https://github.com/hiwepy).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.tencentcloud.spring.boot;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.RandomUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.google.common.collect.ImmutableMap;
+import com.tencentcloud.spring.boot.tim.TencentTimOpenimOperations;
+import com.tencentcloud.spring.boot.tim.req.message.Message;
+import com.tencentcloud.spring.boot.tim.req.message.MessageType;
+import com.tencentcloud.spring.boot.tim.req.message.MsgBody;
+import com.tencentcloud.spring.boot.tim.req.message.MsgContent;
+
+/**
+ * 请求体序列化基准测试：原有的 ImmutableMap 请求体 与 类型化请求实体（含预解析序列化器）
+ * 运行 main 方法即可，附带 GC 分析器输出每次调用的内存分配量（gc.alloc.rate.norm）
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TencentTimRequestBody_Benchmark {
+
+	private ObjectWriter objectWriter;
+	private ObjectWriter messageWriter;
+	private MsgBody[] msgBody;
+
+	@Setup
+	public void setup() {
+		// 与 TencentTimTemplate 保持一致的序列化配置
+		ObjectMapper objectMapper = new ObjectMapper();
+		objectMapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.ANY);
+		objectWriter = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+		messageWriter = objectWriter.forType(Message.class);
+		MsgContent msgContent = new MsgContent();
+		msgContent.setText("benchmark message");
+		MsgBody textBody = new MsgBody();
+		textBody.setMsgType(MessageType.TIM_TEXT_ELEM.getValue());
+		textBody.setMsgContent(msgContent);
+		msgBody = new MsgBody[] { textBody };
+	}
+
+	@Benchmark
+	public byte[] mapRequestBody() throws Exception {
+		Map<String, Object> requestBody = new ImmutableMap.Builder<String, Object>()
+				.put("SyncOtherMachine", 2)
+				.put("From_Account", "10001")
+				.put("To_Account", "10002")
+				.put("MsgLifeTime", 604800L)
+				.put("MsgRandom", RandomUtils.nextInt())
+				.put("MsgTimeStamp", Long.valueOf(System.currentTimeMillis() /1000L).intValue())
+				.put("ForbidCallbackControl", TencentTimOpenimOperations.FORBID_CALLBACK_CONTROL)
+				.put("MsgBody", msgBody)
+				.build();
+		return objectWriter.writeValueAsBytes(requestBody);
+	}
+
+	@Benchmark
+	public byte[] typedRequestBody() throws Exception {
+		return objectWriter.writeValueAsBytes(newMessage());
+	}
+
+	@Benchmark
+	public byte[] primedRequestBody() throws Exception {
+		return messageWriter.writeValueAsBytes(newMessage());
+	}
+
+	private Message newMessage() {
+		return Message.builder()
+				.syncOtherMachine(2)
+				.fromAccount("10001")
+				.toAccount("10002")
+				.msgLifeTime(604800)
+				.msgRandom(RandomUtils.nextInt())
+				.msgTimeStamp(Long.valueOf(System.currentTimeMillis() /1000L).intValue())
+				.forbidCallbackControl(Arrays.asList(TencentTimOpenimOperations.FORBID_CALLBACK_CONTROL))
+				.msgBody(Arrays.asList(msgBody))
+				.build();
+	}
+
+	public static void main(String[] args) throws Exception {
+		Options options = new OptionsBuilder()
+				.include(TencentTimRequestBody_Benchmark.class.getSimpleName())
+				.addProfiler("gc")
+				.build();
+		new Runner(options).run();
+	}
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2018, hiwepy (https://github.com/hiwepy).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.tencentcloud.spring.boot;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.Maps;
+import com.tencentcloud.spring.boot.tim.TencentTimTemplate;
+import com.tencentcloud.spring.boot.tim.TimApiAddress;
+import com.tencentcloud.spring.boot.tim.TimUserIdProvider;
+import com.tencentcloud.spring.boot.utils.CommonHelper;
+
+import okhttp3.OkHttpClient;
+
+/**
+ * 请求地址构建基准测试：原有的 HashMap + Guava Cache + UUID + Joiner 方式 与 预拼接地址前缀方式
+ * 运行 main 方法即可，附带 GC 分析器输出每次调用的内存分配量（gc.alloc.rate.norm）
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TencentTimRequestUrl_Benchmark {
+
+	private TencentTimTemplate template;
+	private TencentTimProperties properties;
+	private LoadingCache<String, String> tlsSigCache;
+
+	@Setup
+	public void setup() {
+		properties = new TencentTimProperties();
+		properties.setSdkappid(1400000000L);
+		properties.setPrivateKey("benchmark-private-key");
+		template = new TencentTimTemplate(properties, new OkHttpClient(), new TimUserIdProvider() {});
+		tlsSigCache = CacheBuilder.newBuilder()
+				.expireAfterWrite(properties.getExpire() - 60, TimeUnit.SECONDS)
+				.build(new CacheLoader<String, String>() {
+
+					@Override
+					public String load(String key) throws Exception {
+						return template.getAdminUserSig();
+					}
+
+				});
+	}
+
+	@Benchmark
+	public String legacyRequestUrl() {
+		Map<String, String> pathParams = Maps.newHashMap();
+		pathParams.put("usersig", tlsSigCache.getUnchecked("usersig"));
+		pathParams.put("identifier", properties.getIdentifier());
+		pathParams.put("sdkappid", properties.getSdkappid().toString());
+		pathParams.put("random", UUID.randomUUID().toString().replace("-", "").toLowerCase());
+		pathParams.put("contenttype", "json");
+		return CommonHelper.getRequestUrl(TimApiAddress.SEND_MSG, pathParams);
+	}
+
+	@Benchmark
+	public String prefixRequestUrl() {
+		return template.getRequestUrl(TimApiAddress.SEND_MSG);
+	}
+
+	public static void main(String[] args) throws Exception {
+		Options options = new OptionsBuilder()
+				.include(TencentTimRequestUrl_Benchmark.class.getSimpleName())
+				.addProfiler("gc")
+				.build();
+		new Runner(options).run();
+	}
+
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2018, hiwepy (https://github.com/hiwepy).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.tencentcloud.spring.boot;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.logging.LogLevel;
+
+import com.sun.net.httpserver.HttpServer;
+import com.tencentcloud.spring.boot.tim.TencentTimTemplate;
+import com.tencentcloud.spring.boot.tim.TimApiAddress;
+import com.tencentcloud.spring.boot.tim.TimUserIdProvider;
+import com.tencentcloud.spring.boot.tim.resp.TimActionResponse;
+
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+
+/**
+ * 并发请求执行模型基准测试：每次操作并发发起 calls 个请求并等待全部完成，本地模拟服务端延迟 latency 毫秒
+ * platformThreads: 固定大小的平台线程池执行同步请求（当前同步接口的模型）
+ * okhttpAsync: OkHttp 异步回调
+ * virtualThreads: 虚拟线程执行同步请求，需要在 Java 21 及以上运行，否则退化为 okhttpAsync
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TencentTimVirtualThreads_Benchmark {
+
+	private static final byte[] RESPONSE = "{\"ActionStatus\":\"OK\",\"ErrorCode\":0}".getBytes(StandardCharsets.UTF_8);
+
+	@Param({ "1000" })
+	private int calls;
+
+	@Param({ "20" })
+	private int latency;
+
+	@Param({ "200" })
+	private int platformThreads;
+
+	private HttpServer server;
+	private ScheduledExecutorService serverScheduler;
+	private ExecutorService platformExecutor;
+	private TencentTimTemplate template;
+	private TencentTimTemplate virtualThreadTemplate;
+
+	@Setup(Level.Trial)
+	public void setup() throws Exception {
+		serverScheduler = Executors.newScheduledThreadPool(4);
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 4096);
+		server.createContext("/", exchange -> serverScheduler.schedule(() -> {
+			exchange.sendResponseHeaders(200, RESPONSE.length);
+			exchange.getResponseBody().write(RESPONSE);
+			exchange.close();
+			return null;
+		}, latency, TimeUnit.MILLISECONDS));
+		server.setExecutor(Executors.newFixedThreadPool(8));
+		server.start();
+
+		platformExecutor = Executors.newFixedThreadPool(platformThreads);
+		template = this.newTemplate(false);
+		virtualThreadTemplate = this.newTemplate(true);
+	}
+
+	private TencentTimTemplate newTemplate(boolean virtualThreads) throws Exception {
+		TencentTimProperties properties = new TencentTimProperties();
+		properties.setSdkappid(1400000000L);
+		properties.setPrivateKey("benchmark-private-key");
+		properties.setVirtualThreads(virtualThreads);
+		properties.getLogging().setLevel(LogLevel.OFF);
+		properties.getRouting().setDomains(Collections.singletonList("http://127.0.0.1:" + server.getAddress().getPort()));
+		Dispatcher dispatcher = new Dispatcher();
+		dispatcher.setMaxRequests(calls);
+		dispatcher.setMaxRequestsPerHost(calls);
+		OkHttpClient client = new OkHttpClient.Builder().dispatcher(dispatcher).build();
+		TencentTimTemplate template = new TencentTimTemplate(properties, client, new TimUserIdProvider() {});
+		template.afterPropertiesSet();
+		return template;
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws Exception {
+		template.destroy();
+		virtualThreadTemplate.destroy();
+		platformExecutor.shutdownNow();
+		server.stop(0);
+		serverScheduler.shutdownNow();
+	}
+
+	@Benchmark
+	public void platformThreads() {
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[calls];
+		for (int i = 0; i < calls; i++) {
+			String url = template.getRequestUrl(TimApiAddress.ACCOUNT_CHECK);
+			futures[i] = CompletableFuture.supplyAsync(() -> template.requestInvoke(TimApiAddress.ACCOUNT_CHECK, url,
+					Collections.emptyMap(), TimActionResponse.class), platformExecutor);
+		}
+		CompletableFuture.allOf(futures).join();
+	}
+
+	@Benchmark
+	public void okhttpAsync() {
+		this.asyncCalls(template);
+	}
+
+	@Benchmark
+	public void virtualThreads() {
+		this.asyncCalls(virtualThreadTemplate);
+	}
+
+	private void asyncCalls(TencentTimTemplate template) {
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[calls];
+		for (int i = 0; i < calls; i++) {
+			futures[i] = template.requestAsyncInvoke(TimApiAddress.ACCOUNT_CHECK, template.getRequestUrl(TimApiAddress.ACCOUNT_CHECK),
+					Collections.emptyMap(), TimActionResponse.class);
+		}
+		CompletableFuture.allOf(futures).join();
+	}
+
+	public static void main(String[] args) throws Exception {
+		Options options = new OptionsBuilder()
+				.include(TencentTimVirtualThreads_Benchmark.class.getSimpleName())
+				.build();
+		new Runner(options).run();
+	}
+
+}
@@ -0,0 +1,133 @@
+package com.tencentcloud.spring.boot.tim;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpServer;
+import com.tencentcloud.spring.boot.TencentTimProperties;
+import com.tencentcloud.spring.boot.tim.resp.TimActionResponse;
+
+import okhttp3.OkHttpClient;
+
+public class TimAsyncRejection_Test {
+
+	HttpServer server;
+	String url;
+
+	@BeforeEach
+	public void setup() throws Exception {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/", exchange -> {
+			byte[] body = "{\"ActionStatus\":\"OK\",\"ErrorCode\":0}".getBytes(StandardCharsets.UTF_8);
+			exchange.sendResponseHeaders(200, body.length);
+			try (OutputStream output = exchange.getResponseBody()) {
+				output.write(body);
+			}
+		});
+		server.start();
+		url = "http://127.0.0.1:" + server.getAddress().getPort() + TimApiAddress.PORTRAIT_GET.getPath();
+	}
+
+	@AfterEach
+	public void shutdown() {
+		server.stop(0);
+	}
+
+	@Test
+	public void testRateLimited() throws Exception {
+		for (boolean virtualThreads : new boolean[] { false, true }) {
+			TencentTimTemplate template = this.template(virtualThreads, TencentTimProperties.RateLimitMode.REJECT);
+			try {
+				assertTrue(this.invoke(template, TimRequestOptions.DEFAULT).get(1, TimeUnit.SECONDS).isSuccess());
+				this.assertRejected(TimRateLimitedException.class, this.invoke(template, TimRequestOptions.DEFAULT));
+			} finally {
+				template.destroy();
+			}
+		}
+	}
+
+	@Test
+	public void testDeadlineExceededWhileQueued() throws Exception {
+		for (boolean virtualThreads : new boolean[] { false, true }) {
+			TencentTimTemplate template = this.template(virtualThreads, TencentTimProperties.RateLimitMode.QUEUE);
+			try {
+				assertTrue(this.invoke(template, TimRequestOptions.DEFAULT).get(1, TimeUnit.SECONDS).isSuccess());
+				// 下一个令牌约 1s 后才可用，超过请求的截止时间
+				this.assertRejected(TimDeadlineExceededException.class,
+						this.invoke(template, TimRequestOptions.timeout(Duration.ofMillis(100))));
+			} finally {
+				template.destroy();
+			}
+		}
+	}
+
+	@Test
+	public void testCircuitBreakerOpen() throws Exception {
+		for (boolean virtualThreads : new boolean[] { false, true }) {
+			TencentTimTemplate template = this.template(virtualThreads, TencentTimProperties.RateLimitMode.REJECT);
+			try {
+				TimCircuitBreaker breaker = template.getCircuitBreaker(TimApiAddress.PORTRAIT_GET.getFamily());
+				for (int i = 0; i < 2; i++) {
+					assertTrue(breaker.tryAcquire());
+					breaker.onResult(true);
+				}
+				assertEquals(TimCircuitBreaker.State.OPEN, breaker.getState());
+				this.assertRejected(TimCallNotPermittedException.class, this.invoke(template, TimRequestOptions.DEFAULT));
+			} finally {
+				template.destroy();
+			}
+		}
+	}
+
+	private CompletableFuture<TimActionResponse> invoke(TencentTimTemplate template, TimRequestOptions options) {
+		return template.requestAsyncInvoke(TimApiAddress.PORTRAIT_GET, url, Collections.emptyMap(), TimActionResponse.class, options);
+	}
+
+	private void assertRejected(Class<? extends Exception> type, CompletableFuture<TimActionResponse> future) {
+		// 两种执行方式下被拒绝的请求都以异常结束，而不是返回默认的失败响应
+		ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(1, TimeUnit.SECONDS));
+		assertTrue(type.isInstance(e.getCause()), String.valueOf(e.getCause()));
+	}
+
+	private TencentTimTemplate template(boolean virtualThreads, TencentTimProperties.RateLimitMode mode) throws Exception {
+		TencentTimProperties properties = new TencentTimProperties();
+		properties.setSdkappid(1400000000L);
+		properties.setPrivateKey("");
+		properties.setVirtualThreads(virtualThreads);
+		properties.getRateLimit().setEnabled(true);
+		properties.getRateLimit().setMode(mode);
+		properties.getRateLimit().setBurstSeconds(1.0d);
+		properties.getRateLimit().setMaxWait(Duration.ofSeconds(5));
+		properties.getRateLimit().setLimits(Collections.singletonMap(TimApiAddress.PORTRAIT_GET, 1d));
+		properties.getCircuitBreaker().setEnabled(true);
+		properties.getCircuitBreaker().setMinimumCalls(2);
+		properties.getCircuitBreaker().setWaitDurationInOpenState(Duration.ofMinutes(1));
+		TencentTimTemplate template = new TencentTimTemplate(properties, new OkHttpClient.Builder().build(), new TimUserIdProvider() {});
+		template.afterPropertiesSet();
+		if (virtualThreads && !template.isVirtualThreadsEnabled()) {
+			// Java 21 以下没有虚拟线程，以普通线程池代替，执行路径与虚拟线程相同
+			Field field = TencentTimTemplate.class.getDeclaredField("virtualThreadExecutor");
+			field.setAccessible(true);
+			field.set(template, Executors.newCachedThreadPool());
+		}
+		assertEquals(virtualThreads, template.isVirtualThreadsEnabled());
+		return template;
+	}
+
+}
@@ -0,0 +1,110 @@
+package com.tencentcloud.spring.boot.tim;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.tencentcloud.spring.boot.TencentTimProperties;
+
+public class TimCircuitBreaker_Test {
+
+	TencentTimProperties.CircuitBreaker config = new TencentTimProperties.CircuitBreaker();
+
+	@BeforeEach
+	public void setup() {
+		config.setEnabled(true);
+		config.setFailureRateThreshold(0.5d);
+		config.setSlidingWindowSize(10);
+		config.setMinimumCalls(4);
+		config.setWaitDurationInOpenState(Duration.ofMillis(100));
+		config.setPermittedCallsInHalfOpenState(2);
+	}
+
+	@Test
+	public void testOpenOnFailureRate() {
+		// 未达到最少请求数时不熔断
+		TimCircuitBreaker breaker = new TimCircuitBreaker(TimApiFamily.OPENIM, config);
+		this.record(breaker, true, 3);
+		assertEquals(TimCircuitBreaker.State.CLOSED, breaker.getState());
+		breaker = new TimCircuitBreaker(TimApiFamily.OPENIM, config);
+		this.record(breaker, false, 3);
+		this.record(breaker, true, 2);
+		assertEquals(TimCircuitBreaker.State.CLOSED, breaker.getState());
+		// 失败率达到阈值后熔断，拒绝请求
+		this.record(breaker, true, 1);
+		assertEquals(TimCircuitBreaker.State.OPEN, breaker.getState());
+		assertFalse(breaker.tryAcquire());
+	}
+
+	@Test
+	public void testSlidingWindow() {
+		TimCircuitBreaker breaker = new TimCircuitBreaker(TimApiFamily.OPENIM, config);
+		this.record(breaker, false, 6);
+		this.record(breaker, true, 4);
+		assertEquals(TimCircuitBreaker.State.CLOSED, breaker.getState());
+		assertEquals(0.4d, breaker.getFailureRate(), 0.0001d);
+		// 窗口已满，最早的成功记录被新的失败记录替换
+		this.record(breaker, true, 1);
+		assertEquals(TimCircuitBreaker.State.OPEN, breaker.getState());
+	}
+
+	@Test
+	public void testHalfOpenTransitions() throws InterruptedException {
+		TimCircuitBreaker breaker = this.open();
+		Thread.sleep(150);
+		// 熔断到期后进入半开状态，只放行 permittedCallsInHalfOpenState 个试探请求
+		assertTrue(breaker.tryAcquire());
+		assertEquals(TimCircuitBreaker.State.HALF_OPEN, breaker.getState());
+		assertTrue(breaker.tryAcquire());
+		assertFalse(breaker.tryAcquire());
+		breaker.onResult(false);
+		assertEquals(TimCircuitBreaker.State.HALF_OPEN, breaker.getState());
+		breaker.onResult(false);
+		assertEquals(TimCircuitBreaker.State.CLOSED, breaker.getState());
+		assertEquals(0d, breaker.getFailureRate());
+
+		// 半开状态下试探失败重新熔断
+		breaker = this.open();
+		Thread.sleep(150);
+		assertTrue(breaker.tryAcquire());
+		breaker.onResult(true);
+		assertEquals(TimCircuitBreaker.State.OPEN, breaker.getState());
+		assertFalse(breaker.tryAcquire());
+	}
+
+	@Test
+	public void testReleaseInHalfOpen() throws InterruptedException {
+		TimCircuitBreaker breaker = this.open();
+		Thread.sleep(150);
+		assertTrue(breaker.tryAcquire());
+		assertTrue(breaker.tryAcquire());
+		assertFalse(breaker.tryAcquire());
+		// 取消的请求归还试探配额，不计为成功
+		breaker.release();
+		breaker.release();
+		assertEquals(TimCircuitBreaker.State.HALF_OPEN, breaker.getState());
+		assertTrue(breaker.tryAcquire());
+		breaker.onResult(false);
+		assertEquals(TimCircuitBreaker.State.HALF_OPEN, breaker.getState());
+	}
+
+	private TimCircuitBreaker open() {
+		TimCircuitBreaker breaker = new TimCircuitBreaker(TimApiFamily.OPENIM, config);
+		this.record(breaker, true, 4);
+		assertEquals(TimCircuitBreaker.State.OPEN, breaker.getState());
+		return breaker;
+	}
+
+	private void record(TimCircuitBreaker breaker, boolean failure, int times) {
+		for (int i = 0; i < times; i++) {
+			assertTrue(breaker.tryAcquire());
+			breaker.onResult(failure);
+		}
+	}
+
+}
@@ -0,0 +1,137 @@
+package com.tencentcloud.spring.boot.tim;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpServer;
+import com.tencentcloud.spring.boot.TencentTimProperties;
+import com.tencentcloud.spring.boot.tim.resp.TimActionResponse;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+
+public class TimDeadline_Test {
+
+	AtomicLong delay = new AtomicLong(0);
+	HttpServer server;
+	String url;
+	TencentTimTemplate template;
+	TimCircuitBreaker breaker;
+
+	@BeforeEach
+	public void setup() throws Exception {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.setExecutor(Executors.newCachedThreadPool());
+		server.createContext("/", exchange -> {
+			try {
+				Thread.sleep(delay.get());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			byte[] body = "{\"ActionStatus\":\"OK\",\"ErrorCode\":0}".getBytes(StandardCharsets.UTF_8);
+			try (OutputStream output = exchange.getResponseBody()) {
+				exchange.sendResponseHeaders(200, body.length);
+				output.write(body);
+			} catch (IOException e) {
+				// 客户端已取消请求
+			}
+		});
+		server.start();
+		url = "http://127.0.0.1:" + server.getAddress().getPort() + TimApiAddress.PORTRAIT_GET.getPath();
+
+		TencentTimProperties properties = new TencentTimProperties();
+		properties.setSdkappid(1400000000L);
+		properties.setPrivateKey("");
+		properties.getCircuitBreaker().setEnabled(true);
+		properties.getCircuitBreaker().setMinimumCalls(2);
+		properties.getCircuitBreaker().setWaitDurationInOpenState(Duration.ofMillis(100));
+		properties.getCircuitBreaker().setPermittedCallsInHalfOpenState(1);
+		OkHttpClient okhttp3Client = new OkHttpClient.Builder().build();
+		// 预先建立连接，使截止时间只作用于等待响应的阶段
+		okhttp3Client.newCall(new Request.Builder().url(url).build()).execute().close();
+		delay.set(1000);
+		template = new TencentTimTemplate(properties, okhttp3Client, new TimUserIdProvider() {});
+		template.afterPropertiesSet();
+		breaker = template.getCircuitBreaker(TimApiAddress.PORTRAIT_GET.getFamily());
+	}
+
+	@AfterEach
+	public void shutdown() throws Exception {
+		template.destroy();
+		server.stop(0);
+	}
+
+	@Test
+	public void testSyncDeadlineCountsAsFailure() {
+		long start = System.currentTimeMillis();
+		TimActionResponse res = template.requestInvoke(TimApiAddress.PORTRAIT_GET, url, Collections.emptyMap(),
+				TimActionResponse.class, TimRequestOptions.timeout(Duration.ofMillis(100)));
+		assertTrue(System.currentTimeMillis() - start < 800);
+		assertFalse(res.isSuccess());
+		assertEquals(1d, breaker.getFailureRate());
+	}
+
+	@Test
+	public void testAsyncDeadlineCountsAsFailure() throws Exception {
+		CompletableFuture<TimActionResponse> future = template.requestAsyncInvoke(TimApiAddress.PORTRAIT_GET, url,
+				Collections.emptyMap(), TimActionResponse.class, TimRequestOptions.timeout(Duration.ofMillis(100)));
+		ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(800, TimeUnit.MILLISECONDS));
+		assertTrue(e.getCause() instanceof TimDeadlineExceededException);
+		// 截止时间到达时取消 HTTP 请求，OkHttp 回调中记录为失败
+		for (int i = 0; i < 20 && breaker.getFailureRate() == 0; i++) {
+			Thread.sleep(50);
+		}
+		assertEquals(1d, breaker.getFailureRate());
+	}
+
+	@Test
+	public void testCancelReleasesHalfOpenPermit() throws Exception {
+		this.openBreaker();
+		CompletableFuture<TimActionResponse> future = template.requestAsyncInvoke(TimApiAddress.PORTRAIT_GET, url,
+				Collections.emptyMap(), TimActionResponse.class, TimRequestOptions.DEFAULT);
+		Thread.sleep(100);
+		future.cancel(true);
+		Thread.sleep(300);
+		// 取消的请求不计为成功，熔断器保持半开状态并归还试探配额
+		assertEquals(TimCircuitBreaker.State.HALF_OPEN, breaker.getState());
+		assertTrue(breaker.tryAcquire());
+	}
+
+	@Test
+	public void testSuccessClosesHalfOpenBreaker() throws Exception {
+		this.openBreaker();
+		delay.set(0);
+		TimActionResponse res = template.requestAsyncInvoke(TimApiAddress.PORTRAIT_GET, url,
+				Collections.emptyMap(), TimActionResponse.class, TimRequestOptions.DEFAULT).get(1, TimeUnit.SECONDS);
+		assertTrue(res.isSuccess());
+		assertEquals(TimCircuitBreaker.State.CLOSED, breaker.getState());
+	}
+
+	private void openBreaker() throws InterruptedException {
+		for (int i = 0; i < 2; i++) {
+			assertTrue(breaker.tryAcquire());
+			breaker.onResult(true);
+		}
+		assertEquals(TimCircuitBreaker.State.OPEN, breaker.getState());
+		Thread.sleep(150);
+	}
+
+}
@@ -0,0 +1,133 @@
+package com.tencentcloud.spring.boot.tim;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpServer;
+import com.tencentcloud.spring.boot.TencentTimProperties;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+public class TimDomainRouter_Test {
+
+	OkHttpClient okhttp3Client = new OkHttpClient.Builder().connectTimeout(1, TimeUnit.SECONDS).build();
+	AtomicLong fastDelay = new AtomicLong(0);
+	AtomicLong slowDelay = new AtomicLong(150);
+	HttpServer fastServer;
+	HttpServer slowServer;
+	String fastUrl;
+	String slowUrl;
+	String deadUrl;
+
+	@BeforeEach
+	public void setup() throws IOException {
+		fastServer = this.startServer(fastDelay);
+		slowServer = this.startServer(slowDelay);
+		fastUrl = "http://127.0.0.1:" + fastServer.getAddress().getPort();
+		slowUrl = "http://127.0.0.1:" + slowServer.getAddress().getPort();
+		// 绑定后立即释放的端口，连接时会被拒绝
+		try (ServerSocket socket = new ServerSocket(0)) {
+			deadUrl = "http://127.0.0.1:" + socket.getLocalPort();
+		}
+	}
+
+	@AfterEach
+	public void shutdown() {
+		fastServer.stop(0);
+		slowServer.stop(0);
+	}
+
+	@Test
+	public void testFailoverAndEwmaSelection() {
+		TimDomainRouter router = new TimDomainRouter(this.properties(Duration.ofMinutes(1)));
+		for (int i = 0; i < 10; i++) {
+			this.call(router);
+		}
+		TimDomainRouter.Domain dead = router.getDomains().get(0);
+		assertEquals(deadUrl, dead.getBaseUrl());
+		assertFalse(dead.isHealthy(System.currentTimeMillis()));
+		// 健康域名中选择 EWMA 耗时最短的
+		assertTrue(router.getDomains().get(1).getEwma() > router.getDomains().get(2).getEwma());
+		assertEquals(fastUrl, router.getBaseUrl());
+	}
+
+	@Test
+	public void testProbeRecoveredDomain() throws InterruptedException {
+		TimDomainRouter router = new TimDomainRouter(this.properties(Duration.ofMillis(200)));
+		TimDomainRouter.Domain slow = router.getDomains().get(1);
+		TimDomainRouter.Domain fast = router.getDomains().get(2);
+		for (int i = 0; i < 10; i++) {
+			this.call(router);
+		}
+		assertTrue(slow.getEwma() > fast.getEwma());
+		// 原先较慢的域名恢复，原先较快的域名变慢；探测请求使恢复的域名重新获得耗时样本
+		slowDelay.set(0);
+		fastDelay.set(150);
+		for (int i = 0; i < 20 && slow.getEwma() >= fast.getEwma(); i++) {
+			Thread.sleep(50);
+			this.call(router);
+		}
+		assertTrue(slow.getEwma() < fast.getEwma());
+	}
+
+	private TencentTimProperties properties(Duration probeInterval) {
+		TencentTimProperties properties = new TencentTimProperties();
+		properties.getRouting().setDomains(Arrays.asList(deadUrl, slowUrl, fastUrl));
+		properties.getRouting().setEwmaAlpha(0.5d);
+		properties.getRouting().setProbeInterval(probeInterval);
+		return properties;
+	}
+
+	/*
+	 * 按路由选择的域名发送请求，连接失败时按返回的地址切换域名
+	 */
+	private void call(TimDomainRouter router) {
+		String url = router.getBaseUrl() + "/v4/openim/sendmsg";
+		while (url != null) {
+			long start = System.currentTimeMillis();
+			IOException error = null;
+			try (Response response = okhttp3Client.newCall(new Request.Builder().url(url).build()).execute()) {
+				response.body().string();
+			} catch (IOException e) {
+				error = e;
+			}
+			url = router.onCallResult(url, System.currentTimeMillis() - start, error);
+		}
+	}
+
+	private HttpServer startServer(AtomicLong delay) throws IOException {
+		HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/", exchange -> {
+			try {
+				Thread.sleep(delay.get());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			byte[] body = "{\"ActionStatus\":\"OK\",\"ErrorCode\":0}".getBytes(StandardCharsets.UTF_8);
+			exchange.sendResponseHeaders(200, body.length);
+			try (OutputStream output = exchange.getResponseBody()) {
+				output.write(body);
+			}
+		});
+		server.start();
+		return server;
+	}
+
+}
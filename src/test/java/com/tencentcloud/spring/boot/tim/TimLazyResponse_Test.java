@@ -0,0 +1,82 @@
+package com.tencentcloud.spring.boot.tim;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.tencentcloud.spring.boot.TencentTimProperties;
+import com.tencentcloud.spring.boot.tim.resp.account.AccountCheckResponse;
+
+import okhttp3.OkHttpClient;
+
+public class TimLazyResponse_Test {
+
+	static final String RESULT_ITEM = "\"ResultItem\":[{\"UserID\":\"u1\",\"AccountStatus\":\"Imported\",\"ResultCode\":0},"
+			+ "{\"UserID\":\"u2\",\"AccountStatus\":\"NotImported\",\"ResultCode\":0}]";
+
+	TencentTimTemplate template;
+
+	@BeforeEach
+	public void setup() throws Exception {
+		TencentTimProperties properties = new TencentTimProperties();
+		properties.setSdkappid(1400000000L);
+		properties.setPrivateKey("");
+		template = new TencentTimTemplate(properties, new OkHttpClient.Builder().build(), new TimUserIdProvider() {});
+		template.afterPropertiesSet();
+	}
+
+	@Test
+	public void testEnvelope() {
+		String json = "{\"ActionStatus\":\"OK\",\"ErrorCode\":0,\"ErrorInfo\":\"\"," + RESULT_ITEM + "}";
+		TimLazyResponse response = template.readValue(json, TimLazyResponse.class);
+		assertTrue(response.isSuccess());
+		assertEquals(0, response.getErrorCode());
+		assertEquals("", response.getErrorInfo());
+		assertEquals(json.getBytes(StandardCharsets.UTF_8).length, response.getBodyLength());
+	}
+
+	@Test
+	public void testEnvelopeAfterPayload() {
+		// 公共字段位于列表之后时跳过列表继续查找
+		String json = "{" + RESULT_ITEM + ",\"ErrorDisplay\":\"display\",\"ActionStatus\":\"FAIL\",\"ErrorCode\":70107,\"ErrorInfo\":\"invalid\"}";
+		TimLazyResponse response = template.readValue(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), TimLazyResponse.class);
+		assertFalse(response.isSuccess());
+		assertEquals(70107, response.getErrorCode());
+		assertEquals("invalid", response.getErrorInfo());
+		assertEquals("display", response.getErrorDisplay());
+	}
+
+	@Test
+	public void testBind() {
+		String json = "{\"ActionStatus\":\"OK\",\"ErrorCode\":0,\"ErrorInfo\":\"\"," + RESULT_ITEM + "}";
+		TimLazyResponse response = template.readValue(json, TimLazyResponse.class);
+		AccountCheckResponse bound = response.bind(AccountCheckResponse.class);
+		assertEquals(template.readValue(json, AccountCheckResponse.class), bound);
+		assertEquals(2, bound.getResultItem().size());
+		assertEquals("NotImported", bound.getResultItem().get(1).getAccountStatus());
+		// 同一类型只绑定一次
+		assertSame(bound, response.bind(AccountCheckResponse.class));
+	}
+
+	@Test
+	public void testDefaultResponse() {
+		TimLazyResponse response = new TimLazyResponse();
+		assertFalse(response.isSuccess());
+		assertEquals(0, response.getBodyLength());
+		AccountCheckResponse bound = response.bind(AccountCheckResponse.class);
+		assertFalse(bound.isSuccess());
+		assertNull(bound.getResultItem());
+		// 响应体不是 JSON 对象时返回默认的失败响应
+		assertFalse(template.readValue("[]", TimLazyResponse.class).isSuccess());
+		assertFalse(template.readValue("{\"ActionStatus\":", TimLazyResponse.class).isSuccess());
+	}
+
+}
@@ -0,0 +1,141 @@
+package com.tencentcloud.spring.boot.tim;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import com.tencentcloud.spring.boot.TencentTimProperties;
+import com.tencentcloud.spring.boot.tim.resp.group.AppGroupGetResponse;
+import com.tencentcloud.spring.boot.tim.resp.group.GroupId;
+
+import okhttp3.OkHttpClient;
+
+public class TimListStreamReader_Test {
+
+	ObjectMapper objectMapper = new ObjectMapper();
+	AtomicInteger requests = new AtomicInteger();
+	volatile boolean truncated;
+	HttpServer server;
+	TencentTimTemplate template;
+
+	@BeforeEach
+	public void setup() throws Exception {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/", exchange -> {
+			requests.incrementAndGet();
+			Map<?, ?> params = objectMapper.readValue(exchange.getRequestBody(), Map.class);
+			// 第一页返回 g1、g2 及分页标记 2，第二页返回 g3 及结束标记 0
+			String body = Integer.valueOf(0).equals(params.get("Next"))
+					? "{\"ActionStatus\":\"OK\",\"ErrorCode\":0,\"TotalCount\":3,\"GroupIdList\":[{\"GroupId\":\"g1\"},{\"GroupId\":\"g2\"}],\"Next\":2}"
+					: "{\"ActionStatus\":\"OK\",\"ErrorCode\":0,\"GroupIdList\":[{\"GroupId\":\"g3\"}],\"TotalCount\":3,\"Next\":0}";
+			byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+			if (truncated) {
+				// 只发送部分响应体后断开连接
+				exchange.sendResponseHeaders(200, bytes.length);
+				exchange.getResponseBody().write(bytes, 0, body.indexOf("{\"GroupId\":\"g2\"}"));
+				exchange.getResponseBody().flush();
+				exchange.close();
+				return;
+			}
+			exchange.sendResponseHeaders(200, bytes.length);
+			try (OutputStream output = exchange.getResponseBody()) {
+				output.write(bytes);
+			}
+		});
+		server.start();
+
+		TencentTimProperties properties = new TencentTimProperties();
+		properties.setSdkappid(1400000000L);
+		properties.setPrivateKey("5bd2850fff3ecb11d7c805251c51ee463a25727bddc2385f3fa8bfee1bb93b5e");
+		properties.getRouting().setDomains(Collections.singletonList("http://127.0.0.1:" + server.getAddress().getPort()));
+		properties.getRetry().setEnabled(true);
+		properties.getCircuitBreaker().setEnabled(true);
+		template = new TencentTimTemplate(properties, new OkHttpClient.Builder().build(), new TimUserIdProvider() {});
+		template.afterPropertiesSet();
+	}
+
+	@AfterEach
+	public void shutdown() throws Exception {
+		template.destroy();
+		server.stop(0);
+	}
+
+	@Test
+	public void testRead() throws Exception {
+		List<Integer> elements = new ArrayList<>();
+		TimListStreamReader<AppGroupGetResponse, Integer> reader = new TimListStreamReader<>(objectMapper,
+				objectMapper.readerFor(AppGroupGetResponse.class), objectMapper.readerFor(Integer.class), "GroupIdList", elements::add);
+		String json = "{\"ActionStatus\":\"OK\",\"ErrorCode\":0,\"GroupIdList\":[1,2,3],\"TotalCount\":3,\"Next\":7}";
+		AppGroupGetResponse res = reader.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+		assertEquals(Arrays.asList(1, 2, 3), elements);
+		assertEquals(3, reader.getCount());
+		assertTrue(res.isSuccess());
+		assertEquals(3, res.getTotalCount());
+		assertEquals(7, res.getNext());
+		assertNull(res.getGroupIdList());
+	}
+
+	@Test
+	public void testPagination() {
+		List<String> groupIds = new ArrayList<>();
+		int next = 0;
+		AppGroupGetResponse res;
+		do {
+			res = template.opsForGroup().forEachAppGroup(2, next, groupId -> groupIds.add(groupId.getGroupId()));
+			assertTrue(res.isSuccess());
+			assertEquals(3, res.getTotalCount());
+			assertNull(res.getGroupIdList());
+			next = res.getNext();
+		} while (next != 0);
+		assertEquals(Arrays.asList("g1", "g2", "g3"), groupIds);
+		assertEquals(2, requests.get());
+	}
+
+	@Test
+	public void testConsumerException() {
+		IllegalStateException error = new IllegalStateException("consumer failed");
+		List<GroupId> received = new ArrayList<>();
+		IllegalStateException thrown = assertThrows(IllegalStateException.class, () ->
+			template.opsForGroup().forEachAppGroup(2, 0, groupId -> {
+				received.add(groupId);
+				throw error;
+			}));
+		// 回调函数的异常原样抛出，不重试，也不计入熔断失败率
+		assertSame(error, thrown);
+		assertEquals(1, received.size());
+		assertEquals(1, requests.get());
+		assertEquals(0d, template.getCircuitBreaker(TimApiAddress.GET_APPID_GROUP_LIST.getFamily()).getFailureRate());
+	}
+
+	@Test
+	public void testNoRetryAfterElementsDelivered() {
+		truncated = true;
+		List<String> groupIds = new ArrayList<>();
+		AppGroupGetResponse res = template.opsForGroup().forEachAppGroup(2, 0, groupId -> groupIds.add(groupId.getGroupId()));
+		// 已回调过元素的请求读取失败时不再重试，避免重复回调
+		assertFalse(res.isSuccess());
+		assertEquals(Collections.singletonList("g1"), groupIds);
+		assertEquals(1, requests.get());
+	}
+
+}
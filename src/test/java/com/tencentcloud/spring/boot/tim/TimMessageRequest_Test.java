@@ -0,0 +1,95 @@
+package com.tencentcloud.spring.boot.tim;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import com.tencentcloud.spring.boot.TencentTimProperties;
+import com.tencentcloud.spring.boot.tim.req.message.MsgBody;
+
+import okhttp3.OkHttpClient;
+
+public class TimMessageRequest_Test {
+
+	ObjectMapper objectMapper = new ObjectMapper();
+	List<Map<?, ?>> requests = new CopyOnWriteArrayList<>();
+	HttpServer server;
+	TencentTimTemplate template;
+	MsgBody msgBody = new MsgBody();
+
+	@BeforeEach
+	public void setup() throws Exception {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/", exchange -> {
+			requests.add(objectMapper.readValue(exchange.getRequestBody(), Map.class));
+			byte[] body = "{\"ActionStatus\":\"OK\",\"ErrorCode\":0}".getBytes(StandardCharsets.UTF_8);
+			exchange.sendResponseHeaders(200, body.length);
+			try (OutputStream output = exchange.getResponseBody()) {
+				output.write(body);
+			}
+		});
+		server.start();
+
+		TencentTimProperties properties = new TencentTimProperties();
+		properties.setSdkappid(1400000000L);
+		properties.setPrivateKey("5bd2850fff3ecb11d7c805251c51ee463a25727bddc2385f3fa8bfee1bb93b5e");
+		properties.getRouting().setDomains(Collections.singletonList("http://127.0.0.1:" + server.getAddress().getPort()));
+		template = new TencentTimTemplate(properties, new OkHttpClient.Builder().build(), new TimUserIdProvider() {});
+		template.afterPropertiesSet();
+		msgBody.setMsgType("TIMTextElem");
+	}
+
+	@AfterEach
+	public void shutdown() throws Exception {
+		template.destroy();
+		server.stop(0);
+	}
+
+	@Test
+	public void testNullForbidCallbackControl() throws Exception {
+		TencentTimOpenimOperations ops = new TencentTimOpenimOperations(template);
+		List<String> userIds = Arrays.asList("u1", "u2");
+		String[] forbidCallbackControl = null;
+		assertTrue(ops.sendMsg("u1", true, forbidCallbackControl, msgBody).isSuccess());
+		assertTrue(ops.sendMsg("admin", "u1", true, forbidCallbackControl, msgBody).isSuccess());
+		assertTrue(ops.sendMsg(userIds, true, forbidCallbackControl, msgBody).isSuccess());
+		assertTrue(ops.sendMsg("admin", userIds, true, forbidCallbackControl, msgBody).isSuccess());
+		TencentTimOpenimAsyncOperations asyncOps = template.opsForOpenim();
+		MsgBody[] msgBodies = { msgBody };
+		assertTrue(asyncOps.sendAsyncMsg("u1", true, forbidCallbackControl, msgBodies, null).get(1, TimeUnit.SECONDS).isSuccess());
+		assertTrue(asyncOps.sendAsyncMsg("admin", "u1", true, forbidCallbackControl, msgBodies, null).get(1, TimeUnit.SECONDS).isSuccess());
+		assertTrue(asyncOps.sendAsyncMsg(userIds, true, forbidCallbackControl, msgBodies, null).get(1, TimeUnit.SECONDS).isSuccess());
+		assertTrue(asyncOps.sendAsyncMsg("admin", userIds, true, forbidCallbackControl, msgBodies, null).get(1, TimeUnit.SECONDS).isSuccess());
+		// 未指定的可选字段不出现在请求体中
+		assertEquals(8, requests.size());
+		for (Map<?, ?> request : requests) {
+			assertFalse(request.containsKey("ForbidCallbackControl"));
+			assertEquals(1, ((List<?>) request.get("MsgBody")).size());
+		}
+	}
+
+	@Test
+	public void testForbidCallbackControl() {
+		TencentTimOpenimOperations ops = new TencentTimOpenimOperations(template);
+		String[] forbidCallbackControl = { "ForbidBeforeSendMsgCallback" };
+		assertTrue(ops.sendMsg("u1", true, forbidCallbackControl, msgBody).isSuccess());
+		assertEquals(Arrays.asList(forbidCallbackControl), requests.get(0).get("ForbidCallbackControl"));
+	}
+
+}
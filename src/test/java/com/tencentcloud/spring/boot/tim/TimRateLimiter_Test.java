@@ -0,0 +1,124 @@
+package com.tencentcloud.spring.boot.tim;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.tencentcloud.spring.boot.TencentTimProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.OkHttpClient;
+
+public class TimRateLimiter_Test {
+
+	TencentTimProperties.RateLimit rateLimit = new TencentTimProperties.RateLimit();
+
+	@BeforeEach
+	public void setup() {
+		rateLimit.setEnabled(true);
+		rateLimit.setBurstSeconds(1.0d);
+		rateLimit.setMaxWait(Duration.ofSeconds(1));
+		rateLimit.setLimits(Collections.singletonMap(TimApiAddress.SEND_MSG, 10d));
+	}
+
+	@Test
+	public void testRejectMode() throws InterruptedException {
+		rateLimit.setMode(TencentTimProperties.RateLimitMode.REJECT);
+		TimRateLimiter rateLimiter = new TimRateLimiter(rateLimit);
+		// 令牌桶容量为每秒请求数 * burstSeconds
+		for (int i = 0; i < 10; i++) {
+			assertEquals(0, rateLimiter.reserve(TimApiAddress.SEND_MSG));
+		}
+		assertEquals(-1, rateLimiter.reserve(TimApiAddress.SEND_MSG));
+		// 每 100ms 补充一个令牌
+		Thread.sleep(150);
+		assertEquals(0, rateLimiter.reserve(TimApiAddress.SEND_MSG));
+		TimRateLimitStats stats = rateLimiter.getStats().get(TimApiAddress.SEND_MSG);
+		assertEquals(11, stats.getAcquired());
+		assertEquals(1, stats.getThrottled());
+		assertEquals(0, stats.getQueued());
+	}
+
+	@Test
+	public void testQueueMode() {
+		rateLimit.setMode(TencentTimProperties.RateLimitMode.QUEUE);
+		rateLimit.setLimits(Collections.singletonMap(TimApiAddress.SEND_MSG, 2d));
+		TimRateLimiter rateLimiter = new TimRateLimiter(rateLimit);
+		assertEquals(0, rateLimiter.reserve(TimApiAddress.SEND_MSG));
+		assertEquals(0, rateLimiter.reserve(TimApiAddress.SEND_MSG));
+		// 超出容量的请求预支令牌并排队，等待时长依次递增
+		long first = rateLimiter.reserve(TimApiAddress.SEND_MSG);
+		long second = rateLimiter.reserve(TimApiAddress.SEND_MSG);
+		assertTrue(first > 0 && first <= TimeUnit.MILLISECONDS.toNanos(500));
+		assertTrue(second > first && second <= TimeUnit.SECONDS.toNanos(1));
+		// 预计等待超过 maxWait 的请求被拒绝
+		assertEquals(-1, rateLimiter.reserve(TimApiAddress.SEND_MSG));
+		TimRateLimitStats stats = rateLimiter.getStats().get(TimApiAddress.SEND_MSG);
+		assertEquals(4, stats.getAcquired());
+		assertEquals(2, stats.getQueued());
+		assertEquals(1, stats.getThrottled());
+		assertTrue(stats.getAvailablePermits() < 0);
+	}
+
+	@Test
+	public void testDeadline() {
+		rateLimit.setMode(TencentTimProperties.RateLimitMode.QUEUE);
+		rateLimit.setLimits(Collections.singletonMap(TimApiAddress.SEND_MSG, 2d));
+		TimRateLimiter rateLimiter = new TimRateLimiter(rateLimit);
+		assertEquals(0, rateLimiter.reserve(TimApiAddress.SEND_MSG));
+		assertEquals(0, rateLimiter.reserve(TimApiAddress.SEND_MSG));
+		// 截止前无法获得令牌的请求不预支令牌，不影响后续请求的等待时长
+		long remainingNanos = TimeUnit.MILLISECONDS.toNanos(100);
+		for (int i = 0; i < 3; i++) {
+			assertTrue(rateLimiter.reserve(TimApiAddress.SEND_MSG, remainingNanos) >= remainingNanos);
+		}
+		long waitNanos = rateLimiter.reserve(TimApiAddress.SEND_MSG);
+		assertTrue(waitNanos > 0 && waitNanos <= TimeUnit.MILLISECONDS.toNanos(500));
+		TimRateLimitStats stats = rateLimiter.getStats(TimApiAddress.SEND_MSG);
+		assertEquals(3, stats.getAcquired());
+		assertEquals(1, stats.getQueued());
+		assertEquals(0, stats.getThrottled());
+	}
+
+	@Test
+	public void testMetrics() {
+		rateLimit.setMode(TencentTimProperties.RateLimitMode.QUEUE);
+		rateLimit.setLimits(Collections.singletonMap(TimApiAddress.SEND_MSG, 2d));
+		TencentTimProperties properties = new TencentTimProperties();
+		properties.setSdkappid(1400000000L);
+		properties.setPrivateKey("");
+		properties.setRateLimit(rateLimit);
+		TencentTimTemplate template = new TencentTimTemplate(properties, new OkHttpClient.Builder().build(), new TimUserIdProvider() {});
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		new TimTemplateMetrics(template).bindTo(registry);
+		TimRateLimiter rateLimiter = template.getRateLimiter();
+		for (int i = 0; i < 5; i++) {
+			rateLimiter.reserve(TimApiAddress.SEND_MSG);
+		}
+		// 按接口导出排队与被拒绝的请求数，未配置限流的接口不导出
+		assertEquals(2d, registry.get("tim.ratelimit.queued").tag("api", TimApiAddress.SEND_MSG.name()).functionCounter().count());
+		assertEquals(1d, registry.get("tim.ratelimit.throttled").tag("api", TimApiAddress.SEND_MSG.name()).functionCounter().count());
+		assertTrue(registry.get("tim.ratelimit.queued.time").functionCounter().count() > 0);
+		assertTrue(registry.find("tim.ratelimit.throttled").tag("api", TimApiAddress.PORTRAIT_GET.name()).functionCounters().isEmpty());
+	}
+
+	@Test
+	public void testUnlimited() {
+		TimRateLimiter rateLimiter = new TimRateLimiter(rateLimit);
+		assertEquals(0, rateLimiter.reserve(TimApiAddress.PORTRAIT_GET));
+		assertEquals(0, rateLimiter.reserve(null));
+		rateLimit.setEnabled(false);
+		rateLimiter = new TimRateLimiter(rateLimit);
+		for (int i = 0; i < 100; i++) {
+			assertEquals(0, rateLimiter.reserve(TimApiAddress.SEND_MSG));
+		}
+		assertTrue(rateLimiter.getStats().isEmpty());
+	}
+
+}
@@ -0,0 +1,113 @@
+package com.tencentcloud.spring.boot.tim;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.google.common.base.Strings;
+import com.google.common.io.ByteStreams;
+import com.sun.net.httpserver.HttpServer;
+import com.tencentcloud.spring.boot.TencentTimProperties;
+import com.tencentcloud.spring.boot.tim.resp.TimActionResponse;
+
+import okhttp3.OkHttpClient;
+import okio.Buffer;
+
+public class TimRequestCompressor_Test {
+
+	ObjectMapper objectMapper = new ObjectMapper();
+	ObjectWriter objectWriter = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+	@Test
+	public void testThreshold() throws IOException {
+		TencentTimProperties.Compression config = new TencentTimProperties.Compression();
+		TimRequestCompressor compressor = new TimRequestCompressor(config);
+		Map<String, String> small = Collections.singletonMap("To_Account", "test");
+		TimJsonRequestBody requestBody = compressor.requestBody(objectWriter, small);
+		assertFalse(requestBody.isGzipped());
+		assertEquals(objectWriter.writeValueAsString(small), this.written(requestBody).readUtf8());
+		assertEquals(0, compressor.getCompressedRequests());
+		assertEquals(1d, compressor.getCompressionRatio());
+	}
+
+	@Test
+	public void testGzipRoundTrip() throws IOException {
+		TencentTimProperties.Compression config = new TencentTimProperties.Compression();
+		TimRequestCompressor compressor = new TimRequestCompressor(config);
+		Map<String, String> large = Collections.singletonMap("MsgContent", Strings.repeat("hello tim ", 1000));
+		TimJsonRequestBody requestBody = compressor.requestBody(objectWriter, large);
+		assertTrue(requestBody.isGzipped());
+		byte[] json = objectWriter.writeValueAsBytes(large);
+		assertEquals(json.length, requestBody.getOriginalBytes());
+		Buffer written = this.written(requestBody);
+		assertEquals(requestBody.contentLength(), written.size());
+		assertEquals(requestBody.contentLength(), requestBody.getBytesWritten());
+		try (InputStream input = new GZIPInputStream(written.inputStream())) {
+			assertEquals(new String(json, StandardCharsets.UTF_8), new String(ByteStreams.toByteArray(input), StandardCharsets.UTF_8));
+		}
+		assertEquals(1, compressor.getCompressedRequests());
+		assertEquals(json.length, compressor.getOriginalBytes());
+		assertTrue(compressor.getSavedBytes() > 0);
+		assertTrue(compressor.getCompressionRatio() < 0.1d);
+	}
+
+	@Test
+	public void testCompressedRequest() throws Exception {
+		AtomicReference<String> contentEncoding = new AtomicReference<>();
+		AtomicReference<byte[]> received = new AtomicReference<>();
+		HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/", exchange -> {
+			contentEncoding.set(exchange.getRequestHeaders().getFirst("Content-Encoding"));
+			received.set(ByteStreams.toByteArray(exchange.getRequestBody()));
+			byte[] body = "{\"ActionStatus\":\"OK\",\"ErrorCode\":0}".getBytes(StandardCharsets.UTF_8);
+			exchange.sendResponseHeaders(200, body.length);
+			try (OutputStream output = exchange.getResponseBody()) {
+				output.write(body);
+			}
+		});
+		server.start();
+		TencentTimProperties properties = new TencentTimProperties();
+		properties.setSdkappid(1400000000L);
+		properties.setPrivateKey("");
+		properties.getCompression().setEnabled(true);
+		TencentTimTemplate template = new TencentTimTemplate(properties, new OkHttpClient.Builder().build(), new TimUserIdProvider() {});
+		try {
+			template.afterPropertiesSet();
+			Map<String, String> large = Collections.singletonMap("MsgContent", Strings.repeat("hello tim ", 1000));
+			String url = "http://127.0.0.1:" + server.getAddress().getPort() + TimApiAddress.SEND_MSG.getPath();
+			TimActionResponse res = template.requestInvoke(TimApiAddress.SEND_MSG, url, large, TimActionResponse.class);
+			assertTrue(res.isSuccess());
+			assertEquals("gzip", contentEncoding.get());
+			try (InputStream input = new GZIPInputStream(new ByteArrayInputStream(received.get()))) {
+				assertEquals(large, objectMapper.readValue(input, Map.class));
+			}
+			assertEquals(1, template.getCompressor().getCompressedRequests());
+		} finally {
+			template.destroy();
+			server.stop(0);
+		}
+	}
+
+	private Buffer written(TimJsonRequestBody requestBody) throws IOException {
+		Buffer buffer = new Buffer();
+		requestBody.writeTo(buffer);
+		return buffer;
+	}
+
+}
@@ -0,0 +1,120 @@
+package com.tencentcloud.spring.boot.tim;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.tencentcloud.spring.boot.TencentTimProperties;
+import com.tencentcloud.spring.boot.tim.resp.TimActionResponse;
+
+public class TimRetryPolicy_Test {
+
+	TencentTimProperties.Retry retry = new TencentTimProperties.Retry();
+
+	@BeforeEach
+	public void setup() {
+		retry.setEnabled(true);
+		retry.setMaxAttempts(3);
+		retry.setBudgetRatio(0.1d);
+		retry.setBudgetMax(2);
+		retry.setInitialBackoff(Duration.ofMillis(100));
+		retry.setMaxBackoff(Duration.ofMillis(300));
+		retry.setMultiplier(2.0d);
+		retry.setJitter(0d);
+	}
+
+	@Test
+	public void testRetryBudget() {
+		TimRetryPolicy policy = new TimRetryPolicy(retry);
+		IOException error = new SocketTimeoutException("timeout");
+		assertEquals(2, policy.getRemainingBudget());
+		assertTrue(policy.shouldRetry(TimApiAddress.PORTRAIT_GET, 1, null, 0, error));
+		assertTrue(policy.shouldRetry(TimApiAddress.PORTRAIT_GET, 1, null, 0, error));
+		// 预算耗尽后不再重试
+		assertFalse(policy.shouldRetry(TimApiAddress.PORTRAIT_GET, 1, null, 0, error));
+		assertEquals(0, policy.getRemainingBudget());
+		// 每个首次请求积累 0.1 次重试
+		for (int i = 0; i < 9; i++) {
+			policy.onRequest();
+		}
+		assertFalse(policy.shouldRetry(TimApiAddress.PORTRAIT_GET, 1, null, 0, error));
+		policy.onRequest();
+		assertTrue(policy.shouldRetry(TimApiAddress.PORTRAIT_GET, 1, null, 0, error));
+		// 预算不超过上限
+		for (int i = 0; i < 100; i++) {
+			policy.onRequest();
+		}
+		assertEquals(2, policy.getRemainingBudget());
+	}
+
+	@Test
+	public void testMaxAttemptsAndExcludes() {
+		TimRetryPolicy policy = new TimRetryPolicy(retry);
+		IOException error = new SocketTimeoutException("timeout");
+		assertFalse(policy.shouldRetry(TimApiAddress.PORTRAIT_GET, 3, null, 0, error));
+		retry.getExcludes().add(TimApiAddress.PORTRAIT_GET);
+		assertFalse(policy.shouldRetry(TimApiAddress.PORTRAIT_GET, 1, null, 0, error));
+		assertEquals(2, policy.getRemainingBudget());
+		retry.setEnabled(false);
+		assertFalse(policy.shouldRetry(TimApiAddress.GET_GROUP_INFO, 1, null, 0, error));
+	}
+
+	@Test
+	public void testRetryable() {
+		TimRetryPolicy policy = new TimRetryPolicy(retry);
+		assertTrue(policy.isRetryable(null, 0, new SocketTimeoutException("timeout")));
+		assertFalse(policy.isRetryable(null, 0, new JsonParseException(null, "malformed")));
+		assertFalse(policy.isRetryable(null, 0, new IllegalStateException()));
+		assertTrue(policy.isRetryable(null, 429, null));
+		assertTrue(policy.isRetryable(null, 503, null));
+		assertFalse(policy.isRetryable(null, 400, null));
+		assertTrue(policy.isRetryable(this.response("FAIL", 70169), 200, null));
+		assertFalse(policy.isRetryable(this.response("FAIL", 70107), 200, null));
+		assertFalse(policy.isRetryable(this.response("OK", 0), 200, null));
+	}
+
+	@Test
+	public void testNonIdempotent() {
+		retry.setBudgetMax(100);
+		TimRetryPolicy policy = new TimRetryPolicy(retry);
+		// 请求可能已被处理，不重试
+		assertFalse(policy.shouldRetry(TimApiAddress.SEND_MSG, 1, null, 0, new SocketTimeoutException("timeout")));
+		assertFalse(policy.shouldRetry(TimApiAddress.SEND_GROUP_MSG, 1, null, 503, null));
+		// 确定未被处理，可以重试
+		assertTrue(policy.shouldRetry(TimApiAddress.SEND_MSG, 1, null, 0, new ConnectException("refused")));
+		assertTrue(policy.shouldRetry(TimApiAddress.SEND_MSG, 1, null, 429, null));
+		assertTrue(policy.shouldRetry(TimApiAddress.SEND_MSG, 1, this.response("FAIL", 70169), 200, null));
+		// 幂等接口不受影响
+		assertTrue(policy.shouldRetry(TimApiAddress.PORTRAIT_GET, 1, null, 503, null));
+	}
+
+	@Test
+	public void testBackoff() {
+		TimRetryPolicy policy = new TimRetryPolicy(retry);
+		assertEquals(100, policy.getBackoffMillis(1));
+		assertEquals(200, policy.getBackoffMillis(2));
+		assertEquals(300, policy.getBackoffMillis(3));
+		retry.setJitter(0.5d);
+		for (int i = 0; i < 100; i++) {
+			long backoff = policy.getBackoffMillis(2);
+			assertTrue(backoff >= 100 && backoff <= 200);
+		}
+	}
+
+	private TimActionResponse response(String actionStatus, int errorCode) {
+		TimActionResponse res = new TimActionResponse();
+		res.setActionStatus(actionStatus);
+		res.setErrorCode(errorCode);
+		return res;
+	}
+
+}